@@ -1,5 +1,7 @@
 package com.ohgiraffers.refrigegobackend.ai.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.refrigegobackend.config.AiServerHttpTransport;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
@@ -9,9 +11,12 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * AI 서버와의 통신을 담당하는 클라이언트 (레시피 추천용)
@@ -20,23 +25,35 @@ import java.util.Map;
 @Slf4j
 public class AiRecommendationClient {
 
+    // 파싱 실패 시 경고 로그에 남길 원시 응답 최대 길이
+    private static final int RAW_BODY_LOG_LIMIT = 2000;
+
     private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final AiServerHealthMonitor aiServerHealthMonitor;
     private final String aiServerBaseUrl;
-    private final String healthEndpoint;
     private final String recipesEndpoint;
+    private final double rawBodySampleRate;
 
-    public AiRecommendationClient(RestTemplate restTemplate, 
+    public AiRecommendationClient(AiServerHttpTransport aiServerHttpTransport,
+                         ObjectMapper objectMapper,
+                         AiServerHealthMonitor aiServerHealthMonitor,
                          @Value("${ai.server.base-url:http://localhost:8000}") String aiServerBaseUrl,
-                         @Value("${ai.server.endpoints.backend-health:/health}") String healthEndpoint,
-                         @Value("${ai.server.endpoints.backend-recipes:/api/recommend/by-ingredients}") String recipesEndpoint) {
-        this.restTemplate = restTemplate;
+                         @Value("${ai.server.endpoints.backend-recipes:/api/recommend/by-ingredients}") String recipesEndpoint,
+                         @Value("${ai.server.debug.raw-body-sample-rate:0.01}") double rawBodySampleRate) {
+        this.restTemplate = aiServerHttpTransport.getRecommendation();
+        this.objectMapper = objectMapper;
+        this.aiServerHealthMonitor = aiServerHealthMonitor;
         this.aiServerBaseUrl = aiServerBaseUrl;
-        this.healthEndpoint = healthEndpoint;
         this.recipesEndpoint = recipesEndpoint;
+        this.rawBodySampleRate = rawBodySampleRate;
     }
 
     /**
      * AI 서버에 레시피 추천 요청
+     * - 응답 본문을 바이트로 한 번만 받아 그 버퍼에서 역직렬화 (AI 서버 추론은 요청당 한 번)
+     * - 원시 응답은 DEBUG 로그에서 일부 요청만 표본으로 기록 (ai.server.debug.raw-body-sample-rate),
+     *   역직렬화에 실패하면 항상 경고 로그에 남김
      * 
      * @param userId 사용자 ID
      * @param selectedIngredients 선택된 재료 목록
@@ -70,26 +87,20 @@ public class AiRecommendationClient {
             log.info("AI 서버 요청 URL: {}", url);
             log.info("AI 서버 요청 데이터: {}", requestData);
 
-            // 원시 응답을 문자열로 받아서 로그 출력
-            ResponseEntity<String> rawResponse = restTemplate.exchange(
+            ResponseEntity<byte[]> response = restTemplate.exchange(
                 url,
                 HttpMethod.POST,
                 requestEntity,
-                String.class
-            );
-            
-            log.info("AI 서버 원시 JSON 응답: {}", rawResponse.getBody());
-            
-            // 이제 정상적으로 파싱
-            ResponseEntity<AiRecommendationResponse> response = restTemplate.exchange(
-                url,
-                HttpMethod.POST,
-                requestEntity,
-                AiRecommendationResponse.class
+                byte[].class
             );
+            aiServerHealthMonitor.recordSuccess();
 
-            AiRecommendationResponse responseBody = response.getBody();
-            log.info("AI 서버 원시 응답: {}", responseBody);
+            byte[] rawBody = response.getBody();
+            if (log.isDebugEnabled() && ThreadLocalRandom.current().nextDouble() < rawBodySampleRate) {
+                log.debug("AI 서버 원시 JSON 응답 (표본): {}", toLogString(rawBody, Integer.MAX_VALUE));
+            }
+
+            AiRecommendationResponse responseBody = parseResponse(rawBody);
             log.info("AI 서버 응답 수신 - 상태: {}, 추천 개수: {}", 
                     response.getStatusCode(), 
                     responseBody != null && responseBody.getTotal() != null ? responseBody.getTotal() : "null");
@@ -97,16 +108,19 @@ public class AiRecommendationClient {
             return responseBody;
 
         } catch (HttpClientErrorException e) {
+            aiServerHealthMonitor.recordSuccess();
             log.error("AI 서버 클라이언트 오류 (4xx): 상태={}, 응답={}", 
                     e.getStatusCode(), e.getResponseBodyAsString());
             throw new RuntimeException("AI 서버 요청 오류: " + e.getMessage(), e);
             
         } catch (HttpServerErrorException e) {
+            aiServerHealthMonitor.recordFailure();
             log.error("AI 서버 서버 오류 (5xx): 상태={}, 응답={}", 
                     e.getStatusCode(), e.getResponseBodyAsString());
             throw new RuntimeException("AI 서버 내부 오류: " + e.getMessage(), e);
             
         } catch (ResourceAccessException e) {
+            aiServerHealthMonitor.recordFailure();
             log.error("AI 서버 연결 오류: {}", e.getMessage());
             throw new RuntimeException("AI 서버에 연결할 수 없습니다: " + e.getMessage(), e);
             
@@ -117,26 +131,25 @@ public class AiRecommendationClient {
     }
 
     /**
-     * AI 서버 헬스체크
-     * 
-     * @return 연결 상태
+     * 응답 버퍼 역직렬화 (본문이 없으면 null)
      */
-    public boolean isAiServerHealthy() {
+    private AiRecommendationResponse parseResponse(byte[] rawBody) throws IOException {
+        if (rawBody == null || rawBody.length == 0) {
+            return null;
+        }
         try {
-            String url = aiServerBaseUrl + healthEndpoint;
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-            
-            Map<String, Object> healthData = response.getBody();
-            String status = healthData != null ? (String) healthData.get("status") : "unknown";
-            
-            boolean isHealthy = "healthy".equals(status);
-            log.info("AI 서버 헬스체크 - URL: {}, 상태: {}, 건강함: {}", url, status, isHealthy);
-            
-            return isHealthy;
-            
-        } catch (Exception e) {
-            log.warn("AI 서버 헬스체크 실패: {}", e.getMessage());
-            return false;
+            return objectMapper.readValue(rawBody, AiRecommendationResponse.class);
+        } catch (IOException e) {
+            log.warn("AI 서버 응답 파싱 실패 - 원시 응답: {}", toLogString(rawBody, RAW_BODY_LOG_LIMIT));
+            throw e;
+        }
+    }
+
+    private static String toLogString(byte[] rawBody, int limit) {
+        if (rawBody == null) {
+            return "null";
         }
+        String body = new String(rawBody, StandardCharsets.UTF_8);
+        return body.length() > limit ? body.substring(0, limit) + "...(" + rawBody.length + " bytes)" : body;
     }
 }
@@ -0,0 +1,131 @@
+package com.ohgiraffers.refrigegobackend.ai.client;
+
+import com.ohgiraffers.refrigegobackend.common.util.CircuitBreaker;
+import com.ohgiraffers.refrigegobackend.config.AiServerHttpTransport;
+import com.ohgiraffers.refrigegobackend.config.AiServerProperties;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 서버 상태 감시 (검색 / 레시피 추천 공용)
+ * - 요청마다 GET /health를 보내지 않고, 주기적으로 헬스체크하면서 실제 호출 결과로 회로 차단기를 갱신
+ * - 요청 경로는 allowRequest()로 차단 여부만 확인하고, 호출 후 recordSuccess()/recordFailure()로 결과를 기록
+ * - 헬스체크 실패는 호출 실패와 같이 집계되어 요청이 없어도 차단되며, OPEN 중 헬스체크가 성공하면 HALF_OPEN으로 전환
+ * - 헬스체크 대상은 검색이 실제로 호출하는 ai-server.base-url + ai-server.endpoints.health
+ *   (레시피 추천의 ai.server.base-url도 같은 서버를 가리킨다고 보고 차단기를 공유, 다르면 시작 시 경고)
+ */
+@Slf4j
+@Component
+public class AiServerHealthMonitor {
+
+    private final RestTemplate probeRestTemplate;
+    private final String healthUrl;
+    private final CircuitBreaker circuitBreaker;
+
+    private final LongAdder probeCount = new LongAdder();
+    private final LongAdder probeFailureCount = new LongAdder();
+    private volatile boolean lastProbeHealthy;
+    private volatile LocalDateTime lastProbeAt;
+
+    public AiServerHealthMonitor(AiServerHttpTransport aiServerHttpTransport,
+                                 AiServerProperties aiServerProperties,
+                                 @Value("${ai.server.base-url:http://localhost:8000}") String recommendationBaseUrl,
+                                 @Value("${ai.server.breaker.failure-threshold:3}") int failureThreshold,
+                                 @Value("${ai.server.breaker.open-ms:15000}") long openMillis) {
+        // 헬스체크가 스케줄러 스레드를 오래 붙잡지 않도록 응답 대기 시간이 짧은 헬스체크용 RestTemplate 사용
+        this.probeRestTemplate = aiServerHttpTransport.getHealth();
+        this.healthUrl = aiServerProperties.getBaseUrl() + aiServerProperties.getEndpoints().getHealth();
+        if (!aiServerProperties.getBaseUrl().equals(recommendationBaseUrl)) {
+            log.warn("검색(ai-server.base-url: {})과 레시피 추천(ai.server.base-url: {})의 AI 서버 주소가 다릅니다. "
+                    + "헬스체크는 검색 서버만 확인합니다.", aiServerProperties.getBaseUrl(), recommendationBaseUrl);
+        }
+        this.circuitBreaker = new CircuitBreaker("ai-server", failureThreshold, openMillis);
+    }
+
+    /**
+     * 주기적 헬스체크 (기본 5초 간격)
+     */
+    @Scheduled(initialDelayString = "${ai.server.health.initial-delay-ms:1000}",
+               fixedDelayString = "${ai.server.health.interval-ms:5000}")
+    public void probe() {
+        probeCount.increment();
+        lastProbeAt = LocalDateTime.now();
+        boolean healthy;
+        try {
+            Map<?, ?> healthData = probeRestTemplate.getForObject(healthUrl, Map.class);
+            healthy = healthData != null && "healthy".equals(healthData.get("status"));
+        } catch (Exception e) {
+            log.debug("AI 서버 헬스체크 실패 - URL: {}, 오류: {}", healthUrl, e.getMessage());
+            healthy = false;
+        }
+
+        if (healthy != lastProbeHealthy) {
+            log.info("AI 서버 헬스체크 상태 변경 - URL: {}, 정상: {}", healthUrl, healthy);
+        }
+        lastProbeHealthy = healthy;
+        if (healthy) {
+            circuitBreaker.recordProbeSuccess();
+        } else {
+            probeFailureCount.increment();
+            circuitBreaker.recordFailure();
+        }
+    }
+
+    /**
+     * AI 서버 호출 허용 여부 (네트워크 호출 없음)
+     */
+    public boolean allowRequest() {
+        return circuitBreaker.allowRequest();
+    }
+
+    /**
+     * AI 서버 응답 수신 (4xx 포함, 서버가 응답했으면 성공으로 기록)
+     */
+    public void recordSuccess() {
+        circuitBreaker.recordSuccess();
+    }
+
+    /**
+     * AI 서버 연결 실패 / 시간 초과 / 5xx
+     */
+    public void recordFailure() {
+        circuitBreaker.recordFailure();
+    }
+
+    /**
+     * 상태 표시용 사용 가능 여부 (시험 호출을 차지하지 않음)
+     */
+    public boolean isAvailable() {
+        return circuitBreaker.isAvailable();
+    }
+
+    /**
+     * 누적 통계 스냅샷
+     */
+    public Stats getStats() {
+        return new Stats(circuitBreaker.getStats(), lastProbeHealthy, lastProbeAt,
+                probeCount.sum(), probeFailureCount.sum());
+    }
+
+    /**
+     * AI 서버 상태 감시 통계
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Stats {
+        private final CircuitBreaker.Stats breaker;
+        private final boolean lastProbeHealthy;
+        private final LocalDateTime lastProbeAt;
+        private final long probeCount;
+        private final long probeFailureCount;
+    }
+}
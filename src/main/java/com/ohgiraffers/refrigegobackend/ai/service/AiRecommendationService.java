@@ -3,16 +3,20 @@ package com.ohgiraffers.refrigegobackend.ai.service;
 import com.ohgiraffers.refrigegobackend.ai.client.AiRecommendationResponse;
 import com.ohgiraffers.refrigegobackend.ai.client.AiRecommendedRecipe;
 import com.ohgiraffers.refrigegobackend.ai.client.AiRecommendationClient;
-import com.ohgiraffers.refrigegobackend.recipe.domain.Recipe;
-import com.ohgiraffers.refrigegobackend.recipe.infrastructure.repository.RecipeRepository;
+import com.ohgiraffers.refrigegobackend.ai.client.AiServerHealthMonitor;
+import com.ohgiraffers.refrigegobackend.recipe.dto.response.RecipeSummaryDTO;
+import com.ohgiraffers.refrigegobackend.recipe.service.RecipeSummaryService;
 import com.ohgiraffers.refrigegobackend.recommendation.dto.RecipeRecommendationRequestDto;
 import com.ohgiraffers.refrigegobackend.recommendation.dto.RecipeRecommendationResponseDto;
 import com.ohgiraffers.refrigegobackend.recommendation.dto.RecommendedRecipeDto;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.cache.RecommendationCacheKey;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.cache.RecommendationResponseCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -25,10 +29,14 @@ import java.util.stream.Collectors;
 public class AiRecommendationService {
 
     private final AiRecommendationClient aiRecommendationClient;
-    private final RecipeRepository recipeRepository;
+    private final AiServerHealthMonitor aiServerHealthMonitor;
+    private final RecipeSummaryService recipeSummaryService;
+    private final RecommendationResponseCache recommendationResponseCache;
 
     /**
      * AI 서버를 통한 레시피 추천
+     * - 같은 재료 조합 + 개수의 최근 AI 결과가 있으면 AI 서버를 호출하지 않고 재사용
+     * - 대체 응답(AI 서버 장애)은 캐시하지 않음
      * 
      * @param requestDto 추천 요청 정보
      * @return AI 기반 추천 결과
@@ -38,32 +46,21 @@ public class AiRecommendationService {
                 requestDto.getUserId(), requestDto.getSelectedIngredients());
 
         try {
-            // 1. AI 서버 헬스체크
-            if (!aiRecommendationClient.isAiServerHealthy()) {
+            // 0. 같은 재료 조합의 최근 AI 결과 재사용
+            RecommendationCacheKey cacheKey = recommendationResponseCache.resolveKey(
+                requestDto.getSelectedIngredients(), requestDto.getLimit());
+            RecipeRecommendationResponseDto cached = findCachedResponse(cacheKey, requestDto);
+            if (cached != null) {
+                return cached;
+            }
+
+            // 1. AI 서버 차단 여부 확인 (헬스체크는 AiServerHealthMonitor가 주기적으로 수행)
+            if (!aiServerHealthMonitor.allowRequest()) {
                 log.warn("AI 서버가 사용 불가능합니다. 대체 로직으로 처리합니다.");
                 return createFallbackResponse(requestDto);
             }
 
-            // 2. AI 서버에 추천 요청
-            AiRecommendationResponse aiResponse = aiRecommendationClient.requestRecipeRecommendation(
-                requestDto.getUserId(),
-                requestDto.getSelectedIngredients(),
-                requestDto.getLimit()
-            );
-
-            // 3. AI 응답을 백엔드 응답 형식으로 변환
-            List<RecommendedRecipeDto> recommendedRecipes = convertAiResponseToBackendResponse(aiResponse);
-
-            // 4. 레시피 상세 정보를 DB에서 보완
-            enrichRecipeDetails(recommendedRecipes);
-
-            log.info("AI 기반 레시피 추천 완료 - 추천된 레시피 수: {}", recommendedRecipes.size());
-
-            return new RecipeRecommendationResponseDto(
-                recommendedRecipes,
-                recommendedRecipes.size(),
-                requestDto.getSelectedIngredients()
-            );
+            return callAiServer(cacheKey, requestDto);
 
         } catch (Exception e) {
             log.error("AI 기반 레시피 추천 중 오류 발생: ", e);
@@ -72,6 +69,68 @@ public class AiRecommendationService {
         }
     }
 
+    /**
+     * AI 서버 추천 요청 (대체 응답 없음)
+     * - 로컬 추천과 동시에 실행하는 경우처럼 호출 측에서 시간 제한/대체 처리를 하는 용도
+     * - AI 서버 오류와 회로 차단은 예외로 전달
+     *
+     * @param requestDto 추천 요청 정보
+     * @return AI 기반 추천 결과
+     */
+    public RecipeRecommendationResponseDto requestAiRecommendations(RecipeRecommendationRequestDto requestDto) {
+        RecommendationCacheKey cacheKey = recommendationResponseCache.resolveKey(
+            requestDto.getSelectedIngredients(), requestDto.getLimit());
+        RecipeRecommendationResponseDto cached = findCachedResponse(cacheKey, requestDto);
+        if (cached != null) {
+            return cached;
+        }
+        if (!aiServerHealthMonitor.allowRequest()) {
+            throw new IllegalStateException("AI 서버 회로 차단 중");
+        }
+        return callAiServer(cacheKey, requestDto);
+    }
+
+    private RecipeRecommendationResponseDto findCachedResponse(RecommendationCacheKey cacheKey,
+                                                               RecipeRecommendationRequestDto requestDto) {
+        List<RecommendedRecipeDto> cached = recommendationResponseCache.getAi(cacheKey);
+        if (cached == null) {
+            return null;
+        }
+        log.info("AI 추천 캐시 적중 - 추천된 레시피 수: {}", cached.size());
+        return new RecipeRecommendationResponseDto(
+            cached,
+            cached.size(),
+            requestDto.getSelectedIngredients()
+        );
+    }
+
+    private RecipeRecommendationResponseDto callAiServer(RecommendationCacheKey cacheKey,
+                                                         RecipeRecommendationRequestDto requestDto) {
+        // 2. AI 서버에 추천 요청
+        AiRecommendationResponse aiResponse = aiRecommendationClient.requestRecipeRecommendation(
+            requestDto.getUserId(),
+            requestDto.getSelectedIngredients(),
+            requestDto.getLimit()
+        );
+
+        // 3. AI 응답을 백엔드 응답 형식으로 변환
+        List<RecommendedRecipeDto> recommendedRecipes = convertAiResponseToBackendResponse(aiResponse);
+
+        // 4. 레시피 상세 정보를 DB에서 보완
+        enrichRecipeDetails(recommendedRecipes);
+        if (aiResponse != null && aiResponse.getRecipes() != null) {
+            recommendationResponseCache.putAi(cacheKey, recommendedRecipes);
+        }
+
+        log.info("AI 기반 레시피 추천 완료 - 추천된 레시피 수: {}", recommendedRecipes.size());
+
+        return new RecipeRecommendationResponseDto(
+            recommendedRecipes,
+            recommendedRecipes.size(),
+            requestDto.getSelectedIngredients()
+        );
+    }
+
     /**
      * AI 응답을 백엔드 응답 형식으로 변환
      */
@@ -108,18 +167,29 @@ public class AiRecommendationService {
                 .matchedIngredients(aiRecipe.getMatchedIngredients() != null ? aiRecipe.getMatchedIngredients() : List.of())
                 .missingIngredients(aiRecipe.getMissingIngredients() != null ? aiRecipe.getMissingIngredients() : List.of())
                 .matchScore(aiRecipe.getScore() != null ? aiRecipe.getScore() : 0.0)
-                .isFavorite(false) // TODO: 북마크 서비스와 연동
+                .isFavorite(false) // 찜 여부는 사용자별로 응답 직전에 표시 (AI 캐시에는 사용자와 무관한 결과만 저장)
                 .build();
     }
 
     /**
      * DB에서 레시피 상세 정보를 보완
+     * - 추천된 레시피 ID를 모아 요약 정보를 한 번에 조회
      */
     private void enrichRecipeDetails(List<RecommendedRecipeDto> recommendedRecipes) {
+        Map<String, RecipeSummaryDTO> summaries;
+        try {
+            summaries = recipeSummaryService.getSummaries(recommendedRecipes.stream()
+                    .map(RecommendedRecipeDto::getRecipeId)
+                    .collect(Collectors.toList()));
+        } catch (Exception e) {
+            log.warn("레시피 상세 정보 보완 실패 - 오류: {}", e.getMessage());
+            return;
+        }
+
         for (int i = 0; i < recommendedRecipes.size(); i++) {
             RecommendedRecipeDto recipe = recommendedRecipes.get(i);
             try {
-                Recipe dbRecipe = recipeRepository.findById(recipe.getRecipeId()).orElse(null);
+                RecipeSummaryDTO dbRecipe = summaries.get(recipe.getRecipeId());
                 if (dbRecipe != null) {
                     // AI 서버 응답에 누락된 정보를 DB에서 보완하여 새로운 객체 생성
                     RecommendedRecipeDto enrichedRecipe = RecommendedRecipeDto.builder()
@@ -164,9 +234,9 @@ public class AiRecommendationService {
     }
 
     /**
-     * AI 서버 연결 상태 확인
+     * AI 서버 연결 상태 확인 (최근 헬스체크와 호출 결과 기준, 네트워크 호출 없음)
      */
     public boolean isAiServerAvailable() {
-        return aiRecommendationClient.isAiServerHealthy();
+        return aiServerHealthMonitor.isAvailable();
     }
 }
@@ -7,7 +7,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "recipe_bookmarks")
+// 찜 여부 확인 / 찜한 레시피 제외(NOT EXISTS)가 인덱스 탐색으로 끝나도록 (사용자, 레시피) 복합 인덱스
+// (인덱스는 V4__add_recipe_bookmarks_user_recipe_index.sql 마이그레이션으로 생성, 여기 선언은 스키마 문서용)
+@Table(name = "recipe_bookmarks",
+        indexes = @Index(name = "idx_recipe_bookmarks_user_recipe", columnList = "user_id, recipe_id"))
 public class Bookmark {
 
     @Id
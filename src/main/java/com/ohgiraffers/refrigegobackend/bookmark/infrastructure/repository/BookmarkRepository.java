@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,10 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     @Query("SELECT l.recipe.rcpSeq FROM Bookmark l WHERE l.user.id = :userId")
     List<String> findRecipeIdsByUserId(@Param("userId") Long userId);
 
+    // 여러 유저의 찜한 레시피 ID 일괄 조회 → [유저 ID, 레시피 ID]
+    @Query("SELECT l.user.id, l.recipe.rcpSeq FROM Bookmark l WHERE l.user.id IN :userIds")
+    List<Object[]> findRecipeIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
     @Query("SELECT b.recipe FROM Bookmark b WHERE b.user.id = :userId")
     List<Recipe> findRecipesByUserId(@Param("userId") Long userId);
 
@@ -9,6 +9,8 @@ import com.ohgiraffers.refrigegobackend.ingredient.domain.UserIngredient;
 import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.UserIngredientRepository;
 import com.ohgiraffers.refrigegobackend.recipe.domain.Recipe;
 import com.ohgiraffers.refrigegobackend.recipe.infrastructure.repository.RecipeRepository;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.RecipeIngredientIndex;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.RecipeIngredientMatrix;
 import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository.RecipeIngredientRepository;
 import com.ohgiraffers.refrigegobackend.user.entity.User;
 import com.ohgiraffers.refrigegobackend.user.repository.UserRepository;
@@ -31,18 +33,21 @@ public class BookmarkService {
     private final RecipeRepository recipeRepository;
     private final UserIngredientRepository userIngredientRepository;
     private final RecipeIngredientRepository recipeIngredientRepository;
+    private final RecipeIngredientIndex recipeIngredientIndex;
 
     @Autowired
     public BookmarkService(UserRepository userRepository,
                            BookmarkRepository bookmarkRepository,
                            RecipeRepository recipeRepository,
                            UserIngredientRepository userIngredientRepository,
-                           RecipeIngredientRepository recipeIngredientRepository) {
+                           RecipeIngredientRepository recipeIngredientRepository,
+                           RecipeIngredientIndex recipeIngredientIndex) {
         this.userRepository = userRepository;
         this.bookmarkRepository = bookmarkRepository;
         this.recipeRepository = recipeRepository;
         this.userIngredientRepository = userIngredientRepository;
         this.recipeIngredientRepository = recipeIngredientRepository;
+        this.recipeIngredientIndex = recipeIngredientIndex;
     }
 
 
@@ -101,38 +106,22 @@ public class BookmarkService {
     /**
      사용자 맞춤 레시피 추천
      * - 찜한 레시피와 요리 타입이 같은 전체 레시피 목록 조회 (ex. 반찬, 후식...)
+     * - 찜한 레시피의 요리 종류 조회와 찜한 레시피 제외를 쿼리 한 번으로 처리 (찜 목록을 애플리케이션으로 가져오지 않음)
      * @param username
      */
     public List<CuisineTypeRecipeResponseDTO> getRecommendedRecipesByBookmarked(String username) {
         User user = userRepository.findByUsernameAndDeletedFalse(username);
 
-        // 1. 유저가 찜한 레시피 ID 목록 (Set으로 변환)
-        List<String> bookmarkedRecipeIdsList = bookmarkRepository.findRecipeIdsByUserId(user.getId());
-        if (bookmarkedRecipeIdsList.isEmpty()) return Collections.emptyList();
-
-        Set<String> bookmarkedRecipeIds = new HashSet<>(bookmarkedRecipeIdsList);
-
-        // 2. 찜한 레시피들의 요리 종류 가져오기
-        List<Recipe> likedRecipes = recipeRepository.findAllById(bookmarkedRecipeIdsList);
-        List<String> cuisineTypes = likedRecipes.stream()
-                .map(Recipe::getCuisineType)
-                .filter(Objects::nonNull)
-                .distinct()
-                .collect(Collectors.toList());
-        if (cuisineTypes.isEmpty()) return Collections.emptyList();
-
-        // 3. 찜하지 않은 같은 요리 종류 레시피 조회
-        List<Recipe> recommendedRecipes = recipeRepository.findByCuisineTypeInAndRcpSeqNotIn(cuisineTypes, bookmarkedRecipeIdsList);
-
-        // 4. DTO 변환
-        return recommendedRecipes.stream()
-                .map(recipe -> new CuisineTypeRecipeResponseDTO(recipe, bookmarkedRecipeIds.contains(recipe.getRcpSeq())))
+        // 찜한 레시피는 쿼리에서 제외되므로 찜 여부는 항상 false
+        return recipeRepository.findSameCuisineTypeNotBookmarkedByUserId(user.getId()).stream()
+                .map(recipe -> new CuisineTypeRecipeResponseDTO(recipe, false))
                 .collect(Collectors.toList());
     }
 
 
     /**
      * 보유 중인 식재료로 만들 수 있는 찜한 레시피 조회 (링크 테이블 사용)
+     * - 추천 인덱스가 준비되어 있으면 비트셋 행렬로 판별 (SQL 없음)
      * @param username
      * @return
      */
@@ -174,8 +163,18 @@ public class BookmarkService {
         }
 
         // 링크 테이블을 사용하여 매칭되는 레시피 찾기
-        List<Recipe> matchedRecipes = recipeIngredientRepository.findRecipesByIngredientsAndRecipeIds(
-                fridgeIngredientNames, likedRecipeIds);
+        List<Recipe> matchedRecipes;
+        if (recipeIngredientIndex.isReady()) {
+            RecipeIngredientMatrix matrix = recipeIngredientIndex.getMatrix();
+            long[] fridge = matrix.fridgeOfNames(fridgeIngredientNames);
+            matchedRecipes = likedRecipes.stream()
+                    .filter(recipe -> matrix.matchedCount(recipe.getRcpSeq(), fridge) > 0)
+                    .sorted(Comparator.comparing(Recipe::getRcpNm, Comparator.nullsLast(Comparator.naturalOrder())))
+                    .collect(Collectors.toList());
+        } else {
+            matchedRecipes = recipeIngredientRepository.findRecipesByIngredientsAndRecipeIds(
+                    fridgeIngredientNames, likedRecipeIds);
+        }
 
         log.info("🍳 최종 매칭된 레시피 수 {}", matchedRecipes.size());
 
@@ -0,0 +1,171 @@
+package com.ohgiraffers.refrigegobackend.common.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 크기 제한 + 만료 시간(TTL) 캐시
+ * - 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거 (LRU)
+ * - 저장 후 TTL이 지난 항목은 조회 시점에 제거하고 미스로 처리
+ * - 적중/미스/제거 횟수를 누적해 캐시 효율을 확인할 수 있음
+ * - 모든 연산은 인스턴스 단위로 동기화 (항목 수가 수천 건 이하인 용도를 가정)
+ *
+ * @param <K> 키 타입 (equals/hashCode 구현 필요)
+ * @param <V> 값 타입 (공유되므로 불변 객체 권장)
+ */
+public class BoundedTtlCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long expirationCount;
+
+    /**
+     * @param maxSize 최대 항목 수
+     * @param ttlMillis 항목 유지 시간 (밀리초)
+     */
+    public BoundedTtlCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, System::nanoTime);
+    }
+
+    BoundedTtlCache(int maxSize, long ttlMillis, LongSupplier clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다: " + maxSize);
+        }
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("ttlMillis는 1 이상이어야 합니다: " + ttlMillis);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.clock = clock;
+        // accessOrder=true: 조회할 때마다 맨 뒤로 이동하므로 맨 앞이 가장 오래 사용하지 않은 항목
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedTtlCache.this.maxSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회
+     *
+     * @return 유효한 값, 없거나 만료되었으면 null
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        if (entry.isExpired(clock.getAsLong())) {
+            entries.remove(key);
+            expirationCount++;
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.value;
+    }
+
+    /**
+     * 캐시 저장 (같은 키가 있으면 값과 만료 시각을 교체)
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.getAsLong() + ttlNanos));
+    }
+
+    /**
+     * 항목 하나 삭제
+     */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 만료된 항목 일괄 제거
+     *
+     * @return 제거한 항목 수
+     */
+    public synchronized int purgeExpired() {
+        long now = clock.getAsLong();
+        int removed = 0;
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isExpired(now)) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        expirationCount += removed;
+        return removed;
+    }
+
+    /**
+     * 전체 항목 삭제 (원본 데이터 변경 시)
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 누적 통계 스냅샷
+     */
+    public synchronized Stats getStats() {
+        return new Stats(entries.size(), maxSize, hitCount, missCount, evictionCount, expirationCount);
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAtNanos;
+
+        private Entry(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+
+    /**
+     * 캐시 통계
+     * - evictionCount: 최대 개수 초과로 제거된 항목 수
+     * - expirationCount: TTL 만료로 제거된 항목 수
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Stats {
+        private final int size;
+        private final int maxSize;
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long expirationCount;
+
+        public double getHitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 0.0 : (double) hitCount / requests;
+        }
+    }
+}
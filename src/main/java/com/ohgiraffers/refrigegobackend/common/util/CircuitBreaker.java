@@ -0,0 +1,192 @@
+package com.ohgiraffers.refrigegobackend.common.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 서버 호출용 회로 차단기 (CLOSED → OPEN → HALF_OPEN → CLOSED)
+ * - CLOSED: 모든 호출 허용, 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN: 호출 즉시 거절, openMillis가 지나거나 헬스체크가 성공하면 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 한 건만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ * - 시험 호출 결과가 openMillis 안에 기록되지 않으면 유실된 것으로 보고 다음 호출을 시험 호출로 허용
+ * - CLOSED 상태의 allowRequest()는 잠금 없이 판단 (요청 경로 비용 최소화)
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier clock;
+
+    private volatile State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+    private long trialStartedAtNanos;
+
+    private long successCount;
+    private long failureCount;
+    private final LongAdder rejectedCount = new LongAdder();
+    private final Map<String, Long> transitionCounts = new LinkedHashMap<>();
+
+    /**
+     * @param name 로그/통계용 이름
+     * @param failureThreshold OPEN으로 전환할 연속 실패 수
+     * @param openMillis OPEN 유지 시간 (밀리초)
+     */
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this(name, failureThreshold, openMillis, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, long openMillis, LongSupplier clock) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("failureThreshold는 1 이상이어야 합니다: " + failureThreshold);
+        }
+        if (openMillis <= 0) {
+            throw new IllegalArgumentException("openMillis는 1 이상이어야 합니다: " + openMillis);
+        }
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.clock = clock;
+    }
+
+    /**
+     * 호출 허용 여부 (HALF_OPEN에서 true를 받은 호출은 반드시 결과를 기록해야 함)
+     */
+    public boolean allowRequest() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            long now = clock.getAsLong();
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.OPEN) {
+                if (now - openedAtNanos < openNanos) {
+                    rejectedCount.increment();
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN, now);
+            }
+            if (trialInFlight && now - trialStartedAtNanos < openNanos) {
+                rejectedCount.increment();
+                return false;
+            }
+            trialInFlight = true;
+            trialStartedAtNanos = now;
+            return true;
+        }
+    }
+
+    /**
+     * 호출 허용 여부 조회 (상태를 바꾸거나 시험 호출을 차지하지 않음, 상태 표시용)
+     */
+    public synchronized boolean isAvailable() {
+        return state != State.OPEN || clock.getAsLong() - openedAtNanos >= openNanos;
+    }
+
+    /**
+     * 호출 성공 기록 (HALF_OPEN이면 CLOSED로 전환)
+     */
+    public synchronized void recordSuccess() {
+        successCount++;
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+            transitionTo(State.CLOSED, clock.getAsLong());
+        }
+    }
+
+    /**
+     * 호출 실패 기록 (연결 실패, 시간 초과, 5xx 등 서버 상태 문제만 기록)
+     */
+    public synchronized void recordFailure() {
+        failureCount++;
+        consecutiveFailures++;
+        long now = clock.getAsLong();
+        switch (state) {
+            case CLOSED -> {
+                if (consecutiveFailures >= failureThreshold) {
+                    transitionTo(State.OPEN, now);
+                }
+            }
+            case HALF_OPEN -> {
+                trialInFlight = false;
+                transitionTo(State.OPEN, now);
+            }
+            // 이미 OPEN이면 차단 시간을 다시 시작
+            case OPEN -> openedAtNanos = now;
+        }
+    }
+
+    /**
+     * 헬스체크 성공 기록 (OPEN이면 차단 시간을 기다리지 않고 HALF_OPEN으로 전환)
+     * - CLOSED로 되돌리는 것은 실제 호출 성공으로만 판단
+     */
+    public synchronized void recordProbeSuccess() {
+        if (state == State.OPEN) {
+            trialInFlight = false;
+            transitionTo(State.HALF_OPEN, clock.getAsLong());
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private void transitionTo(State next, long now) {
+        State previous = state;
+        transitionCounts.merge(previous + "->" + next, 1L, Long::sum);
+        state = next;
+        if (next == State.OPEN) {
+            openedAtNanos = now;
+            log.warn("회로 차단기 [{}] {} → {} (연속 실패 {}회)", name, previous, next, consecutiveFailures);
+        } else {
+            log.info("회로 차단기 [{}] {} → {}", name, previous, next);
+        }
+    }
+
+    /**
+     * 누적 통계 스냅샷
+     */
+    public synchronized Stats getStats() {
+        return new Stats(name, state, failureThreshold, TimeUnit.NANOSECONDS.toMillis(openNanos),
+                consecutiveFailures, successCount, failureCount, rejectedCount.sum(),
+                new LinkedHashMap<>(transitionCounts));
+    }
+
+    /**
+     * 회로 차단기 통계
+     * - transitions: "이전상태->다음상태"별 전환 횟수
+     * - rejectedCount: 차단되어 호출하지 않은 요청 수
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Stats {
+        private final String name;
+        private final State state;
+        private final int failureThreshold;
+        private final long openMillis;
+        private final int consecutiveFailures;
+        private final long successCount;
+        private final long failureCount;
+        private final long rejectedCount;
+        private final Map<String, Long> transitions;
+    }
+}
@@ -0,0 +1,72 @@
+package com.ohgiraffers.refrigegobackend.common.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 요청 처리 마감 시각
+ * - 요청 진입 시 한 번 만들어 처리 단계마다 넘기고, 반복 작업 중간에 isExpired()로 확인해 남은 작업을 건너뜀
+ * - System.nanoTime 기준이라 시스템 시계 변경에 영향받지 않음
+ * - none()은 마감이 없는 경우 (배치 작업, 내부 호출)
+ */
+public final class Deadline {
+
+    private static final Deadline NONE = new Deadline(0L, System::nanoTime, false);
+
+    private final long deadlineNanos;
+    private final LongSupplier nanoClock;
+    private final boolean bounded;
+
+    private Deadline(long deadlineNanos, LongSupplier nanoClock, boolean bounded) {
+        this.deadlineNanos = deadlineNanos;
+        this.nanoClock = nanoClock;
+        this.bounded = bounded;
+    }
+
+    /**
+     * 마감 없음
+     */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    /**
+     * 지금부터 millis 밀리초 후 마감 (0 이하면 이미 지난 마감)
+     */
+    public static Deadline after(long millis) {
+        return after(millis, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock 나노초 시계 (테스트에서 고정값 주입용)
+     */
+    static Deadline after(long millis, LongSupplier nanoClock) {
+        return new Deadline(nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis)), nanoClock, true);
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    /**
+     * 마감 시각이 지났는지 여부 (마감이 없으면 항상 false)
+     */
+    public boolean isExpired() {
+        return bounded && nanoClock.getAsLong() - deadlineNanos >= 0;
+    }
+
+    /**
+     * 남은 시간 (밀리초, 지났으면 0, 마감이 없으면 Long.MAX_VALUE)
+     */
+    public long remainingMillis() {
+        if (!bounded) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - nanoClock.getAsLong()));
+    }
+
+    @Override
+    public String toString() {
+        return bounded ? "Deadline{remaining=" + remainingMillis() + "ms}" : "Deadline{none}";
+    }
+}
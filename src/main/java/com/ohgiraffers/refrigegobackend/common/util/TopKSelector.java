@@ -0,0 +1,75 @@
+package com.ohgiraffers.refrigegobackend.common.util;
+
+import java.util.*;
+
+/**
+ * 상위 K개 선택기 (크기 제한 힙)
+ * - 후보를 하나씩 넣으면서 정렬 기준상 가장 좋은 K개만 유지
+ * - 힙의 루트에는 현재 K개 중 가장 나쁜 후보가 있어, 더 나쁜 후보는 바로 버림
+ * - 메모리는 K, 처리 시간은 후보 수 × log K 에 비례 (전체 정렬 불필요)
+ *
+ * @param <T> 후보 타입
+ */
+public class TopKSelector<T> {
+
+    private final int k;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+    private int offeredCount;
+
+    /**
+     * @param k 유지할 최대 개수
+     * @param order 정렬 기준 (앞에 올수록 좋은 후보)
+     */
+    public TopKSelector(int k, Comparator<? super T> order) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k는 0 이상이어야 합니다: " + k);
+        }
+        this.k = k;
+        this.order = order;
+        // 가장 나쁜 후보가 루트에 오도록 역순 힙
+        this.heap = new PriorityQueue<>(Math.max(1, Math.min(k, 64)), order.reversed());
+    }
+
+    /**
+     * 후보 추가
+     *
+     * @return 상위 K개에 포함되었으면 true
+     */
+    public boolean offer(T candidate) {
+        offeredCount++;
+        if (k == 0) {
+            return false;
+        }
+        if (heap.size() < k) {
+            heap.add(candidate);
+            return true;
+        }
+        if (order.compare(candidate, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(candidate);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 지금까지 추가된 후보 수 (버려진 후보 포함)
+     */
+    public int getOfferedCount() {
+        return offeredCount;
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * 선택된 후보를 정렬 기준 순서로 반환
+     */
+    public List<T> toSortedList() {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+}
@@ -0,0 +1,103 @@
+package com.ohgiraffers.refrigegobackend.common.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 가중 저수지 표본 추출기 (A-Res)
+ * - 후보를 한 번씩 넣으면서 k개만 유지하므로, 후보 전체를 목록으로 모으지 않고 가중치에 비례한 무작위 k개 선택
+ * - 후보마다 키 = ln(u) / weight (u는 (0, 1] 균등 난수)를 뽑아 키가 가장 큰 k개를 유지
+ *   (u^(1/weight)와 같은 순서이며, 가중치가 작아도 0으로 뭉개지지 않음)
+ * - 가중치가 모두 같으면 균등 추출과 같음
+ *
+ * @param <T> 후보 타입
+ */
+public class WeightedReservoirSampler<T> {
+
+    private final int k;
+    private final DoubleSupplier uniform;
+    // 키가 가장 작은 후보가 루트
+    private final PriorityQueue<Keyed<T>> heap;
+    private int offeredCount;
+
+    /**
+     * @param k 뽑을 최대 개수
+     */
+    public WeightedReservoirSampler(int k) {
+        this(k, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * @param uniform [0, 1) 균등 난수 (테스트에서 고정값 주입용)
+     */
+    WeightedReservoirSampler(int k, DoubleSupplier uniform) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k는 1 이상이어야 합니다: " + k);
+        }
+        this.k = k;
+        this.uniform = uniform;
+        this.heap = new PriorityQueue<>(Math.min(k, 64), Comparator.comparingDouble(keyed -> keyed.key));
+    }
+
+    /**
+     * 후보 추가 (가중치가 0 이하이거나 NaN이면 선택 대상에서 제외)
+     */
+    public void offer(T candidate, double weight) {
+        if (!(weight > 0)) {
+            return;
+        }
+        offeredCount++;
+
+        double key = Math.log(1.0 - uniform.getAsDouble()) / weight;
+        if (heap.size() < k) {
+            heap.add(new Keyed<>(candidate, key));
+        } else if (key > heap.peek().key) {
+            heap.poll();
+            heap.add(new Keyed<>(candidate, key));
+        }
+    }
+
+    /**
+     * 뽑힌 후보 (키 내림차순)
+     */
+    public List<T> getSampled() {
+        List<Keyed<T>> sorted = new ArrayList<>(heap);
+        sorted.sort(Comparator.comparingDouble((Keyed<T> keyed) -> keyed.key).reversed());
+        List<T> result = new ArrayList<>(sorted.size());
+        for (Keyed<T> keyed : sorted) {
+            result.add(keyed.candidate);
+        }
+        return result;
+    }
+
+    /**
+     * 뽑힌 후보 중 첫 번째 (k = 1로 하나만 뽑을 때)
+     *
+     * @return 후보가 없으면 null
+     */
+    public T getFirst() {
+        List<T> sampled = getSampled();
+        return sampled.isEmpty() ? null : sampled.get(0);
+    }
+
+    /**
+     * 선택 대상으로 넣은 후보 수
+     */
+    public int getOfferedCount() {
+        return offeredCount;
+    }
+
+    private static final class Keyed<T> {
+        private final T candidate;
+        private final double key;
+
+        private Keyed(T candidate, double key) {
+            this.candidate = candidate;
+            this.key = key;
+        }
+    }
+}
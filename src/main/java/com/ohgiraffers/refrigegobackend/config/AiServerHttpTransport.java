@@ -0,0 +1,51 @@
+package com.ohgiraffers.refrigegobackend.config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * AI 서버 공용 HTTP 전송 계층 (검색 / 레시피 추천 / OCR / 헬스체크)
+ * - JDK HttpClient 하나를 공유해 keep-alive 연결을 재사용 (요청마다 TCP 연결을 새로 맺지 않음)
+ *   연결 풀은 HttpClient 인스턴스 단위이며, 유휴 연결 유지 시간은 JVM 옵션 jdk.httpclient.keepalive.timeout으로 조정
+ * - 연결 시간 제한은 공통, 응답 대기 시간은 호출 종류별 RestTemplate로 분리 (ai-server.http.*)
+ * - ai-server.http.http2=true면 HTTP/2 사용 (서버가 지원하지 않으면 HTTP/1.1로 통신)
+ */
+@Slf4j
+@Getter
+@Component
+public class AiServerHttpTransport {
+
+    private final HttpClient httpClient;
+    private final RestTemplate search;
+    private final RestTemplate recommendation;
+    private final RestTemplate ocr;
+    private final RestTemplate health;
+
+    public AiServerHttpTransport(AiServerProperties aiServerProperties) {
+        AiServerProperties.Http http = aiServerProperties.getHttp();
+        this.httpClient = HttpClient.newBuilder()
+                .version(http.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(http.getConnectTimeout()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.search = restTemplate(http.getSearchReadTimeout());
+        this.recommendation = restTemplate(http.getRecommendationReadTimeout());
+        this.ocr = restTemplate(http.getOcrReadTimeout());
+        this.health = restTemplate(http.getHealthReadTimeout());
+        log.info("AI 서버 HTTP 전송 계층 초기화 - 버전: {}, 연결 제한: {}ms, 응답 제한(검색/추천/OCR/헬스체크): {}/{}/{}/{}ms",
+                httpClient.version(), http.getConnectTimeout(), http.getSearchReadTimeout(),
+                http.getRecommendationReadTimeout(), http.getOcrReadTimeout(), http.getHealthReadTimeout());
+    }
+
+    private RestTemplate restTemplate(int readTimeoutMillis) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        return new RestTemplate(requestFactory);
+    }
+}
@@ -12,6 +12,7 @@ public class AiServerProperties {
     private String baseUrl = "http://localhost:8000";
     private int timeout = 30000;
     private Endpoints endpoints = new Endpoints();
+    private Http http = new Http();
     
     @Data
     public static class Endpoints {
@@ -20,5 +21,22 @@ public class AiServerProperties {
         private String recipeSearch = "/api/search/recipes";
         private String ingredientSearch = "/api/search/ingredients";
         private String spellCheck = "/api/spell/spell-check";
+        private String ocr = "/api/v1/ocr/process";
+        private String health = "/health";
+    }
+
+    /**
+     * AI 서버 HTTP 연결 설정 (AiServerHttpTransport)
+     * - 시간 단위는 모두 밀리초
+     * - 응답 대기 시간은 호출 종류별로 따로 지정
+     */
+    @Data
+    public static class Http {
+        private int connectTimeout = 2000;
+        private boolean http2 = false;
+        private int searchReadTimeout = 5000;
+        private int recommendationReadTimeout = 10000;
+        private int ocrReadTimeout = 30000;
+        private int healthReadTimeout = 2000;
     }
 }
@@ -68,6 +68,17 @@ public class UserIngredient {
         return ingredient != null ? ingredient.getName() : customName;
     }
 
+    // 추천 계산용 냉장고 재료명 (커스텀명 우선, 없으면 기준 재료명)
+    public String getFridgeName() {
+        return fridgeNameOf(customName, ingredient != null ? ingredient.getName() : null);
+    }
+
+    // 조회 결과 행(커스텀명, 기준 재료명)에도 같은 규칙을 적용하기 위한 정적 버전
+    public static String fridgeNameOf(String customName, String ingredientName) {
+        String name = customName != null && !customName.trim().isEmpty() ? customName : ingredientName;
+        return name != null ? name.trim() : null;
+    }
+
     // 기준 재료 ID 반환
     public Long getIngredientId() {
         return ingredient != null ? ingredient.getId() : null;
@@ -0,0 +1,44 @@
+package com.ohgiraffers.refrigegobackend.ingredient.event;
+
+import com.ohgiraffers.refrigegobackend.ingredient.domain.UserIngredient;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 냉장고 변경 이벤트
+ * - 재료 추가/수정/삭제/소비가 커밋된 뒤 처리되도록 발행
+ * - 재료는 추천 계산과 같은 규칙의 냉장고 재료명({@link UserIngredient#getFridgeName()})으로 전달
+ * - 같은 재료가 여러 건이면 건수만큼 들어 있음 (한 건 삭제로 보유 여부가 바뀌지 않도록)
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserFridgeChangedEvent {
+
+    private final Long userId;
+
+    // 추가된 재료명
+    private final List<String> addedNames;
+
+    // 제거된 재료명
+    private final List<String> removedNames;
+
+    public static UserFridgeChangedEvent added(Long userId, Collection<UserIngredient> added) {
+        return new UserFridgeChangedEvent(userId, fridgeNamesOf(added), List.of());
+    }
+
+    public static UserFridgeChangedEvent removed(Long userId, Collection<UserIngredient> removed) {
+        return new UserFridgeChangedEvent(userId, List.of(), fridgeNamesOf(removed));
+    }
+
+    private static List<String> fridgeNamesOf(Collection<UserIngredient> userIngredients) {
+        return userIngredients.stream()
+                .map(UserIngredient::getFridgeName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,142 @@
+package com.ohgiraffers.refrigegobackend.ingredient.infrastructure.dictionary;
+
+import java.util.*;
+
+/**
+ * Aho-Corasick 다중 패턴 매처
+ * - 등록한 모든 패턴을 하나의 트라이 + 실패 링크로 컴파일해 두고,
+ *   텍스트를 한 번만 훑어서 포함된 패턴을 모두 찾음
+ * - 결과는 왼쪽부터 가장 긴 패턴 우선, 서로 겹치지 않게 선택
+ *   (ex. "양파"와 "파"가 모두 등록되어 있으면 "양파 1개"에서는 "양파"만 선택)
+ * - 생성 후에는 읽기 전용이라 여러 스레드에서 공유 가능
+ *
+ * @param <V> 패턴에 연결된 값 타입
+ */
+public final class AhoCorasickMatcher<V> {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<V> values = new ArrayList<>();
+    private final List<Integer> lengths = new ArrayList<>();
+    private int[] failure;
+    private int[] output;      // 노드에서 끝나는 패턴 번호 (없으면 NONE)
+    private int[] outputLink;  // 실패 링크를 따라 가장 가까운, 패턴이 끝나는 노드 (없으면 NONE)
+
+    /**
+     * @param patterns 패턴 → 값 (빈 패턴은 무시)
+     */
+    public AhoCorasickMatcher(Map<String, V> patterns) {
+        transitions.add(new HashMap<>());
+        List<Integer> nodeOutput = new ArrayList<>();
+        nodeOutput.add(NONE);
+
+        // 1. 트라이 구성
+        for (Map.Entry<String, V> entry : patterns.entrySet()) {
+            String pattern = entry.getKey();
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = transitions.get(node).get(pattern.charAt(i));
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.get(node).put(pattern.charAt(i), next);
+                    transitions.add(new HashMap<>());
+                    nodeOutput.add(NONE);
+                }
+                node = next;
+            }
+            nodeOutput.set(node, values.size());
+            values.add(entry.getValue());
+            lengths.add(pattern.length());
+        }
+
+        // 2. BFS로 실패 링크 / 출력 링크 계산 (얕은 노드부터 처리되므로 실패 노드 값은 항상 먼저 계산됨)
+        int nodeCount = transitions.size();
+        failure = new int[nodeCount];
+        output = new int[nodeCount];
+        outputLink = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            output[node] = nodeOutput.get(node);
+        }
+        outputLink[ROOT] = NONE;
+
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : transitions.get(ROOT).values()) {
+            failure[child] = ROOT;
+            outputLink[child] = NONE;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(node).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failure[node];
+                Integer target = transitions.get(fallback).get(edge.getKey());
+                while (target == null && fallback != ROOT) {
+                    fallback = failure[fallback];
+                    target = transitions.get(fallback).get(edge.getKey());
+                }
+                failure[child] = target == null ? ROOT : target;
+                outputLink[child] = output[failure[child]] != NONE ? failure[child] : outputLink[failure[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 텍스트에 포함된 패턴의 값을 등장 순서대로 반환
+     * - 왼쪽부터 가장 긴 패턴 우선, 겹치는 짧은 패턴은 제외
+     *
+     * @param text 검색할 텍스트 (대소문자 등 정규화는 호출하는 쪽에서 처리)
+     * @return 매칭된 패턴의 값 목록
+     */
+    public List<V> findAll(String text) {
+        if (text == null || text.isEmpty() || values.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 1. 한 번 훑으면서 끝나는 위치마다 매칭된 모든 패턴 수집 [시작, 끝, 패턴 번호]
+        List<int[]> hits = new ArrayList<>();
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            Integer next = transitions.get(node).get(c);
+            while (next == null && node != ROOT) {
+                node = failure[node];
+                next = transitions.get(node).get(c);
+            }
+            node = next == null ? ROOT : next;
+
+            int matched = output[node] != NONE ? node : outputLink[node];
+            while (matched != NONE) {
+                int pattern = output[matched];
+                hits.add(new int[]{i - lengths.get(pattern) + 1, i, pattern});
+                matched = outputLink[matched];
+            }
+        }
+
+        // 2. 왼쪽부터 가장 긴 매칭 우선으로 겹치지 않게 선택
+        hits.sort(Comparator.<int[]>comparingInt(hit -> hit[0])
+                .thenComparing(hit -> hit[1], Comparator.reverseOrder()));
+        List<V> result = new ArrayList<>();
+        int lastEnd = -1;
+        for (int[] hit : hits) {
+            if (hit[0] > lastEnd) {
+                result.add(values.get(hit[2]));
+                lastEnd = hit[1];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 등록된 패턴 수
+     */
+    public int size() {
+        return values.size();
+    }
+}
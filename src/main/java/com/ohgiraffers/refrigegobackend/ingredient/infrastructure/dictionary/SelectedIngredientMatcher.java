@@ -0,0 +1,76 @@
+package com.ohgiraffers.refrigegobackend.ingredient.infrastructure.dictionary;
+
+import java.util.*;
+
+/**
+ * 사용자가 선택한 재료 기준 레시피 재료 매처
+ * - 선택한 재료를 대표 재료명 → 원래 이름 맵으로 한 번만 정리해 두고,
+ *   레시피 재료 텍스트는 동의어 사전의 Aho-Corasick 매처로 한 번만 훑어서 비교
+ * - 사전에 없는 이름(사용자 직접 입력 등)만 포함 관계로 따로 비교
+ */
+public class SelectedIngredientMatcher {
+
+    private final SynonymDictionary dictionary;
+    private final Map<String, String> selectedByCanonical = new HashMap<>();
+    private final Map<String, String> unknownSelected = new LinkedHashMap<>();
+
+    SelectedIngredientMatcher(SynonymDictionary dictionary, List<String> selectedIngredients) {
+        this.dictionary = dictionary;
+        for (String selected : selectedIngredients) {
+            if (selected == null || selected.trim().isEmpty()) {
+                continue;
+            }
+            if (dictionary.contains(selected)) {
+                selectedByCanonical.putIfAbsent(dictionary.canonicalOf(selected), selected);
+            } else {
+                unknownSelected.putIfAbsent(SynonymDictionary.normalize(selected), selected);
+            }
+        }
+    }
+
+    /**
+     * 레시피 재료 텍스트와 매칭되는 선택 재료 조회
+     *
+     * @param recipeIngredient 레시피 재료 텍스트 (ex. "돼지고기 100g")
+     * @return 매칭된 선택 재료명 (원래 이름), 없으면 null
+     */
+    public String match(String recipeIngredient) {
+        for (String canonical : dictionary.findCanonicals(recipeIngredient)) {
+            String selected = selectedByCanonical.get(canonical);
+            if (selected != null) {
+                return selected;
+            }
+        }
+        return matchUnknown(recipeIngredient);
+    }
+
+    /**
+     * 대표 재료명이 미리 계산된 레시피 재료 토큰과 매칭되는 선택 재료 조회
+     * - 저장된 토큰을 쓰므로 사전 매처로 다시 훑지 않음
+     *
+     * @param recipeIngredient 레시피 재료 텍스트
+     * @param canonicalName 토큰의 대표 재료명 (없으면 null)
+     * @return 매칭된 선택 재료명 (원래 이름), 없으면 null
+     */
+    public String match(String recipeIngredient, String canonicalName) {
+        if (canonicalName != null) {
+            String selected = selectedByCanonical.get(canonicalName);
+            if (selected != null) {
+                return selected;
+            }
+        }
+        return matchUnknown(recipeIngredient);
+    }
+
+    private String matchUnknown(String recipeIngredient) {
+        if (!unknownSelected.isEmpty()) {
+            String recipe = SynonymDictionary.normalize(recipeIngredient);
+            for (Map.Entry<String, String> entry : unknownSelected.entrySet()) {
+                if (recipe.contains(entry.getKey())) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return null;
+    }
+}
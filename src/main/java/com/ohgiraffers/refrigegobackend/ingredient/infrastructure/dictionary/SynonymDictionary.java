@@ -0,0 +1,172 @@
+package com.ohgiraffers.refrigegobackend.ingredient.infrastructure.dictionary;
+
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.IngredientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 재료 동의어 사전
+ * - data/ingredient-synonyms.csv(대표 재료명, 동의어...)와 기준 재료(ingredients) 테이블의 재료명을
+ *   정규화된 이름 → 대표 재료명 해시맵으로 한 번만 구성
+ * - 기준 재료명은 항상 자기 자신이 대표 재료명 (동의어 파일은 기준 재료에 없는 별칭만 추가)
+ * - 같은 이름들로 Aho-Corasick 매처를 함께 컴파일해 두어,
+ *   레시피 재료 텍스트를 한 번 훑으면 포함된 대표 재료명을 모두 얻을 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SynonymDictionary {
+
+    static final String SYNONYM_FILE = "data/ingredient-synonyms.csv";
+
+    private final IngredientRepository ingredientRepository;
+
+    // 재구성 중에도 조회가 가능하도록 완성된 데이터만 통째로 교체
+    private volatile DictionaryData data;
+
+    /**
+     * 애플리케이션 기동 완료 후 사전 구성
+     * - 실패하면 첫 조회 시 다시 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("재료 동의어 사전 구성 실패 - 첫 조회 시 다시 구성합니다.", e);
+        }
+    }
+
+    /**
+     * 동의어 파일과 기준 재료 테이블을 다시 읽어 사전 재구성
+     * - 기준 재료명을 먼저 자기 자신으로 등록하고, 동의어 파일은 등록되지 않은 이름만 추가
+     *   (배추/양배추, 돼지고기/삼겹살처럼 각각 기준 재료인 이름이 다른 재료로 합쳐지지 않도록)
+     * - 기준 재료 조회에 실패하면 동의어 파일만으로 구성
+     */
+    public synchronized void rebuild() {
+        Map<String, String> canonicalByTerm = new HashMap<>();
+        try {
+            for (String name : ingredientRepository.findAllNames()) {
+                String term = normalize(name);
+                if (!term.isEmpty()) {
+                    canonicalByTerm.put(term, term);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("기준 재료 조회 실패 - 동의어 파일만으로 사전을 구성합니다.", e);
+        }
+
+        loadSynonymFile(canonicalByTerm);
+
+        this.data = new DictionaryData(canonicalByTerm, new AhoCorasickMatcher<>(canonicalByTerm));
+        log.info("재료 동의어 사전 구성 완료 - 이름 {}개", canonicalByTerm.size());
+    }
+
+    /**
+     * 이름의 대표 재료명 (사전에 없으면 정규화된 이름 그대로)
+     */
+    public String canonicalOf(String name) {
+        String term = normalize(name);
+        return snapshot().canonicalByTerm.getOrDefault(term, term);
+    }
+
+    /**
+     * 사전에 등록된 이름인지 여부
+     */
+    public boolean contains(String name) {
+        return snapshot().canonicalByTerm.containsKey(normalize(name));
+    }
+
+    /**
+     * 텍스트에 포함된 대표 재료명을 등장 순서대로 조회 (중복 제외)
+     * - ex. "돼지삼겹살 100g, 파 1대" → [삼겹살, 대파]
+     *
+     * @param text 레시피 재료 텍스트 (rcpPartsDtls 또는 그 일부)
+     * @return 대표 재료명 목록
+     */
+    public Set<String> findCanonicals(String text) {
+        if (text == null || text.isEmpty()) {
+            return new LinkedHashSet<>();
+        }
+        return new LinkedHashSet<>(snapshot().matcher.findAll(text.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * 선택한 재료 목록 기준 매처 생성 (요청 단위로 한 번만 생성해서 레시피마다 재사용)
+     */
+    public SelectedIngredientMatcher matcherFor(List<String> selectedIngredients) {
+        return new SelectedIngredientMatcher(this, selectedIngredients);
+    }
+
+    /**
+     * 비교용 이름 정규화 (앞뒤 공백 제거, 소문자)
+     */
+    static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private DictionaryData snapshot() {
+        DictionaryData snapshot = data;
+        if (snapshot == null) {
+            synchronized (this) {
+                if (data == null) {
+                    rebuild();
+                }
+                snapshot = data;
+            }
+        }
+        return snapshot;
+    }
+
+    private void loadSynonymFile(Map<String, String> canonicalByTerm) {
+        InputStream in = getClass().getClassLoader().getResourceAsStream(SYNONYM_FILE);
+        if (in == null) {
+            log.warn("동의어 파일이 없습니다: {}", SYNONYM_FILE);
+            return;
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] names = line.split(",");
+                String canonical = normalize(names[0]);
+                for (String name : names) {
+                    String term = normalize(name);
+                    if (!term.isEmpty()) {
+                        // 기준 재료명이나 앞 줄에서 등록한 이름은 덮어쓰지 않음
+                        canonicalByTerm.putIfAbsent(term, canonical);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("동의어 파일 읽기 실패: " + SYNONYM_FILE, e);
+        }
+    }
+
+    /**
+     * 사전 데이터 (구성 후 변경하지 않음)
+     */
+    private static class DictionaryData {
+        private final Map<String, String> canonicalByTerm;
+        private final AhoCorasickMatcher<String> matcher;
+
+        private DictionaryData(Map<String, String> canonicalByTerm, AhoCorasickMatcher<String> matcher) {
+            this.canonicalByTerm = canonicalByTerm;
+            this.matcher = matcher;
+        }
+    }
+}
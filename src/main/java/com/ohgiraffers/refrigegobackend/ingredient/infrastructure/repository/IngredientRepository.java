@@ -48,4 +48,10 @@ public interface IngredientRepository extends JpaRepository<Ingredient, Long> {
     @Query("SELECT DISTINCT i.category FROM Ingredient i ORDER BY i.category")
     List<String> findDistinctCategories();
 
+    /**
+     * 전체 기준 재료명 조회 (재료 동의어 사전 구성용)
+     */
+    @Query("SELECT i.name FROM Ingredient i")
+    List<String> findAllNames();
+
 }
\ No newline at end of file
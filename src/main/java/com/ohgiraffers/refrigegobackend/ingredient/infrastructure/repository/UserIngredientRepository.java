@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,4 +26,12 @@ public interface UserIngredientRepository extends JpaRepository<UserIngredient,
 
     @Query("SELECT i FROM UserIngredient i WHERE i.expiryDate <= :targetDate AND i.expiryDate >= :today")
     List<UserIngredient> findExpiringIngredients(@Param("targetDate") LocalDate targetDate, @Param("today") LocalDate today);
+
+    /**
+     * 여러 유저의 냉장고 재료명 일괄 조회 (일괄 추천 작업용)
+     * @return [유저 ID, 직접 입력한 재료명, 기준 재료명, 소비기한, 냉동 여부] 목록
+     */
+    @Query("SELECT ui.userId, ui.customName, i.name, ui.expiryDate, ui.isFrozen FROM UserIngredient ui LEFT JOIN ui.ingredient i " +
+           "WHERE ui.userId IN :userIds")
+    List<Object[]> findFridgeNamesByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
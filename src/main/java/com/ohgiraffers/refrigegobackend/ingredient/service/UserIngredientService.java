@@ -11,11 +11,13 @@ import com.ohgiraffers.refrigegobackend.ingredient.domain.Ingredient;
 import com.ohgiraffers.refrigegobackend.ingredient.domain.IngredientCategory;
 import com.ohgiraffers.refrigegobackend.ingredient.domain.UserIngredient;
 import com.ohgiraffers.refrigegobackend.ingredient.dto.*;
+import com.ohgiraffers.refrigegobackend.ingredient.event.UserFridgeChangedEvent;
 import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.IngredientRepository;
 import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.UserIngredientRepository;
 import com.ohgiraffers.refrigegobackend.user.entity.User;
 import com.ohgiraffers.refrigegobackend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -35,6 +37,7 @@ public class UserIngredientService {
     private final UserRepository userRepository; // UserRepository 추가
     private final UserIngredientRepository userIngredientRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${aws.bucket-name}")
     private String bucketName;
@@ -99,6 +102,7 @@ public class UserIngredientService {
                 .build();
 
         repository.save(userIngredient);
+        eventPublisher.publishEvent(UserFridgeChangedEvent.added(user.getId(), List.of(userIngredient)));
     }
 
     // username 기준 재료 조회
@@ -152,6 +156,7 @@ public class UserIngredientService {
                 }).collect(Collectors.toList());
 
         repository.saveAll(entities);
+        eventPublisher.publishEvent(UserFridgeChangedEvent.added(user.getId(), entities));
     }
 
     // 이미지 포함 재료 추가 (username 기준)
@@ -187,6 +192,7 @@ public class UserIngredientService {
                 .build();
 
         repository.save(userIngredient);
+        eventPublisher.publishEvent(UserFridgeChangedEvent.added(user.getId(), List.of(userIngredient)));
     }
 
     // 기존 saveBatch 유지
@@ -213,12 +219,14 @@ public class UserIngredientService {
         }).collect(Collectors.toList());
 
         repository.saveAll(entities);
+        eventPublisher.publishEvent(UserFridgeChangedEvent.added(userId, entities));
     }
 
     // 이하 기존 메서드 유지
     public void updateUserIngredient(Long id, UserIngredientUpdateRequestDto dto) {
         UserIngredient entity = repository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 재료입니다."));
+        String previousFridgeName = entity.getFridgeName();
 
         entity.setPurchaseDate(dto.getPurchaseDate());
         entity.setExpiryDate(dto.getExpiryDate());
@@ -232,6 +240,13 @@ public class UserIngredientService {
         }
 
         repository.save(entity);
+
+        // 이름이 바뀌면 추천 계산 기준 재료도 바뀜
+        if (!Objects.equals(previousFridgeName, entity.getFridgeName())) {
+            eventPublisher.publishEvent(new UserFridgeChangedEvent(entity.getUserId(),
+                    entity.getFridgeName() != null ? List.of(entity.getFridgeName()) : List.of(),
+                    previousFridgeName != null ? List.of(previousFridgeName) : List.of()));
+        }
     }
 
     public UserIngredientResponseDto getUserIngredientDetail(Long id) {
@@ -263,7 +278,10 @@ public class UserIngredientService {
     }
 
     public void deleteUserIngredient(Long id) {
-        repository.deleteById(id);
+        repository.findById(id).ifPresent(entity -> {
+            repository.delete(entity);
+            eventPublisher.publishEvent(UserFridgeChangedEvent.removed(entity.getUserId(), List.of(entity)));
+        });
     }
 
     /**
@@ -289,6 +307,7 @@ public class UserIngredientService {
         System.out.println("사용자 " + username + "가 레시피 " + recipeId + "로 재료 " + ingredientIds.size() + "개를 소비했습니다.");
 
         repository.deleteAll(ingredientsToConsume);
+        eventPublisher.publishEvent(UserFridgeChangedEvent.removed(user.getId(), ingredientsToConsume));
     }
 
     public void notifyUserAboutExpiringIngredient() {
@@ -92,11 +92,18 @@ public class NotificationService {
     }
 
     public void sendRecipeRecommendation(Long userId, Recipe recipe) {
+        sendRecipeRecommendation(userId, recipe.getRcpSeq(), recipe.getRcpNm());
+    }
+
+    /**
+     * 레시피 추천 알림 저장 + FCM 푸시 (레시피 엔티티 없이 ID/이름만으로 전송)
+     */
+    public void sendRecipeRecommendation(Long userId, String recipeId, String recipeName) {
         try {
-            log.info("📱 레시피 추천 알림 생성 시작 - 사용자 ID: {}, 레시피: {}", userId, recipe.getRcpNm());
+            log.info("📱 레시피 추천 알림 생성 시작 - 사용자 ID: {}, 레시피: {}", userId, recipeName);
             
             String title = "오늘의 추천 레시피";
-            String content = recipe.getRcpNm() + " 어때요? 냉장고 재료로 만들 수 있어요!";
+            String content = recipeName + " 어때요? 냉장고 재료로 만들 수 있어요!";
 
             log.info("📝 알림 내용 - 제목: {}, 내용: {}", title, content);
 
@@ -105,7 +112,7 @@ public class NotificationService {
                     .title(title)
                     .content(content)
                     .type(NotificationType.RECIPERECOMMENDATION)
-                    .recipeId(recipe.getRcpSeq())
+                    .recipeId(recipeId)
                     .isRead(false)
                     .createdAt(LocalDateTime.now())
                     .build();
@@ -123,7 +130,7 @@ public class NotificationService {
             log.info("✅ FCM 푸시 알림 전송 완료");
             
         } catch (Exception e) {
-            log.error("❌ 레시피 추천 알림 생성 중 에러 발생 - 사용자 ID: {}, 레시피: {}", userId, recipe.getRcpNm(), e);
+            log.error("❌ 레시피 추천 알림 생성 중 에러 발생 - 사용자 ID: {}, 레시피: {}", userId, recipeName, e);
             throw e;
         }
     }
@@ -1,11 +1,15 @@
 package com.ohgiraffers.refrigegobackend.ocr.service;
 
+import com.ohgiraffers.refrigegobackend.config.AiServerHttpTransport;
+import com.ohgiraffers.refrigegobackend.config.AiServerProperties;
 import com.ohgiraffers.refrigegobackend.ingredient.domain.Ingredient;
 import com.ohgiraffers.refrigegobackend.ingredient.domain.UserIngredient;
+import com.ohgiraffers.refrigegobackend.ingredient.event.UserFridgeChangedEvent;
 import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.IngredientRepository;
 import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.UserIngredientRepository;
 import com.ohgiraffers.refrigegobackend.user.entity.User;
 import com.ohgiraffers.refrigegobackend.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.*;
 import org.springframework.security.core.Authentication;
@@ -18,6 +22,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -28,16 +33,24 @@ public class OcrService {
     private final UserIngredientRepository userIngredientRepository;
     private final UserRepository userRepository;
     private final IngredientRepository ingredientRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AiServerProperties aiServerProperties;
+    private final RestTemplate restTemplate;
 
-    public OcrService(UserIngredientRepository userIngredientRepository,UserRepository userRepository, IngredientRepository ingredientRepository) {
+    public OcrService(UserIngredientRepository userIngredientRepository,UserRepository userRepository, IngredientRepository ingredientRepository,
+                      ApplicationEventPublisher eventPublisher, AiServerProperties aiServerProperties,
+                      AiServerHttpTransport aiServerHttpTransport) {
         this.userIngredientRepository = userIngredientRepository;
         this.userRepository = userRepository;
         this.ingredientRepository = ingredientRepository;
+        this.eventPublisher = eventPublisher;
+        this.aiServerProperties = aiServerProperties;
+        this.restTemplate = aiServerHttpTransport.getOcr();
     }
 
     public String sendImageToAiServer(MultipartFile image) throws IOException {
 
-        String aiUrl = "http://localhost:8000/api/v1/ocr/process";
+        String aiUrl = aiServerProperties.getBaseUrl() + aiServerProperties.getEndpoints().getOcr();
 
         ByteArrayResource imageResource = new ByteArrayResource(image.getBytes()) {
             @Override
@@ -54,7 +67,6 @@ public class OcrService {
 
         HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
 
-        RestTemplate restTemplate = new RestTemplate();
         ResponseEntity<String> aiResponse = restTemplate.postForEntity(aiUrl, requestEntity, String.class);
 
         return aiResponse.getBody(); // AI 서버의 응답(JSON 등)
@@ -71,6 +83,7 @@ public class OcrService {
             throw new RuntimeException("유저를 찾을 수 없습니다: " + username);
         }
         Long userId = user.getId(); // user_id(PK) 값
+        List<UserIngredient> savedIngredients = new ArrayList<>();
 
         for (Map<String, Object> ingredient : ingredients) {
             // 날짜 처리 로직 추가
@@ -119,7 +132,10 @@ public class OcrService {
 
             // DB에 저장
             userIngredientRepository.save(userIngredient);
+            savedIngredients.add(userIngredient);
 
         }
+
+        eventPublisher.publishEvent(UserFridgeChangedEvent.added(userId, savedIngredients));
     }
 }
\ No newline at end of file
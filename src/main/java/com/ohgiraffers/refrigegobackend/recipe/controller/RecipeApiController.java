@@ -49,4 +49,16 @@ public class RecipeApiController {
         recipeApiService.saveAllRecipes(totalCount, batchSize);
         return "레시피 저장 완료";
     }
+
+    /**
+     * 저장된 레시피의 재료 토큰/연결 테이블 재생성 (파이프라인 도입 전 저장된 레시피 보정용)
+     * GET /api/recipes/reindex
+     *
+     * @return 처리 결과 메시지
+     */
+    @GetMapping("/api/recipes/reindex")
+    public String reindexRecipes() {
+        int recipeCount = recipeApiService.reindexAllRecipes();
+        return "레시피 재료 데이터 갱신 완료 (" + recipeCount + "개)";
+    }
 }
@@ -0,0 +1,47 @@
+package com.ohgiraffers.refrigegobackend.recipe.domain;
+
+import com.ohgiraffers.refrigegobackend.ingredient.domain.Ingredient;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 레시피 재료 토큰
+ * - 레시피 저장 시 rcpPartsDtls를 재료 단위로 한 번만 분리/정규화해 둔 결과
+ * - 저장은 RecipeIngredientTokenService에서 JDBC 배치로 처리하고, 엔티티는 조회용으로 사용
+ * - 스마트 추천은 요청마다 정규식으로 다시 자르지 않고 이 토큰을 그대로 사용
+ */
+@Entity
+@Table(name = "recipe_ingredient_tokens",
+        indexes = @Index(name = "idx_recipe_ingredient_tokens_recipe", columnList = "recipe_id, token_order"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecipeIngredientToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "recipe_id", nullable = false)
+    private Recipe recipe;
+
+    // 레시피 재료 텍스트 내 순서 (0부터)
+    @Column(name = "token_order", nullable = false)
+    private Integer tokenOrder;
+
+    // 분리된 재료 텍스트 원문 (ex. "돼지고기 100g")
+    @Column(name = "token_text", length = 500, nullable = false)
+    private String tokenText;
+
+    // 동의어 사전 기준 대표 재료명 (사전에 없는 재료면 null)
+    @Column(name = "canonical_name", length = 100)
+    private String canonicalName;
+
+    // 대표 재료명에 해당하는 기준 재료 (기준 재료 테이블에 없으면 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ingredient_id")
+    private Ingredient ingredient;
+}
@@ -0,0 +1,28 @@
+package com.ohgiraffers.refrigegobackend.recipe.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 레시피 재료 토큰 (스마트 추천 매칭용)
+ */
+@Getter
+@AllArgsConstructor
+public class RecipeIngredientTokenDTO {
+
+    private final String tokenText;
+    private final String canonicalName;
+    private final Long ingredientId;
+
+    /**
+     * RecipeIngredientTokenRepository.findTokensByRecipeIds 결과 행 변환
+     * [rcpSeq, tokenText, canonicalName, ingredientId]
+     */
+    public static RecipeIngredientTokenDTO fromRow(Object[] row) {
+        return new RecipeIngredientTokenDTO(
+                (String) row[1],
+                (String) row[2],
+                row[3] != null ? ((Number) row[3]).longValue() : null
+        );
+    }
+}
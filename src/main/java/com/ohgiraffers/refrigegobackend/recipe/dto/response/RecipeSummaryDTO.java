@@ -0,0 +1,35 @@
+package com.ohgiraffers.refrigegobackend.recipe.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 추천 결과 표시용 레시피 요약 정보
+ * - 추천 응답에 필요한 컬럼만 담음 (manual03~06, 썸네일, 영양 정보 제외)
+ */
+@Getter
+@AllArgsConstructor
+public class RecipeSummaryDTO {
+
+    private final String rcpSeq;
+    private final String rcpNm;
+    private final String rcpPartsDtls;
+    private final String manual01;
+    private final String manual02;
+    private final String image;
+
+    /**
+     * RecipeRepository.findSummariesByRcpSeqIn 결과 행 변환
+     * [rcpSeq, rcpNm, rcpPartsDtls, manual01, manual02, image]
+     */
+    public static RecipeSummaryDTO fromRow(Object[] row) {
+        return new RecipeSummaryDTO(
+                (String) row[0],
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                (String) row[5]
+        );
+    }
+}
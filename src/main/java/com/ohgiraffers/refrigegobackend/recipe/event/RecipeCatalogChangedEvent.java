@@ -0,0 +1,19 @@
+package com.ohgiraffers.refrigegobackend.recipe.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 레시피 카탈로그 변경 이벤트
+ * - 레시피 저장과 재료 토큰/연결 테이블 갱신이 끝난 뒤 발행
+ * - 추천 인덱스, 레시피 요약 캐시 등 레시피 데이터로 만든 파생 데이터가 구독해서 갱신
+ */
+@Getter
+@RequiredArgsConstructor
+public class RecipeCatalogChangedEvent {
+
+    // 변경된 레시피 ID 목록
+    private final List<String> recipeIds;
+}
@@ -0,0 +1,30 @@
+package com.ohgiraffers.refrigegobackend.recipe.infrastructure.repository;
+
+import com.ohgiraffers.refrigegobackend.recipe.domain.RecipeIngredientToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RecipeIngredientTokenRepository extends JpaRepository<RecipeIngredientToken, Long> {
+
+    /**
+     * 레시피들의 재료 토큰 조회 (레시피 ID, 토큰 순서 정렬)
+     * - 반환: [rcpSeq, tokenText, canonicalName, ingredientId]
+     */
+    @Query("SELECT t.recipe.rcpSeq, t.tokenText, t.canonicalName, i.id " +
+           "FROM RecipeIngredientToken t LEFT JOIN t.ingredient i " +
+           "WHERE t.recipe.rcpSeq IN :rcpSeqs " +
+           "ORDER BY t.recipe.rcpSeq, t.tokenOrder")
+    List<Object[]> findTokensByRecipeIds(@Param("rcpSeqs") Collection<String> rcpSeqs);
+
+    /**
+     * 레시피들의 재료 토큰 일괄 삭제 (재토큰화 전)
+     */
+    @Modifying
+    @Query("DELETE FROM RecipeIngredientToken t WHERE t.recipe.rcpSeq IN :rcpSeqs")
+    int deleteByRecipeIds(@Param("rcpSeqs") Collection<String> rcpSeqs);
+}
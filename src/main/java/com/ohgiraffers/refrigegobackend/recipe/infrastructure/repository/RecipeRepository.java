@@ -5,8 +5,10 @@ import com.ohgiraffers.refrigegobackend.recipe.dto.response.RecipeApiResponseDto
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,8 +24,15 @@ import java.util.Set;
 public interface RecipeRepository extends JpaRepository<Recipe, String> {
     // JpaRepository가 기본 CRUD 메서드를 모두 제공하므로 별도의 메서드 선언 불필요
 
-    // 요리 종류가 같은 레시피 조회 (찜한 레시피는 제외)
-    List<Recipe> findByCuisineTypeInAndRcpSeqNotIn(List<String> cuisineTypes, List<String> excludedRcpSeqs);
+    /**
+     * 사용자가 찜한 레시피와 요리 종류가 같은 레시피 조회 (찜한 레시피는 제외)
+     * - 찜 목록을 파라미터로 넘기지 않고 찜 테이블과 NOT EXISTS 안티 조인으로 제외
+     *   (찜 개수와 무관하게 SQL 문장이 같아 실행 계획이 재사용되고, 찜이 없어도 안전)
+     */
+    @Query("SELECT r FROM Recipe r " +
+            "WHERE r.cuisineType IN (SELECT liked.recipe.cuisineType FROM Bookmark liked WHERE liked.user.id = :userId) " +
+            "AND NOT EXISTS (SELECT 1 FROM Bookmark b WHERE b.user.id = :userId AND b.recipe.rcpSeq = r.rcpSeq)")
+    List<Recipe> findSameCuisineTypeNotBookmarkedByUserId(@Param("userId") Long userId);
 
     Page<Recipe> findByRcpCategory(String rcpCategory, Pageable pageable);
 
@@ -35,4 +44,20 @@ public interface RecipeRepository extends JpaRepository<Recipe, String> {
      */
     @Query("SELECT r.rcpSeq, r.image, r.thumbnail FROM Recipe r WHERE r.rcpSeq IN :rcpSeqs")
     List<Object[]> findImagesByRcpSeqIn(@Param("rcpSeqs") List<String> rcpSeqs);
+
+    /**
+     * 추천 결과 표시용 요약 정보 일괄 조회
+     * rcpSeq 목록으로 [rcpSeq, rcpNm, rcpPartsDtls, manual01, manual02, image] 조회
+     */
+    @Query("SELECT r.rcpSeq, r.rcpNm, r.rcpPartsDtls, r.manual01, r.manual02, r.image FROM Recipe r WHERE r.rcpSeq IN :rcpSeqs")
+    List<Object[]> findSummariesByRcpSeqIn(@Param("rcpSeqs") List<String> rcpSeqs);
+
+    /**
+     * 레시피 카탈로그 버전 증가 (추천 인덱스 스냅샷 무효화용)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE recipe_catalog_version SET version = version + 1, updated_at = CURRENT_TIMESTAMP(6) WHERE id = 1",
+           nativeQuery = true)
+    int incrementCatalogVersion();
 }
\ No newline at end of file
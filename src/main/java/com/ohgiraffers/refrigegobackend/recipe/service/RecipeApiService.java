@@ -3,25 +3,40 @@ package com.ohgiraffers.refrigegobackend.recipe.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ohgiraffers.refrigegobackend.recipe.domain.Recipe;
 import com.ohgiraffers.refrigegobackend.recipe.dto.response.RecipeApiResponseDto;
+import com.ohgiraffers.refrigegobackend.recipe.event.RecipeCatalogChangedEvent;
 import com.ohgiraffers.refrigegobackend.recipe.infrastructure.repository.RecipeRepository;
+import com.ohgiraffers.refrigegobackend.recommendation.service.RecipeIngredientLinkService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 public class RecipeApiService {
 
     private final RestTemplate restTemplate;
     private final RecipeRepository recipeRepository;
+    private final RecipeIngredientTokenService recipeIngredientTokenService;
+    private final RecipeIngredientLinkService recipeIngredientLinkService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${api.foodsafety.key}")
     private String apiKey;
 
-    public RecipeApiService(RestTemplate restTemplate, RecipeRepository recipeRepository) {
+    public RecipeApiService(RestTemplate restTemplate, RecipeRepository recipeRepository,
+                            RecipeIngredientTokenService recipeIngredientTokenService,
+                            RecipeIngredientLinkService recipeIngredientLinkService,
+                            ApplicationEventPublisher eventPublisher) {
         this.restTemplate = restTemplate;
         this.recipeRepository = recipeRepository;
+        this.recipeIngredientTokenService = recipeIngredientTokenService;
+        this.recipeIngredientLinkService = recipeIngredientLinkService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -50,7 +65,18 @@ public class RecipeApiService {
      * DTO → Entity로 변환 후 DB 저장 (배치 처리)
      */
     public void saveRecipesBatch(int start, int end) {
+        publishCatalogChanged(saveBatch(start, end));
+    }
+
+    /**
+     * 한 범위의 레시피 저장 + 재료 토큰/연결 테이블 갱신
+     * - 카탈로그 변경 이벤트는 호출하는 쪽에서 한 번만 발행
+     *
+     * @return 저장된 레시피 목록
+     */
+    private List<Recipe> saveBatch(int start, int end) {
         RecipeApiResponseDto responseDto = fetchRecipeDto(start, end);
+        List<Recipe> savedRecipes = new ArrayList<>();
 
         if (responseDto != null && responseDto.getCOOKRCP01() != null) {
             Arrays.stream(responseDto.getCOOKRCP01().getRow())
@@ -83,19 +109,37 @@ public class RecipeApiService {
                         recipe.setManual05(dto.getManual05());
                         recipe.setManual06(dto.getManual06());
 
-                        recipeRepository.save(recipe);
+                        savedRecipes.add(recipeRepository.save(recipe));
                     });
+
+            updateIngredientData(savedRecipes);
         }
+        return savedRecipes;
+    }
+
+    /**
+     * 저장된 전체 레시피의 재료 토큰/연결 테이블 재생성 (파이프라인 도입 전 저장된 레시피 보정용)
+     *
+     * @return 처리한 레시피 수
+     */
+    public int reindexAllRecipes() {
+        List<Recipe> recipes = recipeRepository.findAll();
+        updateIngredientData(recipes);
+        publishCatalogChanged(recipes);
+        return recipes.size();
     }
 
     /**
      * 전체 레시피 저장 (batch 단위)
+     * - 추천 인덱스 등 파생 데이터는 전체 저장 후 한 번만 갱신
      */
     public void saveAllRecipes(int totalCount, int batchSize) {
+        List<Recipe> savedRecipes = new ArrayList<>();
         for (int start = 1; start <= totalCount; start += batchSize) {
             int end = Math.min(start + batchSize - 1, totalCount);
-            saveRecipesBatch(start, end);
+            savedRecipes.addAll(saveBatch(start, end));
         }
+        publishCatalogChanged(savedRecipes);
     }
 
     /**
@@ -109,6 +153,7 @@ public class RecipeApiService {
             RecipeApiResponseDto responseDto = mapper.readValue(json, RecipeApiResponseDto.class);
 
             if (responseDto != null && responseDto.getCOOKRCP01() != null) {
+                List<Recipe> savedRecipes = new ArrayList<>();
                 Arrays.stream(responseDto.getCOOKRCP01().getRow())
                         .forEach((RecipeApiResponseDto.Recipe dto) -> {
                             Recipe recipe = new Recipe();
@@ -136,11 +181,41 @@ public class RecipeApiService {
                             recipe.setManual05(dto.getManual05());
                             recipe.setManual06(dto.getManual06());
 
-                            recipeRepository.save(recipe);
+                            savedRecipes.add(recipeRepository.save(recipe));
                         });
+
+                updateIngredientData(savedRecipes);
+                publishCatalogChanged(savedRecipes);
             }
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
+
+    /**
+     * 저장된 레시피의 재료 토큰 생성 → 레시피-재료 연결 테이블 동기화
+     */
+    private void updateIngredientData(List<Recipe> savedRecipes) {
+        if (savedRecipes.isEmpty()) {
+            return;
+        }
+        recipeIngredientTokenService.tokenize(savedRecipes);
+        recipeIngredientLinkService.syncLinks(savedRecipes.stream()
+                .map(Recipe::getRcpSeq)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 레시피 카탈로그 변경 이벤트 발행 (추천 인덱스 재구성, 요약 캐시 삭제)
+     * - 이벤트 전에 카탈로그 버전을 올려 재구성된 인덱스 스냅샷이 새 버전으로 저장되게 함
+     */
+    private void publishCatalogChanged(List<Recipe> savedRecipes) {
+        if (savedRecipes.isEmpty()) {
+            return;
+        }
+        recipeRepository.incrementCatalogVersion();
+        eventPublisher.publishEvent(new RecipeCatalogChangedEvent(savedRecipes.stream()
+                .map(Recipe::getRcpSeq)
+                .collect(Collectors.toList())));
+    }
 }
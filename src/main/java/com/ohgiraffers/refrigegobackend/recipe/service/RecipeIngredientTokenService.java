@@ -0,0 +1,171 @@
+package com.ohgiraffers.refrigegobackend.recipe.service;
+
+import com.ohgiraffers.refrigegobackend.ingredient.domain.Ingredient;
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.dictionary.SynonymDictionary;
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.IngredientRepository;
+import com.ohgiraffers.refrigegobackend.recipe.domain.Recipe;
+import com.ohgiraffers.refrigegobackend.recipe.dto.response.RecipeIngredientTokenDTO;
+import com.ohgiraffers.refrigegobackend.recipe.infrastructure.repository.RecipeIngredientTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 레시피 재료 토큰화 서비스
+ * - 레시피 저장 시 rcpPartsDtls를 재료 단위로 분리하고, 동의어 사전으로 대표 재료명/기준 재료 ID를 붙여 저장
+ * - 스마트 추천은 저장된 토큰을 IN 쿼리 한 번으로 읽어 사용 (요청마다 정규식 분리 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeIngredientTokenService {
+
+    // 재료 구분자 (쉼표, 세로선)
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile(",|\\|");
+
+    // token_text 컬럼 길이
+    private static final int MAX_TOKEN_LENGTH = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO recipe_ingredient_tokens (recipe_id, token_order, token_text, canonical_name, ingredient_id) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final RecipeIngredientTokenRepository recipeIngredientTokenRepository;
+    private final IngredientRepository ingredientRepository;
+    private final SynonymDictionary synonymDictionary;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 레시피들의 재료 토큰 갱신
+     * - 새로 분리한 토큰이 저장된 토큰과 다른 레시피만 삭제 후 다시 저장 (같은 데이터 재저장 시 쓰기 없음)
+     * - ID 자동 증가 엔티티는 JPA 배치 저장이 안 되므로 JDBC 배치로 저장
+     *
+     * @param recipes 저장된 레시피 목록
+     * @return 토큰이 갱신된 레시피 수
+     */
+    @Transactional
+    public int tokenize(List<Recipe> recipes) {
+        if (recipes.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 레시피별 토큰 분리 + 대표 재료명 부여
+        Map<String, List<RecipeIngredientTokenDTO>> parsed = new LinkedHashMap<>();
+        Set<String> canonicalNames = new HashSet<>();
+        for (Recipe recipe : recipes) {
+            List<RecipeIngredientTokenDTO> tokens = tokenizeText(recipe.getRcpPartsDtls());
+            parsed.put(recipe.getRcpSeq(), tokens);
+            tokens.stream()
+                    .map(RecipeIngredientTokenDTO::getCanonicalName)
+                    .filter(Objects::nonNull)
+                    .forEach(canonicalNames::add);
+        }
+
+        // 2. 대표 재료명 → 기준 재료 ID (한 번에 조회)
+        Map<String, Long> ingredientIdsByName = canonicalNames.isEmpty()
+                ? Collections.emptyMap()
+                : ingredientRepository.findByNameIn(new ArrayList<>(canonicalNames)).stream()
+                        .collect(Collectors.toMap(Ingredient::getName, Ingredient::getId, (a, b) -> a));
+
+        // 3. 저장된 토큰과 비교해서 바뀐 레시피만 추림
+        Map<String, List<RecipeIngredientTokenDTO>> existing = getTokens(parsed.keySet());
+        List<String> changedRecipeIds = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        parsed.forEach((recipeId, parsedTokens) -> {
+            List<RecipeIngredientTokenDTO> tokens = parsedTokens.stream()
+                    .map(token -> new RecipeIngredientTokenDTO(token.getTokenText(), token.getCanonicalName(),
+                            token.getCanonicalName() != null ? ingredientIdsByName.get(token.getCanonicalName()) : null))
+                    .collect(Collectors.toList());
+            if (isSameTokens(tokens, existing.getOrDefault(recipeId, Collections.emptyList()))) {
+                return;
+            }
+            changedRecipeIds.add(recipeId);
+            for (int i = 0; i < tokens.size(); i++) {
+                RecipeIngredientTokenDTO token = tokens.get(i);
+                rows.add(new Object[]{recipeId, i, token.getTokenText(), token.getCanonicalName(), token.getIngredientId()});
+            }
+        });
+
+        // 4. 바뀐 레시피만 삭제 후 저장
+        if (!changedRecipeIds.isEmpty()) {
+            recipeIngredientTokenRepository.deleteByRecipeIds(changedRecipeIds);
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            }
+        }
+
+        log.info("레시피 재료 토큰 갱신 - 레시피 {}개 중 {}개 변경, 토큰 {}개 저장",
+                recipes.size(), changedRecipeIds.size(), rows.size());
+        return changedRecipeIds.size();
+    }
+
+    /**
+     * 레시피들의 저장된 재료 토큰 조회
+     * - 토큰이 없는 레시피는 결과에 포함하지 않음
+     *
+     * @param recipeIds 레시피 ID 목록
+     * @return 레시피 ID → 토큰 목록 (토큰 순서 유지)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, List<RecipeIngredientTokenDTO>> getTokens(Collection<String> recipeIds) {
+        Map<String, List<RecipeIngredientTokenDTO>> result = new HashMap<>();
+        if (recipeIds.isEmpty()) {
+            return result;
+        }
+        for (Object[] row : recipeIngredientTokenRepository.findTokensByRecipeIds(recipeIds)) {
+            result.computeIfAbsent((String) row[0], id -> new ArrayList<>())
+                    .add(RecipeIngredientTokenDTO.fromRow(row));
+        }
+        return result;
+    }
+
+    /**
+     * 재료 텍스트를 토큰으로 분리하고 대표 재료명 부여 (저장하지 않음)
+     * - 토큰 개수 제한 없음
+     *
+     * @param ingredientsText 레시피 재료 텍스트 (rcpPartsDtls)
+     * @return 토큰 목록 (기준 재료 ID는 비어 있음)
+     */
+    public List<RecipeIngredientTokenDTO> tokenizeText(String ingredientsText) {
+        if (ingredientsText == null || ingredientsText.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<RecipeIngredientTokenDTO> tokens = new ArrayList<>();
+        for (String part : TOKEN_DELIMITER.split(ingredientsText)) {
+            String text = part.trim();
+            if (text.isEmpty()) {
+                continue;
+            }
+            if (text.length() > MAX_TOKEN_LENGTH) {
+                text = text.substring(0, MAX_TOKEN_LENGTH);
+            }
+            Set<String> canonicals = synonymDictionary.findCanonicals(text);
+            String canonical = canonicals.isEmpty() ? null : canonicals.iterator().next();
+            tokens.add(new RecipeIngredientTokenDTO(text, canonical, null));
+        }
+        return tokens;
+    }
+
+    private boolean isSameTokens(List<RecipeIngredientTokenDTO> a, List<RecipeIngredientTokenDTO> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            RecipeIngredientTokenDTO x = a.get(i);
+            RecipeIngredientTokenDTO y = b.get(i);
+            if (!Objects.equals(x.getTokenText(), y.getTokenText())
+                    || !Objects.equals(x.getCanonicalName(), y.getCanonicalName())
+                    || !Objects.equals(x.getIngredientId(), y.getIngredientId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
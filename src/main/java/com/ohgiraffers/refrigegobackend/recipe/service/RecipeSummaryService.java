@@ -0,0 +1,102 @@
+package com.ohgiraffers.refrigegobackend.recipe.service;
+
+import com.ohgiraffers.refrigegobackend.recipe.dto.response.RecipeSummaryDTO;
+import com.ohgiraffers.refrigegobackend.recipe.event.RecipeCatalogChangedEvent;
+import com.ohgiraffers.refrigegobackend.recipe.infrastructure.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 레시피 요약 정보 일괄 조회 서비스
+ * - 추천 결과의 레시피 ID를 모아 한 번의 IN 쿼리로 필요한 컬럼만 조회 (레시피별 findById 제거)
+ * - 조회한 요약 정보는 메모리에 보관하고, 캐시에 없는 ID만 DB에서 조회
+ * - 레시피 카탈로그는 약 1,100건 규모라 전체를 캐시해도 부담이 작음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeSummaryService {
+
+    private final RecipeRepository recipeRepository;
+
+    private final Map<String, RecipeSummaryDTO> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 레시피 ID 목록의 요약 정보 조회
+     * - 반환 맵은 요청한 ID 순서를 유지하며, DB에 없는 ID는 포함하지 않음
+     *
+     * @param recipeIds 레시피 ID 목록
+     * @return 레시피 ID → 요약 정보
+     */
+    public Map<String, RecipeSummaryDTO> getSummaries(Collection<String> recipeIds) {
+        Map<String, RecipeSummaryDTO> result = new LinkedHashMap<>();
+        List<String> missingIds = new ArrayList<>();
+
+        for (String recipeId : recipeIds) {
+            if (recipeId == null || result.containsKey(recipeId)) {
+                continue;
+            }
+            RecipeSummaryDTO summary = cache.get(recipeId);
+            result.put(recipeId, summary);
+            if (summary == null) {
+                missingIds.add(recipeId);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            for (Object[] row : recipeRepository.findSummariesByRcpSeqIn(missingIds)) {
+                RecipeSummaryDTO summary = RecipeSummaryDTO.fromRow(row);
+                cache.put(summary.getRcpSeq(), summary);
+                result.put(summary.getRcpSeq(), summary);
+            }
+            log.debug("레시피 요약 조회 - 요청 {}건, DB 조회 {}건", result.size(), missingIds.size());
+        }
+
+        result.values().removeIf(Objects::isNull);
+        return result;
+    }
+
+    /**
+     * 캐시에 있는 요약 정보만 조회 (DB 조회 없음, 응답 마감이 지났을 때)
+     * - 반환 맵은 요청한 ID 순서를 유지하며, 캐시에 없는 ID는 포함하지 않음
+     */
+    public Map<String, RecipeSummaryDTO> getCachedSummaries(Collection<String> recipeIds) {
+        Map<String, RecipeSummaryDTO> result = new LinkedHashMap<>();
+        for (String recipeId : recipeIds) {
+            RecipeSummaryDTO summary = recipeId != null ? cache.get(recipeId) : null;
+            if (summary != null) {
+                result.put(recipeId, summary);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이미 읽어 둔 요약 정보로 캐시 채움 (추천 인덱스 스냅샷 로드 시)
+     */
+    public void preload(Collection<RecipeSummaryDTO> summaries) {
+        for (RecipeSummaryDTO summary : summaries) {
+            cache.put(summary.getRcpSeq(), summary);
+        }
+    }
+
+    /**
+     * 레시피 카탈로그 변경 시 캐시 삭제
+     */
+    @EventListener
+    public void onRecipeCatalogChanged(RecipeCatalogChangedEvent event) {
+        clear();
+    }
+
+    /**
+     * 캐시 전체 삭제 (레시피 데이터 변경 시)
+     */
+    public void clear() {
+        cache.clear();
+    }
+}
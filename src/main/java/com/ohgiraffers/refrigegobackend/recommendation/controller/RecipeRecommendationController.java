@@ -1,18 +1,26 @@
 package com.ohgiraffers.refrigegobackend.recommendation.controller;
 
+import com.ohgiraffers.refrigegobackend.ai.client.AiServerHealthMonitor;
 import com.ohgiraffers.refrigegobackend.ai.service.AiRecommendationService;
 import com.ohgiraffers.refrigegobackend.bookmark.dto.response.UserIngredientRecipeResponseDTO;
+import com.ohgiraffers.refrigegobackend.common.util.BoundedTtlCache;
 import com.ohgiraffers.refrigegobackend.common.util.SecurityUtil;
 import com.ohgiraffers.refrigegobackend.recommendation.dto.RecipeRecommendationDto;
 import com.ohgiraffers.refrigegobackend.recommendation.dto.RecipeRecommendationRequestDto;
 import com.ohgiraffers.refrigegobackend.recommendation.dto.RecipeRecommendationResponseDto;
 import com.ohgiraffers.refrigegobackend.recommendation.dto.RecommendedRecipeDto;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.ShoppingListResponseDto;
 import com.ohgiraffers.refrigegobackend.recommendation.dto.SmartRecommendationRequestDto;
 import com.ohgiraffers.refrigegobackend.recommendation.dto.SmartRecommendationResponseDto;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.cache.RecommendationResponseCache;
+import com.ohgiraffers.refrigegobackend.recommendation.service.HedgedRecommendationService;
 import com.ohgiraffers.refrigegobackend.recommendation.service.RecipeRecommendationService;
+import com.ohgiraffers.refrigegobackend.recommendation.service.ShoppingListService;
+import com.ohgiraffers.refrigegobackend.recommendation.service.UserRecommendationSnapshotService;
 import com.ohgiraffers.refrigegobackend.user.dto.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -33,9 +41,17 @@ import java.util.Optional;
 // CORS는 CorsConfig에서 전역 설정됨
 public class RecipeRecommendationController {
 
+    // 클라이언트가 응답을 기다릴 수 있는 남은 시간 (ms), 없으면 서버 기본 예산 사용
+    static final String DEADLINE_HEADER = "X-Request-Deadline-Ms";
+
     private final RecipeRecommendationService recommendationService;
     private final RecipeRecommendationService recipeRecommendationService;
     private final AiRecommendationService aiRecommendationService; // AI 추천 서비스 추가
+    private final RecommendationResponseCache recommendationResponseCache;
+    private final UserRecommendationSnapshotService userRecommendationSnapshotService;
+    private final HedgedRecommendationService hedgedRecommendationService;
+    private final ShoppingListService shoppingListService;
+    private final AiServerHealthMonitor aiServerHealthMonitor;
 
     /**
      * 선택한 재료 기반 레시피 추천 API (AI 서버 우선)
@@ -61,6 +77,8 @@ public class RecipeRecommendationController {
                 log.info("인증된 사용자의 레시피 추천 요청 - 사용자 ID: {}, 선택한 재료: {}", 
                         currentUserId, requestDto.getSelectedIngredients());
             } else {
+                // 요청 본문의 userId 는 신뢰하지 않음 (다른 사용자의 찜 목록 노출 방지)
+                requestDto.setUserId(null);
                 log.info("익명 사용자의 레시피 추천 요청 - 선택한 재료: {}", requestDto.getSelectedIngredients());
             }
 
@@ -80,6 +98,12 @@ public class RecipeRecommendationController {
                 throw new IllegalArgumentException("최소 1개 이상의 재료를 선택해주세요.");
             }
 
+            // 헤징 모드: AI / 로컬 추천 동시 실행, AI 결과가 예산 안에 오면 AI 결과 사용
+            if (hedgedRecommendationService.isEnabled()) {
+                log.info("유효성 검증 통과 - AI / 로컬 추천 동시 실행");
+                return ResponseEntity.ok(hedgedRecommendationService.recommend(requestDto));
+            }
+
             log.info("유효성 검증 통과 - AI 서버 추천 시도");
             
             // AI 서버 우선 사용, 실패 시 기존 MySQL 방식으로 fallback
@@ -121,7 +145,8 @@ public class RecipeRecommendationController {
         
         log.info("레시피 상세 조회 요청 - 레시피: {}", recipeId);
 
-        RecommendedRecipeDto recipeDetail = recommendationService.getRecipeDetail(recipeId);
+        RecommendedRecipeDto recipeDetail = recommendationService.getRecipeDetail(recipeId,
+                SecurityUtil.getCurrentUserId());
         
         return ResponseEntity.ok(recipeDetail);
     }
@@ -130,8 +155,11 @@ public class RecipeRecommendationController {
      * 특정 사용자의 냉장고 재료 기반 자동 추천 API
      * GET /api/recommendations/auto/{userId}
      * 
+     * - 사용자별 추천 스냅샷을 키로 한 번 조회해서 응답 (없거나 오래되었으면 다시 계산)
+     * - 로그인한 본인의 추천만 조회 가능 (비회원이거나 다른 사용자 ID면 403)
+     * 
      * @param userId 사용자 ID
-     * @param limit 최대 추천 개수 (기본값: 5)
+     * @param limit 최대 추천 개수 (기본값: 5, 최대 20)
      * @return 자동 추천된 레시피 목록
      */
     @GetMapping("/auto/{userId}")
@@ -141,8 +169,55 @@ public class RecipeRecommendationController {
         
         log.info("자동 레시피 추천 요청 - 사용자: {}, 제한: {}", userId, limit);
 
-        // TODO: 사용자의 UserIngredient 조회 후 추천 로직 구현
-        throw new RuntimeException("자동 추천 기능은 사용자 재료 관리 기능과 연동 후 구현 예정입니다.");
+        Long parsedUserId;
+        try {
+            parsedUserId = Long.valueOf(userId);
+        } catch (NumberFormatException e) {
+            log.error("잘못된 사용자 ID: {}", userId);
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (!isCurrentUser(parsedUserId)) {
+            log.warn("다른 사용자의 자동 추천 조회 거부 - 요청 사용자: {}, 로그인 사용자: {}",
+                    parsedUserId, SecurityUtil.getCurrentUserId());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return ResponseEntity.ok(userRecommendationSnapshotService.getAutoRecommendations(parsedUserId, limit));
+    }
+
+    /**
+     * 장보기 목록 API
+     * GET /api/recommendations/shopping-list/{userId}?maxItems=3
+     * 
+     * - 냉장고 기준으로 적은 재료를 사서 새로 만들 수 있는 레시피를 최대한 늘리는 구매 목록
+     * - 로그인한 본인의 목록만 조회 가능 (비회원이거나 다른 사용자 ID면 403)
+     * 
+     * @param userId 사용자 ID
+     * @param maxItems 구매할 최대 재료 수 (기본값: 3, 최대 10)
+     * @return 구매할 재료와 단계별로 새로 만들 수 있게 되는 레시피
+     */
+    @GetMapping("/shopping-list/{userId}")
+    public ResponseEntity<ShoppingListResponseDto> getShoppingList(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "3") Integer maxItems) {
+
+        try {
+            Long parsedUserId = Long.valueOf(userId);
+            if (!isCurrentUser(parsedUserId)) {
+                log.warn("다른 사용자의 장보기 목록 조회 거부 - 요청 사용자: {}, 로그인 사용자: {}",
+                        parsedUserId, SecurityUtil.getCurrentUserId());
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            return ResponseEntity.ok(shoppingListService.getShoppingList(parsedUserId, maxItems));
+        } catch (IllegalArgumentException e) {
+            // 숫자가 아닌 사용자 ID(NumberFormatException) 포함
+            log.error("장보기 목록 입력 값 오류 - 사용자: {}, 오류: {}", userId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            log.warn("장보기 목록 계산 불가: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
     }
 
     /**
@@ -163,8 +238,10 @@ public class RecipeRecommendationController {
                 throw new IllegalArgumentException("선택한 재료가 없습니다.");
             }
 
+            Long currentUserId = SecurityUtil.getCurrentUserId();
             RecipeRecommendationResponseDto response = recommendationService
-                    .recommendByMainIngredients(requestDto.getSelectedIngredients());
+                    .recommendByMainIngredients(requestDto.getSelectedIngredients(),
+                            currentUserId != null ? String.valueOf(currentUserId) : null);
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -188,10 +265,13 @@ public class RecipeRecommendationController {
     /**
      * 스마트 레시피 추천 API (유통기한 고려)
      * POST /api/recommendations/smart
+     * 
+     * - X-Request-Deadline-Ms 헤더(또는 기본 예산) 안에 끝나지 않으면 그때까지의 결과를 partial=true 로 응답
      */
     @PostMapping("/smart")
     public ResponseEntity<SmartRecommendationResponseDto> recommendRecipesSmart(
-            @RequestBody SmartRecommendationRequestDto requestDto) {
+            @RequestBody SmartRecommendationRequestDto requestDto,
+            @RequestHeader(value = DEADLINE_HEADER, required = false) Long deadlineMillis) {
         
         try {
             log.info("=== 스마트 레시피 추천 요청 시작 ===");
@@ -204,6 +284,8 @@ public class RecipeRecommendationController {
                 requestDto.setUserId(String.valueOf(currentUserId));
                 log.info("인증된 사용자의 스마트 추천 요청 - 사용자 ID: {}", currentUserId);
             } else {
+                // 요청 본문의 userId 는 신뢰하지 않음 (다른 사용자의 냉장고/찜 목록 노출 방지)
+                requestDto.setUserId(null);
                 log.info("익명 사용자의 스마트 추천 요청");
             }
             
@@ -212,9 +294,11 @@ public class RecipeRecommendationController {
                 throw new IllegalArgumentException("선택한 재료가 없습니다.");
             }
             
-            SmartRecommendationResponseDto response = recommendationService.recommendRecipesSmart(requestDto);
+            SmartRecommendationResponseDto response = recommendationService.recommendRecipesSmart(requestDto,
+                    recommendationService.deadlineFor(deadlineMillis));
             
-            log.info("스마트 레시피 추천 완료 - 추천된 레시피 수: {}", response.getTotalCount());
+            log.info("스마트 레시피 추천 완료 - 추천된 레시피 수: {}, 부분 결과: {}",
+                    response.getTotalCount(), response.isPartial());
             
             return ResponseEntity.ok(response);
             
@@ -227,6 +311,41 @@ public class RecipeRecommendationController {
         }
     }
 
+    /**
+     * 임박 재료 소진 추천 API (유통기한이 임박한 재료를 가장 많이 쓰는 레시피 순)
+     * POST /api/recommendations/use-it-up
+     * 
+     * - 스마트 추천과 같이 마감 헤더를 받아 부분 결과(partial=true)를 반환할 수 있음
+     */
+    @PostMapping("/use-it-up")
+    public ResponseEntity<SmartRecommendationResponseDto> recommendUseItUp(
+            @RequestBody SmartRecommendationRequestDto requestDto,
+            @RequestHeader(value = DEADLINE_HEADER, required = false) Long deadlineMillis) {
+
+        try {
+            // 요청 본문의 userId 는 신뢰하지 않고 로그인 사용자 ID만 사용 (비회원이면 null)
+            Long currentUserId = SecurityUtil.getCurrentUserId();
+            requestDto.setUserId(currentUserId != null ? String.valueOf(currentUserId) : null);
+
+            if (requestDto.getSelectedIngredients() == null || requestDto.getSelectedIngredients().isEmpty()) {
+                throw new IllegalArgumentException("선택한 재료가 없습니다.");
+            }
+
+            SmartRecommendationResponseDto response = recommendationService.recommendUseItUp(requestDto,
+                    recommendationService.deadlineFor(deadlineMillis));
+            log.info("임박 재료 소진 추천 완료 - 추천된 레시피 수: {}, 부분 결과: {}",
+                    response.getTotalCount(), response.isPartial());
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.error("입력 값 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("임박 재료 소진 추천 중 예상치 못한 오류 발생: ", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * AI 서버 상태 확인 API
      * GET /api/recommendations/ai-status
@@ -249,4 +368,39 @@ public class RecipeRecommendationController {
             ));
         }
     }
+
+    /**
+     * 추천 응답 캐시 통계 API (적중/미스/제거 횟수)
+     * GET /api/recommendations/cache-stats
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<Map<String, BoundedTtlCache.Stats>> getCacheStats() {
+        return ResponseEntity.ok(recommendationResponseCache.getStats());
+    }
+
+    /**
+     * AI / 로컬 추천 동시 실행 통계 API (채택 경로별 횟수, AI 응답 시간)
+     * GET /api/recommendations/hedge-stats
+     */
+    @GetMapping("/hedge-stats")
+    public ResponseEntity<HedgedRecommendationService.Stats> getHedgeStats() {
+        return ResponseEntity.ok(hedgedRecommendationService.getStats());
+    }
+
+    /**
+     * AI 서버 회로 차단기 통계 API (현재 상태, 상태 전환 횟수, 헬스체크 결과)
+     * GET /api/recommendations/ai-breaker-stats
+     */
+    @GetMapping("/ai-breaker-stats")
+    public ResponseEntity<AiServerHealthMonitor.Stats> getAiBreakerStats() {
+        return ResponseEntity.ok(aiServerHealthMonitor.getStats());
+    }
+
+    /**
+     * 경로의 사용자 ID가 로그인한 사용자 본인인지 확인 (비회원이면 false)
+     */
+    private boolean isCurrentUser(Long userId) {
+        Long currentUserId = SecurityUtil.getCurrentUserId();
+        return currentUserId != null && currentUserId.equals(userId);
+    }
 }
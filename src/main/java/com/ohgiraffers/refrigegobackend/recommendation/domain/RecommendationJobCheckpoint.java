@@ -0,0 +1,100 @@
+package com.ohgiraffers.refrigegobackend.recommendation.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 레시피 추천 작업 진행 상황 (MongoDB)
+ * - 작업일 단위로 하나씩 생성, 사용자 묶음(chunk)을 처리할 때마다 마지막 사용자 ID를 기록
+ * - 서버가 중간에 내려가도 다음 실행 시 lastUserId 다음 사용자부터 이어서 처리
+ * - 여러 인스턴스가 같은 작업을 동시에 처리하지 않도록 owner / leaseUntil 로 잠금
+ *   (findAndModify 로 획득, 묶음마다 연장, 서버가 죽어 연장되지 않으면 만료 후 다른 인스턴스가 가져감)
+ */
+@Document(collection = "recommendation_job_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+public class RecommendationJobCheckpoint {
+
+    // 작업명:작업일 (ex. daily-recipe:2025-01-01)
+    @Id
+    private String id;
+
+    @Field("jobDate")
+    private LocalDate jobDate;
+
+    // 마지막으로 처리가 끝난 사용자 ID (처음에는 0)
+    @Field("lastUserId")
+    private Long lastUserId;
+
+    @Field("processedUsers")
+    private long processedUsers;
+
+    @Field("recommendedUsers")
+    private long recommendedUsers;
+
+    @Field("failedUsers")
+    private long failedUsers;
+
+    @Field("completed")
+    private boolean completed;
+
+    @Field("startedAt")
+    private LocalDateTime startedAt;
+
+    @Field("updatedAt")
+    private LocalDateTime updatedAt;
+
+    @Field("completedAt")
+    private LocalDateTime completedAt;
+
+    // 작업을 처리 중인 인스턴스 (처리 중이 아니면 null)
+    @Field("owner")
+    private String owner;
+
+    // 잠금 만료 시각 (이 시각이 지나면 다른 인스턴스가 가져갈 수 있음)
+    @Field("leaseUntil")
+    private LocalDateTime leaseUntil;
+
+    public static RecommendationJobCheckpoint start(String id, LocalDate jobDate) {
+        RecommendationJobCheckpoint checkpoint = new RecommendationJobCheckpoint();
+        checkpoint.id = id;
+        checkpoint.jobDate = jobDate;
+        checkpoint.lastUserId = 0L;
+        checkpoint.startedAt = LocalDateTime.now();
+        checkpoint.updatedAt = checkpoint.startedAt;
+        return checkpoint;
+    }
+
+    /**
+     * 사용자 묶음 하나 처리 완료 기록
+     */
+    public void advance(Long lastUserId, int processed, int recommended, int failed) {
+        this.lastUserId = lastUserId;
+        this.processedUsers += processed;
+        this.recommendedUsers += recommended;
+        this.failedUsers += failed;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 잠금 연장 (묶음 진행 상황과 함께 저장)
+     */
+    public void renewLease(Duration lease) {
+        this.leaseUntil = LocalDateTime.now().plus(lease);
+    }
+
+    public void complete() {
+        this.completed = true;
+        this.completedAt = LocalDateTime.now();
+        this.updatedAt = this.completedAt;
+    }
+}
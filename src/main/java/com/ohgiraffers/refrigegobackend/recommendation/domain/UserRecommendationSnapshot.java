@@ -0,0 +1,59 @@
+package com.ohgiraffers.refrigegobackend.recommendation.domain;
+
+import com.ohgiraffers.refrigegobackend.recommendation.dto.RecommendedRecipeDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자별 자동 추천 결과 스냅샷 (MongoDB)
+ * - 사용자당 문서 하나, 응답에 필요한 레시피 정보까지 모두 담아 조회 시 조인 없이 키 조회 한 번으로 응답
+ * - 냉장고 변경 이벤트와 일괄 추천 작업에서 갱신하고, 오래된 스냅샷은 조회 시 다시 계산
+ */
+@Document(collection = "user_recommendation_snapshots")
+@Getter
+@NoArgsConstructor
+public class UserRecommendationSnapshot {
+
+    @Id
+    private Long userId;
+
+    // 계산에 사용한 냉장고 재료명
+    @Field("fridgeNames")
+    private List<String> fridgeNames;
+
+    // 추천 순위 순 레시피 (상위 N개)
+    @Field("recipes")
+    private List<RecommendedRecipeDto> recipes;
+
+    // 갱신 경로 (EVENT / NIGHTLY / ON_DEMAND)
+    @Field("source")
+    private String source;
+
+    @Field("computedAt")
+    private LocalDateTime computedAt;
+
+    public static UserRecommendationSnapshot of(Long userId, List<String> fridgeNames,
+                                                List<RecommendedRecipeDto> recipes, String source) {
+        UserRecommendationSnapshot snapshot = new UserRecommendationSnapshot();
+        snapshot.userId = userId;
+        snapshot.fridgeNames = fridgeNames;
+        snapshot.recipes = recipes;
+        snapshot.source = source;
+        snapshot.computedAt = LocalDateTime.now();
+        return snapshot;
+    }
+
+    /**
+     * 계산 후 maxAge가 지났는지
+     */
+    public boolean isStale(Duration maxAge) {
+        return computedAt == null || computedAt.plus(maxAge).isBefore(LocalDateTime.now());
+    }
+}
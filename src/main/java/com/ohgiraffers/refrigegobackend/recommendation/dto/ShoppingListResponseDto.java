@@ -0,0 +1,42 @@
+package com.ohgiraffers.refrigegobackend.recommendation.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * 장보기 목록 응답 DTO (적은 재료로 새로 만들 수 있는 레시피를 최대한 늘리는 구매 목록)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShoppingListResponseDto {
+
+    private List<String> ingredientsToBuy;   // 구매할 재료 (고른 순서)
+    private List<ShoppingStep> steps;        // 단계별 구매 묶음
+    private Integer cookableNowCount;        // 지금 바로 만들 수 있는 레시피 수
+    private Integer unlockedRecipeCount;     // 구매 후 새로 만들 수 있는 레시피 수
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ShoppingStep {
+        private List<String> ingredients;
+        private List<UnlockedRecipe> unlockedRecipes;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class UnlockedRecipe {
+        private String recipeId;
+        private String recipeName;
+        private String imageUrl;
+    }
+}
@@ -21,6 +21,7 @@ public class SmartRecommendationResponseDto {
     private List<String> selectedIngredients;
     private SmartCategoryInfo categoryInfo;
     private List<String> urgentIngredients; // 빨리 사용해야 할 재료
+    private boolean partial; // 처리 마감으로 일부 후보만 반영된 결과 (순위는 반영된 후보 안에서 매김)
     
     @Data
     @NoArgsConstructor
@@ -0,0 +1,18 @@
+package com.ohgiraffers.refrigegobackend.recommendation.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 추천 인덱스 재구성 완료 이벤트
+ * - 새 행렬/이웃 테이블로 교체한 직후 발행
+ * - 인덱스로 계산한 결과를 보관하는 캐시는 카탈로그 변경 이벤트가 아닌 이 이벤트로 비워야
+ *   재구성 전 행렬로 다시 채워지지 않음
+ */
+@Getter
+@RequiredArgsConstructor
+public class RecipeIndexRebuiltEvent {
+
+    // 새 인덱스의 레시피 수
+    private final int recipeCount;
+}
@@ -0,0 +1,79 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.cache;
+
+import java.util.*;
+
+/**
+ * 추천 응답 캐시 키
+ * - 표준 재료 ID를 정렬·중복 제거한 집합 + 추천 개수
+ * - 선택 순서나 중복 선택과 무관하게 같은 재료 조합이면 같은 키
+ * - 표준 재료 테이블에 없는 재료명은 AI 추천 결과에 영향을 주므로 정규화해 함께 보관
+ */
+public final class RecommendationCacheKey {
+
+    private final long[] ingredientIds;
+    private final List<String> unresolvedNames;
+    private final int limit;
+    private final int hash;
+
+    private RecommendationCacheKey(long[] ingredientIds, List<String> unresolvedNames, int limit) {
+        this.ingredientIds = ingredientIds;
+        this.unresolvedNames = unresolvedNames;
+        this.limit = limit;
+        this.hash = 31 * (31 * Arrays.hashCode(ingredientIds) + unresolvedNames.hashCode()) + limit;
+    }
+
+    /**
+     * 표준 재료 ID만으로 키 생성
+     */
+    public static RecommendationCacheKey of(Collection<Long> ingredientIds, int limit) {
+        return of(ingredientIds, List.of(), limit);
+    }
+
+    /**
+     * 표준 재료 ID + 표준 재료 테이블에 없는 재료명으로 키 생성
+     */
+    public static RecommendationCacheKey of(Collection<Long> ingredientIds, Collection<String> unresolvedNames, int limit) {
+        long[] ids = ingredientIds.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        List<String> names = unresolvedNames.stream()
+                .filter(Objects::nonNull)
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .filter(name -> !name.isEmpty())
+                .sorted()
+                .distinct()
+                .toList();
+        return new RecommendationCacheKey(ids, names, limit);
+    }
+
+    public boolean isEmpty() {
+        return ingredientIds.length == 0 && unresolvedNames.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RecommendationCacheKey other)) {
+            return false;
+        }
+        return limit == other.limit
+                && Arrays.equals(ingredientIds, other.ingredientIds)
+                && unresolvedNames.equals(other.unresolvedNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "RecommendationCacheKey{ingredientIds=" + Arrays.toString(ingredientIds)
+                + ", unresolvedNames=" + unresolvedNames + ", limit=" + limit + "}";
+    }
+}
@@ -0,0 +1,99 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.cache;
+
+import com.ohgiraffers.refrigegobackend.common.util.BoundedTtlCache;
+import com.ohgiraffers.refrigegobackend.ingredient.domain.Ingredient;
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.IngredientRepository;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.RecommendedRecipeDto;
+import com.ohgiraffers.refrigegobackend.recommendation.event.RecipeIndexRebuiltEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 재료 조합별 추천 결과 캐시
+ * - 인기 재료 조합(계란 + 대파 + 양파 등)은 여러 사용자가 반복 요청하므로 계산/AI 호출 결과를 재사용
+ * - 키: 표준 재료 ID 집합 + 추천 개수 ({@link RecommendationCacheKey})
+ * - 값: 추천 레시피 목록 (응답의 selectedIngredients는 요청마다 다르므로 캐시하지 않음)
+ * - 로컬 계산 결과와 AI 서버 결과는 서로 다른 캐시에 보관
+ * - 레시피 카탈로그/레시피-재료 연결 테이블이 바뀌어 추천 인덱스가 재구성되면 전체 무효화
+ */
+@Slf4j
+@Component
+public class RecommendationResponseCache {
+
+    private final IngredientRepository ingredientRepository;
+    private final BoundedTtlCache<RecommendationCacheKey, List<RecommendedRecipeDto>> localCache;
+    private final BoundedTtlCache<RecommendationCacheKey, List<RecommendedRecipeDto>> aiCache;
+
+    public RecommendationResponseCache(IngredientRepository ingredientRepository,
+                                       @Value("${recommendation.cache.max-size:1000}") int maxSize,
+                                       @Value("${recommendation.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.ingredientRepository = ingredientRepository;
+        this.localCache = new BoundedTtlCache<>(maxSize, ttlSeconds * 1000);
+        this.aiCache = new BoundedTtlCache<>(maxSize, ttlSeconds * 1000);
+    }
+
+    /**
+     * 재료명 목록으로 캐시 키 생성
+     * - 한 번의 IN 쿼리로 표준 재료 ID를 찾고, 찾지 못한 재료명은 그대로 키에 포함
+     */
+    public RecommendationCacheKey resolveKey(List<String> ingredientNames, Integer limit) {
+        List<Ingredient> ingredients = ingredientRepository.findByNameIn(ingredientNames);
+
+        Set<String> foundNames = new HashSet<>();
+        List<Long> ingredientIds = new ArrayList<>(ingredients.size());
+        for (Ingredient ingredient : ingredients) {
+            foundNames.add(ingredient.getName());
+            ingredientIds.add(ingredient.getId());
+        }
+        List<String> unresolvedNames = ingredientNames.stream()
+                .filter(name -> !foundNames.contains(name))
+                .toList();
+
+        return RecommendationCacheKey.of(ingredientIds, unresolvedNames, limit != null ? limit : 10);
+    }
+
+    public List<RecommendedRecipeDto> getLocal(RecommendationCacheKey key) {
+        return localCache.get(key);
+    }
+
+    public void putLocal(RecommendationCacheKey key, List<RecommendedRecipeDto> recipes) {
+        localCache.put(key, List.copyOf(recipes));
+    }
+
+    public List<RecommendedRecipeDto> getAi(RecommendationCacheKey key) {
+        return aiCache.get(key);
+    }
+
+    public void putAi(RecommendationCacheKey key, List<RecommendedRecipeDto> recipes) {
+        aiCache.put(key, List.copyOf(recipes));
+    }
+
+    /**
+     * 추천 인덱스 재구성 완료 시 전체 무효화
+     * - 카탈로그 변경 이벤트로 비우면 인덱스가 교체되기 전 요청이 이전 행렬 결과로 다시 채울 수 있음
+     */
+    @EventListener
+    public void onRecipeIndexRebuilt(RecipeIndexRebuiltEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        localCache.invalidateAll();
+        aiCache.invalidateAll();
+        log.info("추천 응답 캐시 무효화");
+    }
+
+    /**
+     * 캐시 통계 (local: 로컬 계산 결과, ai: AI 서버 결과)
+     */
+    public Map<String, BoundedTtlCache.Stats> getStats() {
+        Map<String, BoundedTtlCache.Stats> stats = new LinkedHashMap<>();
+        stats.put("local", localCache.getStats());
+        stats.put("ai", aiCache.getStats());
+        return stats;
+    }
+}
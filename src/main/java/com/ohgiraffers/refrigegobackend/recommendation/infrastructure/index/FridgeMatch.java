@@ -0,0 +1,44 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 냉장고 재료 기준 레시피 매칭 결과 (비트셋 행렬 계산 결과)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class FridgeMatch {
+
+    // 행렬 내 레시피 번호 (같은 행렬의 재료명 조회용)
+    private final int recipeOrdinal;
+
+    private final String recipeId;
+
+    private final String recipeName;
+
+    // 레시피의 전체 재료 수
+    private final int totalIngredients;
+
+    // 냉장고에 있는 재료 수
+    private final int matchedIngredients;
+
+    // 냉장고에 있는 주재료 수
+    private final int matchedMainIngredients;
+
+    /**
+     * 부족한 재료 수
+     */
+    public int getMissingIngredients() {
+        return totalIngredients - matchedIngredients;
+    }
+
+    /**
+     * 매칭 비율 (0.0 ~ 1.0)
+     */
+    public double getMatchRatio() {
+        return totalIngredients > 0 ? (double) matchedIngredients / totalIngredients : 0.0;
+    }
+}
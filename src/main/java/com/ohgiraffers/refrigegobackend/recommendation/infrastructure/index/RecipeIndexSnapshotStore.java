@@ -0,0 +1,233 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index;
+
+import com.ohgiraffers.refrigegobackend.recipe.dto.response.RecipeSummaryDTO;
+import com.ohgiraffers.refrigegobackend.recipe.infrastructure.repository.RecipeRepository;
+import com.ohgiraffers.refrigegobackend.recipe.service.RecipeSummaryService;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository.RecipeIngredientRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 추천 인덱스 디스크 스냅샷
+ * - 인덱스 구성 결과(비트셋 행렬, 이웃 테이블)와 인덱스 레시피의 요약 정보를 버전이 붙은 파일 하나로 저장
+ * - 기동 시 파일을 메모리 매핑해 배열 단위로 읽으므로 recipe_ingredients 전체 조회와 이웃 계산 없이 바로 서비스
+ * - 파일 형식 버전, 이웃 수, 카탈로그 버전(버전 행 + 연결/레시피 수 한 행) 중 하나라도 다르거나 파일이 손상되었으면 사용하지 않음
+ * - 형식이나 인덱스 계산 방식이 바뀌면 FORMAT_VERSION 을 올려 이전 파일을 무효화
+ * - 기본 경로는 사용자 홈 아래 (컨테이너 배포 시에는 영구 볼륨을 마운트하고 recommendation.index.snapshot.path 로 지정,
+ *   임시 디렉터리는 재시작 때 비워질 수 있어 스냅샷을 쓰는 의미가 없음)
+ *
+ * 파일 구성: [MAGIC, FORMAT_VERSION, 카탈로그 버전, 이웃 수, 본문 CRC32, 본문 길이] + 본문(행렬, 이웃 테이블, 요약 정보)
+ */
+@Slf4j
+@Component
+public class RecipeIndexSnapshotStore {
+
+    static final int MAGIC = 0x52494458; // "RIDX"
+    static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = Integer.BYTES * 4 + Long.BYTES * 2;
+
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final RecipeRepository recipeRepository;
+    private final RecipeSummaryService recipeSummaryService;
+    private final boolean enabled;
+    private final Path path;
+
+    public RecipeIndexSnapshotStore(RecipeIngredientRepository recipeIngredientRepository,
+                                    RecipeRepository recipeRepository,
+                                    RecipeSummaryService recipeSummaryService,
+                                    @Value("${recommendation.index.snapshot.enabled:true}") boolean enabled,
+                                    @Value("${recommendation.index.snapshot.path:${user.home}/.refrigego/recommendation-index.snapshot}") String path) {
+        this.recipeIngredientRepository = recipeIngredientRepository;
+        this.recipeRepository = recipeRepository;
+        this.recipeSummaryService = recipeSummaryService;
+        this.enabled = enabled;
+        this.path = Paths.get(path);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 현재 DB 카탈로그 버전 (버전 행, 연결 수, 레시피 수를 하나로 섞은 값)
+     */
+    public long catalogVersion() {
+        List<Object[]> rows = recipeIngredientRepository.findCatalogVersion();
+        if (rows.isEmpty()) {
+            return 0L;
+        }
+        long version = 17;
+        for (Object value : rows.get(0)) {
+            version = version * 1_000_003L + (value != null ? ((Number) value).longValue() : 0L);
+        }
+        return version;
+    }
+
+    /**
+     * 스냅샷 파일 로드
+     * - 같은 형식 버전 / 이웃 수 / 카탈로그 버전으로 만든 파일만 사용하며, 요약 정보는 요약 캐시에 채움
+     *
+     * @return 파일이 없거나 사용할 수 없으면 null
+     */
+    public Snapshot load(long expectedCatalogVersion, int neighborCount) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            log.info("추천 인덱스 스냅샷 없음 - {}", path);
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+                log.warn("추천 인덱스 스냅샷 형식이 아닙니다 - {}", path);
+                return null;
+            }
+            int version = buffer.getInt();
+            long catalogVersion = buffer.getLong();
+            int storedNeighborCount = buffer.getInt();
+            long payloadCrc = buffer.getLong();
+            int payloadLength = buffer.getInt();
+
+            if (version != FORMAT_VERSION || storedNeighborCount != neighborCount || catalogVersion != expectedCatalogVersion) {
+                log.info("추천 인덱스 스냅샷 불일치 - 버전: {}/{}, 카탈로그 버전 일치: {}",
+                        version, FORMAT_VERSION, catalogVersion == expectedCatalogVersion);
+                return null;
+            }
+            if (payloadLength != buffer.remaining()) {
+                log.warn("추천 인덱스 스냅샷 길이 불일치 - 기록 {}B, 실제 {}B", payloadLength, buffer.remaining());
+                return null;
+            }
+
+            ByteBuffer payload = buffer.slice();
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if (crc.getValue() != payloadCrc) {
+                log.warn("추천 인덱스 스냅샷 손상 (CRC 불일치) - {}", path);
+                return null;
+            }
+
+            RecipeIngredientMatrix matrix = RecipeIngredientMatrix.readFrom(payload);
+            RecipeNeighborTable neighbors = RecipeNeighborTable.readFrom(payload, matrix.recipeIds());
+            List<RecipeSummaryDTO> summaries = readSummaries(payload);
+            recipeSummaryService.preload(summaries);
+            return new Snapshot(matrix, neighbors, summaries.size());
+        }
+    }
+
+    /**
+     * 스냅샷 파일 저장 (임시 파일에 쓴 뒤 원자적으로 교체)
+     * - 요약 정보는 요약 캐시가 아닌 DB에서 읽어 카탈로그 변경 직후에도 이전 값이 섞이지 않게 함
+     *
+     * @param catalogVersion 인덱스를 구성하기 전에 읽은 카탈로그 버전
+     *                       (구성 도중 카탈로그가 바뀌면 다음 기동 시 버전이 달라 다시 구성됨)
+     */
+    public void save(long catalogVersion, int neighborCount, RecipeIngredientMatrix matrix,
+                     RecipeNeighborTable neighbors) throws IOException {
+        List<String> recipeIds = new ArrayList<>(matrix.getRecipeCount());
+        for (int recipe = 0; recipe < matrix.getRecipeCount(); recipe++) {
+            recipeIds.add(matrix.recipeIdOf(recipe));
+        }
+        List<RecipeSummaryDTO> summaries = new ArrayList<>(recipeIds.size());
+        if (!recipeIds.isEmpty()) {
+            for (Object[] row : recipeRepository.findSummariesByRcpSeqIn(recipeIds)) {
+                summaries.add(RecipeSummaryDTO.fromRow(row));
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 20);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            matrix.writeTo(out);
+            neighbors.writeTo(out);
+            writeSummaries(out, summaries);
+        }
+        byte[] payload = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(catalogVersion)
+                .putInt(neighborCount)
+                .putLong(crc.getValue())
+                .putInt(payload.length);
+        header.flip();
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer body = ByteBuffer.wrap(payload);
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+                while (body.hasRemaining()) {
+                    channel.write(body);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        recipeSummaryService.preload(summaries);
+        log.info("추천 인덱스 스냅샷 저장 - {}, {}KB, 요약 {}건", path, (HEADER_BYTES + payload.length) / 1024, summaries.size());
+    }
+
+    private static void writeSummaries(DataOutputStream out, List<RecipeSummaryDTO> summaries) throws IOException {
+        out.writeInt(summaries.size());
+        for (RecipeSummaryDTO summary : summaries) {
+            IndexSnapshotCodec.writeString(out, summary.getRcpSeq());
+            IndexSnapshotCodec.writeString(out, summary.getRcpNm());
+            IndexSnapshotCodec.writeString(out, summary.getRcpPartsDtls());
+            IndexSnapshotCodec.writeString(out, summary.getManual01());
+            IndexSnapshotCodec.writeString(out, summary.getManual02());
+            IndexSnapshotCodec.writeString(out, summary.getImage());
+        }
+    }
+
+    private static List<RecipeSummaryDTO> readSummaries(ByteBuffer in) {
+        int count = in.getInt();
+        List<RecipeSummaryDTO> summaries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            summaries.add(new RecipeSummaryDTO(
+                    IndexSnapshotCodec.readString(in),
+                    IndexSnapshotCodec.readString(in),
+                    IndexSnapshotCodec.readString(in),
+                    IndexSnapshotCodec.readString(in),
+                    IndexSnapshotCodec.readString(in),
+                    IndexSnapshotCodec.readString(in)));
+        }
+        return summaries;
+    }
+
+    /**
+     * 스냅샷에서 복원한 인덱스 구성 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final RecipeIngredientMatrix matrix;
+        private final RecipeNeighborTable neighbors;
+        private final int summaryCount;
+    }
+}
@@ -0,0 +1,325 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index;
+
+import com.ohgiraffers.refrigegobackend.common.util.TopKSelector;
+import com.ohgiraffers.refrigegobackend.recipe.event.RecipeCatalogChangedEvent;
+import com.ohgiraffers.refrigegobackend.recommendation.event.RecipeIndexRebuiltEvent;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository.RecipeIngredientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 레시피-재료 인메모리 역색인
+ * - 기동 시 recipe_ingredients 테이블을 한 번 읽어 재료 ID별 포스팅 리스트(레시피 번호 목록)와
+ *   레시피별 재료 수 배열을 구성
+ * - 매칭 비율 계산 시 선택한 재료의 포스팅 리스트만 순회하므로
+ *   처리 시간이 전체 레시피 수가 아닌 선택한 재료 수에 비례
+ * - 같은 데이터로 레시피 × 재료 비트셋 행렬(RecipeIngredientMatrix)과
+ *   유사 레시피 이웃 테이블(RecipeNeighborTable)도 함께 구성
+ * - 구성 결과는 디스크 스냅샷으로 저장해 두고, 다음 기동 시 카탈로그가 같으면 DB 조회 없이 스냅샷에서 복원
+ *   ({@link RecipeIndexSnapshotStore})
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeIngredientIndex {
+
+    /**
+     * 매칭 결과 정렬 기준 (매칭 비율 → 매칭된 재료 수 → 레시피 ID)
+     */
+    public static final Comparator<RecipeMatch> MATCH_ORDER = Comparator
+            .comparingDouble(RecipeMatch::getMatchPercentage).reversed()
+            .thenComparing(Comparator.comparingInt(RecipeMatch::getMatchedIngredients).reversed())
+            .thenComparing(RecipeMatch::getRecipeId);
+
+    // 레시피별로 미리 계산해 둘 유사 레시피 수
+    static final int NEIGHBOR_COUNT = 10;
+
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final RecipeIndexSnapshotStore snapshotStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 재구성 중에도 조회가 가능하도록 완성된 데이터만 통째로 교체
+    private volatile IndexData data;
+
+    /**
+     * 애플리케이션 기동 완료 후 인덱스 구성
+     * - 사용할 수 있는 스냅샷이 있으면 복원하고, 없으면 DB에서 구성
+     * - 실패해도 기동은 계속되며, 준비 전까지는 DB 쿼리로 대체 처리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            if (!restoreFromSnapshot()) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("추천 인덱스 구성 실패 - DB 매칭 쿼리로 대체 처리합니다.", e);
+        }
+    }
+
+    /**
+     * 디스크 스냅샷에서 인덱스 복원
+     *
+     * @return 복원했으면 true (스냅샷이 없거나 형식/카탈로그 버전이 다르면 false)
+     */
+    private synchronized boolean restoreFromSnapshot() {
+        if (!snapshotStore.isEnabled()) {
+            return false;
+        }
+        long startTime = System.currentTimeMillis();
+        try {
+            RecipeIndexSnapshotStore.Snapshot snapshot = snapshotStore.load(snapshotStore.catalogVersion(), NEIGHBOR_COUNT);
+            if (snapshot == null) {
+                return false;
+            }
+            IndexData restored = IndexData.of(snapshot.getMatrix(), snapshot.getNeighbors());
+            this.data = restored;
+
+            log.info("추천 인덱스 스냅샷 복원 완료 - 레시피 {}개, 재료 {}개, 이웃 {}건, 요약 {}건, 소요 {}ms",
+                    restored.recipeIds.length, restored.postings.size(), restored.neighbors.getNeighborCount(),
+                    snapshot.getSummaryCount(), System.currentTimeMillis() - startTime);
+            return true;
+        } catch (Exception e) {
+            log.warn("추천 인덱스 스냅샷 복원 실패 - DB에서 구성합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 레시피 카탈로그 변경 시 인덱스 재구성
+     * - 실패하면 기존 인덱스를 그대로 사용
+     */
+    @EventListener
+    public void onRecipeCatalogChanged(RecipeCatalogChangedEvent event) {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("추천 인덱스 재구성 실패 - 기존 인덱스를 유지합니다.", e);
+        }
+    }
+
+    /**
+     * recipe_ingredients 테이블 전체를 다시 읽어 인덱스 재구성
+     * - 새 인덱스로 교체한 뒤 {@link RecipeIndexRebuiltEvent} 발행 (추천 응답 캐시 무효화)
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+
+        // 카탈로그 버전은 연결 정보를 읽기 전에 조회 (읽는 도중 카탈로그가 바뀌면 다음 기동 시 버전 불일치로 다시 구성)
+        long catalogVersion = snapshotStore.isEnabled() ? snapshotStore.catalogVersion() : 0L;
+
+        List<Object[]> links = recipeIngredientRepository.findAllRecipeIngredientLinks();
+        IndexData built = IndexData.build(links);
+        this.data = built;
+
+        log.info("추천 인덱스 구성 완료 - 레시피 {}개, 재료 {}개, 연결 {}건, 이웃 {}건, 소요 {}ms",
+                built.recipeIds.length, built.postings.size(), links.size(), built.neighbors.getNeighborCount(),
+                System.currentTimeMillis() - startTime);
+        eventPublisher.publishEvent(new RecipeIndexRebuiltEvent(built.recipeIds.length));
+
+        if (snapshotStore.isEnabled()) {
+            try {
+                snapshotStore.save(catalogVersion, NEIGHBOR_COUNT, built.matrix, built.neighbors);
+            } catch (Exception e) {
+                log.warn("추천 인덱스 스냅샷 저장 실패 - 다음 기동 시 DB에서 구성합니다: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 인덱스 사용 가능 여부
+     */
+    public boolean isReady() {
+        return data != null;
+    }
+
+    /**
+     * 현재 레시피 × 재료 비트셋 행렬
+     * - 냉장고 비트셋은 같은 행렬에서 만들어야 하므로 요청 단위로 한 번만 꺼내서 사용
+     */
+    public RecipeIngredientMatrix getMatrix() {
+        return requireData().matrix;
+    }
+
+    /**
+     * 레시피별 유사 레시피 이웃 테이블
+     */
+    public RecipeNeighborTable getNeighbors() {
+        return requireData().neighbors;
+    }
+
+    /**
+     * 선택한 재료 기준 매칭 레시피 조회
+     * - findRecipesByIngredientsWithMatchRatio 쿼리와 같은 결과를 메모리에서 계산
+     * - 정렬: 매칭 비율 → 매칭된 재료 수 → 레시피 ID
+     *
+     * @param ingredientIds 선택한 재료 ID 목록
+     * @param minMatchPercentage 최소 매칭 비율 (0 ~ 100)
+     * @return 매칭 결과 목록
+     */
+    public List<RecipeMatch> findMatches(Collection<Long> ingredientIds, double minMatchPercentage) {
+        return findMatches(ingredientIds, minMatchPercentage, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 선택한 재료 기준 매칭 레시피 상위 limit개 조회
+     * - 전체 결과를 정렬하지 않고 크기 limit의 힙으로 상위 결과만 유지
+     *
+     * @param ingredientIds 선택한 재료 ID 목록
+     * @param minMatchPercentage 최소 매칭 비율 (0 ~ 100)
+     * @param limit 최대 결과 수
+     * @return 정렬된 매칭 결과 목록
+     */
+    public List<RecipeMatch> findMatches(Collection<Long> ingredientIds, double minMatchPercentage, int limit) {
+        IndexData snapshot = requireData();
+
+        // 1. 선택한 재료의 포스팅 리스트를 하나의 배열로 모음 (중복 재료 ID는 한 번만)
+        List<int[]> selectedPostings = new ArrayList<>();
+        int totalHits = 0;
+        for (Long ingredientId : new HashSet<>(ingredientIds)) {
+            int[] posting = snapshot.postings.get(ingredientId);
+            if (posting != null) {
+                selectedPostings.add(posting);
+                totalHits += posting.length;
+            }
+        }
+
+        if (totalHits == 0) {
+            return new ArrayList<>();
+        }
+
+        int[] hits = new int[totalHits];
+        int offset = 0;
+        for (int[] posting : selectedPostings) {
+            System.arraycopy(posting, 0, hits, offset, posting.length);
+            offset += posting.length;
+        }
+        Arrays.sort(hits);
+
+        // 2. 같은 레시피 번호의 연속 구간 길이 = 매칭된 재료 수
+        TopKSelector<RecipeMatch> topMatches = new TopKSelector<>(limit, MATCH_ORDER);
+        int i = 0;
+        while (i < hits.length) {
+            int recipe = hits[i];
+            int j = i;
+            while (j < hits.length && hits[j] == recipe) {
+                j++;
+            }
+
+            int matched = j - i;
+            int total = snapshot.ingredientCounts[recipe];
+            double matchPercentage = matched * 100.0 / total;
+            if (matchPercentage >= minMatchPercentage) {
+                topMatches.offer(new RecipeMatch(snapshot.recipeIds[recipe], snapshot.recipeNames[recipe],
+                        total, matched, matchPercentage));
+            }
+            i = j;
+        }
+
+        return topMatches.toSortedList();
+    }
+
+    private IndexData requireData() {
+        IndexData snapshot = data;
+        if (snapshot == null) {
+            throw new IllegalStateException("추천 인덱스가 아직 구성되지 않았습니다.");
+        }
+        return snapshot;
+    }
+
+    /**
+     * 인덱스 데이터 (구성 후 변경하지 않음)
+     */
+    private static final class IndexData {
+
+        // 레시피 번호(0 ~ n-1) → 레시피 ID / 이름
+        private final String[] recipeIds;
+        private final String[] recipeNames;
+
+        // 레시피 번호 → 레시피의 전체 재료 수
+        private final int[] ingredientCounts;
+
+        // 재료 ID → 해당 재료를 사용하는 레시피 번호 (오름차순)
+        private final Map<Long, int[]> postings;
+
+        // 같은 레시피 번호 체계의 비트셋 행렬
+        private final RecipeIngredientMatrix matrix;
+
+        // 레시피별 유사 레시피 이웃
+        private final RecipeNeighborTable neighbors;
+
+        private IndexData(String[] recipeIds, String[] recipeNames, int[] ingredientCounts,
+                          Map<Long, int[]> postings, RecipeIngredientMatrix matrix, RecipeNeighborTable neighbors) {
+            this.recipeIds = recipeIds;
+            this.recipeNames = recipeNames;
+            this.ingredientCounts = ingredientCounts;
+            this.postings = postings;
+            this.matrix = matrix;
+            this.neighbors = neighbors;
+        }
+
+        /**
+         * [레시피 ID, 레시피명, 재료 ID, 재료명, 주재료 여부] 행 목록으로 인덱스 구성
+         */
+        static IndexData build(List<Object[]> links) {
+            Map<String, Integer> recipeOrdinals = new HashMap<>();
+            List<String> recipeIds = new ArrayList<>();
+            List<String> recipeNames = new ArrayList<>();
+            List<Set<Long>> recipeIngredients = new ArrayList<>();
+            List<Set<Long>> mainIngredients = new ArrayList<>();
+            Map<Long, String> ingredientNames = new HashMap<>();
+
+            for (Object[] link : links) {
+                String recipeId = (String) link[0];
+                Long ingredientId = ((Number) link[2]).longValue();
+
+                Integer recipe = recipeOrdinals.get(recipeId);
+                if (recipe == null) {
+                    recipe = recipeIds.size();
+                    recipeOrdinals.put(recipeId, recipe);
+                    recipeIds.add(recipeId);
+                    recipeNames.add((String) link[1]);
+                    recipeIngredients.add(new HashSet<>());
+                    mainIngredients.add(new HashSet<>());
+                }
+                recipeIngredients.get(recipe).add(ingredientId);
+                if (Boolean.TRUE.equals(link[4])) {
+                    mainIngredients.get(recipe).add(ingredientId);
+                }
+                ingredientNames.putIfAbsent(ingredientId, (String) link[3]);
+            }
+
+            String[] recipeIdArray = recipeIds.toArray(new String[0]);
+            String[] recipeNameArray = recipeNames.toArray(new String[0]);
+
+            return of(
+                    RecipeIngredientMatrix.build(recipeIdArray, recipeNameArray,
+                            recipeIngredients, mainIngredients, ingredientNames),
+                    RecipeNeighborTable.build(recipeIdArray, recipeIngredients, mainIngredients, NEIGHBOR_COUNT)
+            );
+        }
+
+        /**
+         * 행렬과 이웃 테이블로 인덱스 구성 (DB 구성 / 스냅샷 복원 공통)
+         * - 포스팅 리스트와 레시피별 재료 수는 행렬의 열별 레시피 목록 / 행별 재료 수를 그대로 사용
+         */
+        static IndexData of(RecipeIngredientMatrix matrix, RecipeNeighborTable neighbors) {
+            int recipeCount = matrix.getRecipeCount();
+            String[] recipeIds = new String[recipeCount];
+            String[] recipeNames = new String[recipeCount];
+            int[] ingredientCounts = new int[recipeCount];
+            for (int recipe = 0; recipe < recipeCount; recipe++) {
+                recipeIds[recipe] = matrix.recipeIdOf(recipe);
+                recipeNames[recipe] = matrix.recipeNameOf(recipe);
+                ingredientCounts[recipe] = matrix.ingredientCountOf(recipe);
+            }
+            return new IndexData(recipeIds, recipeNames, ingredientCounts, matrix.postingsById(), matrix, neighbors);
+        }
+    }
+}
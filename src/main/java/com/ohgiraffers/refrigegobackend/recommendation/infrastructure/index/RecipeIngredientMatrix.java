@@ -0,0 +1,451 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * 레시피 × 재료 비트셋 행렬
+ * - 레시피마다 재료 열 수만큼의 비트를 long[]으로 저장 (약 1,100 레시피 × 700 재료 ≈ 100KB)
+ * - 사용자 냉장고도 같은 열 기준 비트셋으로 만든 뒤 AND + Long.bitCount로
+ *   보유 재료 수 / 부족 재료 수를 계산하므로 SQL 없이 전체 레시피를 채점
+ * - 인덱스 재구성 시 통째로 새로 만들며, 구성 후에는 변경하지 않음
+ */
+public final class RecipeIngredientMatrix {
+
+    // 레시피 번호 → 레시피 ID / 이름
+    private final String[] recipeIds;
+    private final String[] recipeNames;
+    private final Map<String, Integer> recipeOrdinals;
+
+    // 열 번호 → 재료 ID / 재료명
+    private final long[] ingredientIds;
+    private final String[] ingredientNames;
+    private final Map<Long, Integer> columnsById;
+    private final Map<String, Integer> columnsByName;
+
+    // 레시피 한 행의 long 개수
+    private final int words;
+
+    // 레시피 번호 * words 위치부터 한 행 (전체 재료 / 주재료)
+    private final long[] ingredientBits;
+    private final long[] mainIngredientBits;
+
+    // 레시피 번호 → 전체 재료 수
+    private final int[] ingredientCounts;
+
+    // 열 번호 → 해당 재료를 사용하는 레시피 번호 (오름차순, 증분 채점용)
+    private final int[][] recipesByColumn;
+
+    private RecipeIngredientMatrix(String[] recipeIds, String[] recipeNames, long[] ingredientIds,
+                                   String[] ingredientNames, long[] ingredientBits, long[] mainIngredientBits,
+                                   int[] ingredientCounts) {
+        this.recipeIds = recipeIds;
+        this.recipeNames = recipeNames;
+        this.ingredientIds = ingredientIds;
+        this.ingredientNames = ingredientNames;
+        this.words = wordsFor(ingredientIds.length);
+        this.ingredientBits = ingredientBits;
+        this.mainIngredientBits = mainIngredientBits;
+        this.ingredientCounts = ingredientCounts;
+
+        this.recipeOrdinals = new HashMap<>(recipeIds.length * 2);
+        for (int recipe = 0; recipe < recipeIds.length; recipe++) {
+            recipeOrdinals.put(recipeIds[recipe], recipe);
+        }
+        this.columnsById = new HashMap<>(ingredientIds.length * 2);
+        this.columnsByName = new HashMap<>(ingredientIds.length * 2);
+        for (int column = 0; column < ingredientIds.length; column++) {
+            columnsById.put(ingredientIds[column], column);
+            if (ingredientNames[column] != null) {
+                columnsByName.putIfAbsent(ingredientNames[column], column);
+            }
+        }
+
+        int[] postingSizes = new int[ingredientIds.length];
+        for (int recipe = 0; recipe < recipeIds.length; recipe++) {
+            forEachColumn(ingredientBits, recipe, column -> postingSizes[column]++);
+        }
+        this.recipesByColumn = new int[ingredientIds.length][];
+        for (int column = 0; column < ingredientIds.length; column++) {
+            recipesByColumn[column] = new int[postingSizes[column]];
+        }
+        int[] filled = new int[ingredientIds.length];
+        for (int recipe = 0; recipe < recipeIds.length; recipe++) {
+            int current = recipe;
+            forEachColumn(ingredientBits, recipe, column -> recipesByColumn[column][filled[column]++] = current);
+        }
+    }
+
+    /**
+     * 레시피별 재료 집합으로 행렬 구성
+     *
+     * @param recipeIds 레시피 번호 순 레시피 ID
+     * @param recipeNames 레시피 번호 순 레시피명
+     * @param recipeIngredients 레시피 번호 순 재료 ID 집합
+     * @param mainIngredients 레시피 번호 순 주재료 ID 집합
+     * @param ingredientNameById 재료 ID → 재료명
+     */
+    static RecipeIngredientMatrix build(String[] recipeIds, String[] recipeNames,
+                                        List<Set<Long>> recipeIngredients, List<Set<Long>> mainIngredients,
+                                        Map<Long, String> ingredientNameById) {
+        // 재료 ID 오름차순으로 열 번호 부여
+        long[] ingredientIds = ingredientNameById.keySet().stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        String[] ingredientNames = new String[ingredientIds.length];
+        Map<Long, Integer> columns = new HashMap<>(ingredientIds.length * 2);
+        for (int column = 0; column < ingredientIds.length; column++) {
+            ingredientNames[column] = ingredientNameById.get(ingredientIds[column]);
+            columns.put(ingredientIds[column], column);
+        }
+
+        int words = wordsFor(ingredientIds.length);
+        long[] ingredientBits = new long[recipeIds.length * words];
+        long[] mainIngredientBits = new long[recipeIds.length * words];
+        int[] ingredientCounts = new int[recipeIds.length];
+
+        for (int recipe = 0; recipe < recipeIds.length; recipe++) {
+            int base = recipe * words;
+            for (Long ingredientId : recipeIngredients.get(recipe)) {
+                int column = columns.get(ingredientId);
+                ingredientBits[base + (column >>> 6)] |= 1L << column;
+            }
+            for (Long ingredientId : mainIngredients.get(recipe)) {
+                int column = columns.get(ingredientId);
+                mainIngredientBits[base + (column >>> 6)] |= 1L << column;
+            }
+            ingredientCounts[recipe] = recipeIngredients.get(recipe).size();
+        }
+
+        return new RecipeIngredientMatrix(recipeIds, recipeNames, ingredientIds, ingredientNames,
+                ingredientBits, mainIngredientBits, ingredientCounts);
+    }
+
+    /**
+     * 스냅샷 파일에 행렬 기록
+     * - 구성 입력 배열만 기록하고, 이름/ID → 번호 맵과 열별 레시피 목록은 읽을 때 비트셋에서 다시 계산
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        IndexSnapshotCodec.writeStrings(out, recipeIds);
+        IndexSnapshotCodec.writeStrings(out, recipeNames);
+        IndexSnapshotCodec.writeLongs(out, ingredientIds);
+        IndexSnapshotCodec.writeStrings(out, ingredientNames);
+        IndexSnapshotCodec.writeLongs(out, ingredientBits);
+        IndexSnapshotCodec.writeLongs(out, mainIngredientBits);
+        IndexSnapshotCodec.writeInts(out, ingredientCounts);
+    }
+
+    /**
+     * 스냅샷 파일에서 행렬 복원 ({@link #writeTo}와 같은 순서)
+     */
+    static RecipeIngredientMatrix readFrom(ByteBuffer in) {
+        String[] recipeIds = IndexSnapshotCodec.readStrings(in);
+        String[] recipeNames = IndexSnapshotCodec.readStrings(in);
+        long[] ingredientIds = IndexSnapshotCodec.readLongs(in);
+        String[] ingredientNames = IndexSnapshotCodec.readStrings(in);
+        long[] ingredientBits = IndexSnapshotCodec.readLongs(in);
+        long[] mainIngredientBits = IndexSnapshotCodec.readLongs(in);
+        int[] ingredientCounts = IndexSnapshotCodec.readInts(in);
+
+        int words = wordsFor(ingredientIds.length);
+        if (recipeNames.length != recipeIds.length || ingredientNames.length != ingredientIds.length
+                || ingredientBits.length != recipeIds.length * words || mainIngredientBits.length != ingredientBits.length
+                || ingredientCounts.length != recipeIds.length) {
+            throw new IllegalStateException("스냅샷의 행렬 크기가 맞지 않습니다.");
+        }
+        return new RecipeIngredientMatrix(recipeIds, recipeNames, ingredientIds, ingredientNames,
+                ingredientBits, mainIngredientBits, ingredientCounts);
+    }
+
+    // 레시피 번호 순 레시피 ID (같은 패키지의 이웃 테이블 복원용, 수정 금지)
+    String[] recipeIds() {
+        return recipeIds;
+    }
+
+    /**
+     * 재료 ID → 해당 재료를 사용하는 레시피 번호 (오름차순, 인덱스의 포스팅 리스트와 같은 값)
+     */
+    Map<Long, int[]> postingsById() {
+        Map<Long, int[]> postings = new HashMap<>(ingredientIds.length * 2);
+        for (int column = 0; column < ingredientIds.length; column++) {
+            postings.put(ingredientIds[column], recipesByColumn[column]);
+        }
+        return postings;
+    }
+
+    private static int wordsFor(int columns) {
+        return Math.max(1, (columns + 63) >>> 6);
+    }
+
+    public int getRecipeCount() {
+        return recipeIds.length;
+    }
+
+    public int getIngredientCount() {
+        return ingredientIds.length;
+    }
+
+    /**
+     * 재료 ID 목록 → 냉장고 비트셋 (행렬에 없는 재료는 무시)
+     */
+    public long[] fridgeOf(Collection<Long> ingredientIds) {
+        long[] fridge = new long[words];
+        for (Long ingredientId : ingredientIds) {
+            Integer column = columnsById.get(ingredientId);
+            if (column != null) {
+                fridge[column >>> 6] |= 1L << column;
+            }
+        }
+        return fridge;
+    }
+
+    /**
+     * 재료명 목록 → 냉장고 비트셋 (표준 재료명과 정확히 일치하는 재료만 반영)
+     */
+    public long[] fridgeOfNames(Collection<String> ingredientNames) {
+        long[] fridge = new long[words];
+        for (String ingredientName : ingredientNames) {
+            Integer column = ingredientName != null ? columnsByName.get(ingredientName.trim()) : null;
+            if (column != null) {
+                fridge[column >>> 6] |= 1L << column;
+            }
+        }
+        return fridge;
+    }
+
+    /**
+     * 재료명 → 열 번호 (표준 재료명과 정확히 일치하지 않으면 -1)
+     */
+    public int columnOf(String ingredientName) {
+        Integer column = ingredientName != null ? columnsByName.get(ingredientName.trim()) : null;
+        return column != null ? column : -1;
+    }
+
+    /**
+     * 열 번호의 재료를 사용하는 레시피 번호 (오름차순, 반환 배열은 수정 금지)
+     */
+    public int[] recipesOfColumn(int column) {
+        return recipesByColumn[column];
+    }
+
+    /**
+     * 레시피 번호의 전체 재료 수
+     */
+    public int ingredientCountOf(int recipeOrdinal) {
+        return ingredientCounts[recipeOrdinal];
+    }
+
+    public String recipeIdOf(int recipeOrdinal) {
+        return recipeIds[recipeOrdinal];
+    }
+
+    public String recipeNameOf(int recipeOrdinal) {
+        return recipeNames[recipeOrdinal];
+    }
+
+    public String ingredientNameOf(int column) {
+        return ingredientNames[column];
+    }
+
+    /**
+     * 레시피 번호의 재료 중 냉장고에 없는 재료의 열 번호 (오름차순)
+     */
+    public int[] missingColumnsOf(int recipeOrdinal, long[] fridge) {
+        checkFridge(fridge);
+
+        int[] columns = new int[andNot(ingredientBits, recipeOrdinal, fridge)];
+        int base = recipeOrdinal * words;
+        int filled = 0;
+        for (int w = 0; w < words; w++) {
+            long bits = ingredientBits[base + w] & ~fridge[w];
+            while (bits != 0) {
+                columns[filled++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * 레시피 번호의 매칭 결과 (보유 재료 수는 호출 측에서 이미 알고 있는 값을 사용)
+     */
+    public FridgeMatch matchOf(int recipeOrdinal, int matched, long[] fridge) {
+        checkFridge(fridge);
+        return toMatch(recipeOrdinal, matched, fridge);
+    }
+
+    /**
+     * 레시피 번호의 재료 중 냉장고에 있는 재료 수
+     */
+    public int matchedCountOf(int recipeOrdinal, long[] fridge) {
+        checkFridge(fridge);
+        return and(ingredientBits, recipeOrdinal, fridge);
+    }
+
+    /**
+     * 특정 레시피에서 냉장고에 있는 재료 수 (행렬에 없는 레시피는 0)
+     */
+    public int matchedCount(String recipeId, long[] fridge) {
+        checkFridge(fridge);
+        Integer recipe = recipeOrdinals.get(recipeId);
+        return recipe != null ? and(ingredientBits, recipe, fridge) : 0;
+    }
+
+    /**
+     * 냉장고 재료만으로 바로 만들 수 있는지 (레시피 재료 ⊆ 냉장고)
+     */
+    public boolean isCookable(String recipeId, long[] fridge) {
+        checkFridge(fridge);
+        Integer recipe = recipeOrdinals.get(recipeId);
+        return recipe != null && andNot(ingredientBits, recipe, fridge) == 0;
+    }
+
+    /**
+     * 냉장고 재료를 하나 이상 사용하고 부족한 재료가 maxMissing개 이하인 레시피
+     * - 결과는 레시피 번호 순
+     *
+     * @param fridge fridgeOf / fridgeOfNames 로 만든 비트셋
+     * @param maxMissing 허용할 부족 재료 수 (Integer.MAX_VALUE 이면 제한 없음)
+     */
+    public List<FridgeMatch> findMatching(long[] fridge, int maxMissing) {
+        checkFridge(fridge);
+
+        List<FridgeMatch> matches = new ArrayList<>();
+        for (int recipe = 0; recipe < recipeIds.length; recipe++) {
+            int matched = and(ingredientBits, recipe, fridge);
+            if (matched == 0 || ingredientCounts[recipe] - matched > maxMissing) {
+                continue;
+            }
+            matches.add(toMatch(recipe, matched, fridge));
+        }
+        return matches;
+    }
+
+    /**
+     * 지금 바로 만들 수 있는 레시피 (부족한 재료 0개)
+     */
+    public List<FridgeMatch> findCookable(long[] fridge) {
+        return findMatching(fridge, 0);
+    }
+
+    /**
+     * 냉장고에 주재료가 하나 이상 있는 레시피
+     * - 결과는 레시피 번호 순
+     */
+    public List<FridgeMatch> findByMainIngredients(long[] fridge) {
+        checkFridge(fridge);
+
+        List<FridgeMatch> matches = new ArrayList<>();
+        for (int recipe = 0; recipe < recipeIds.length; recipe++) {
+            if (and(mainIngredientBits, recipe, fridge) > 0) {
+                matches.add(toMatch(recipe, and(ingredientBits, recipe, fridge), fridge));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 냉장고 비트셋에 들어 있는 재료명 (열 번호 순)
+     */
+    public List<String> ingredientNamesOf(long[] fridge) {
+        checkFridge(fridge);
+
+        List<String> names = new ArrayList<>();
+        for (int w = 0; w < words; w++) {
+            long bits = fridge[w];
+            while (bits != 0) {
+                names.add(ingredientNames[(w << 6) + Long.numberOfTrailingZeros(bits)]);
+                bits &= bits - 1;
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 매칭 결과 레시피의 재료 중 냉장고에 있는 재료명 (열 번호 순)
+     */
+    public List<String> matchedIngredientNames(FridgeMatch match, long[] fridge) {
+        return ingredientNamesOf(match.getRecipeOrdinal(), fridge, true);
+    }
+
+    /**
+     * 레시피 ID의 재료 중 냉장고에 있는 재료명 (열 번호 순, 행렬에 없는 레시피는 빈 목록)
+     */
+    public List<String> matchedIngredientNames(String recipeId, long[] fridge) {
+        Integer recipe = recipeOrdinals.get(recipeId);
+        return recipe != null ? ingredientNamesOf(recipe, fridge, true) : List.of();
+    }
+
+    /**
+     * 매칭 결과 레시피의 재료 중 냉장고에 없는 재료명 (열 번호 순)
+     */
+    public List<String> missingIngredientNames(FridgeMatch match, long[] fridge) {
+        return ingredientNamesOf(match.getRecipeOrdinal(), fridge, false);
+    }
+
+    private List<String> ingredientNamesOf(int recipe, long[] fridge, boolean matched) {
+        checkFridge(fridge);
+
+        List<String> names = new ArrayList<>();
+        int base = recipe * words;
+        for (int w = 0; w < words; w++) {
+            long bits = matched
+                    ? ingredientBits[base + w] & fridge[w]
+                    : ingredientBits[base + w] & ~fridge[w];
+            while (bits != 0) {
+                int column = (w << 6) + Long.numberOfTrailingZeros(bits);
+                names.add(ingredientNames[column]);
+                bits &= bits - 1;
+            }
+        }
+        return names;
+    }
+
+    private FridgeMatch toMatch(int recipe, int matched, long[] fridge) {
+        return new FridgeMatch(recipe, recipeIds[recipe], recipeNames[recipe], ingredientCounts[recipe],
+                matched, and(mainIngredientBits, recipe, fridge));
+    }
+
+    // 레시피 행에 켜진 열 번호 순회
+    private void forEachColumn(long[] rows, int recipe, IntConsumer action) {
+        int base = recipe * words;
+        for (int w = 0; w < words; w++) {
+            long bits = rows[base + w];
+            while (bits != 0) {
+                action.accept((w << 6) + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    // 레시피 행 AND 냉장고 비트 수
+    private int and(long[] rows, int recipe, long[] fridge) {
+        int base = recipe * words;
+        int count = 0;
+        for (int w = 0; w < words; w++) {
+            count += Long.bitCount(rows[base + w] & fridge[w]);
+        }
+        return count;
+    }
+
+    // 레시피 행 AND NOT 냉장고 비트 수 (부족한 재료 수)
+    private int andNot(long[] rows, int recipe, long[] fridge) {
+        int base = recipe * words;
+        int count = 0;
+        for (int w = 0; w < words; w++) {
+            count += Long.bitCount(rows[base + w] & ~fridge[w]);
+        }
+        return count;
+    }
+
+    // 다른(이전) 행렬로 만든 비트셋이 섞이지 않도록 길이 확인
+    private void checkFridge(long[] fridge) {
+        if (fridge.length != words) {
+            throw new IllegalArgumentException("현재 행렬로 만든 냉장고 비트셋이 아닙니다.");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 레시피 매칭 결과
+ * - 인메모리 인덱스와 DB 매칭 쿼리 결과를 같은 형태로 다루기 위한 값 객체
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class RecipeMatch {
+
+    private final String recipeId;
+
+    private final String recipeName;
+
+    // 레시피의 전체 재료 수
+    private final int totalIngredients;
+
+    // 선택한 재료 중 레시피에 포함된 재료 수
+    private final int matchedIngredients;
+
+    // 매칭 비율 (0 ~ 100)
+    private final double matchPercentage;
+
+    /**
+     * findRecipesByIngredientsWithMatchRatio 쿼리 결과 행 변환
+     * [recipeId, recipeName, totalIngredients, matchedIngredients, matchPercentage]
+     */
+    public static RecipeMatch fromRow(Object[] row) {
+        return new RecipeMatch(
+                (String) row[0],
+                (String) row[1],
+                ((Number) row[2]).intValue(),
+                ((Number) row[3]).intValue(),
+                ((Number) row[4]).doubleValue()
+        );
+    }
+}
@@ -0,0 +1,298 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index;
+
+import com.ohgiraffers.refrigegobackend.common.util.TopKSelector;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 레시피별 유사 레시피(이웃) 테이블
+ * - 인덱스 구성 시 전체 레시피 쌍의 가중 Jaccard 유사도를 미리 계산해 레시피마다 상위 N개만 저장
+ *   (주재료 가중치 2, 부재료 가중치 1 / 주재료를 하나 이상 함께 쓰는 레시피만 이웃 후보)
+ * - 레시피 번호 순으로 이웃 목록을 하나의 배열에 이어 붙여(CSR) 저장하므로 조회는 배열 구간 복사뿐
+ * - 계산은 레시피 구간을 나눠 ForkJoin으로 병렬 처리
+ */
+public final class RecipeNeighborTable {
+
+    static final float MAIN_INGREDIENT_WEIGHT = 2.0f;
+    static final float SECONDARY_INGREDIENT_WEIGHT = 1.0f;
+
+    // 한 작업 단위로 처리할 레시피 수
+    private static final int TASK_THRESHOLD = 64;
+
+    // 이웃 정렬 기준: 유사도 내림차순 → 레시피 번호 오름차순
+    private static final Comparator<Neighbor> NEIGHBOR_ORDER = Comparator
+            .comparingDouble((Neighbor neighbor) -> neighbor.similarity).reversed()
+            .thenComparingInt(neighbor -> neighbor.recipe);
+
+    // 레시피 번호 → 레시피 ID
+    private final String[] recipeIds;
+    private final Map<String, Integer> recipeOrdinals;
+
+    // 레시피 번호 r의 이웃: neighbors[offsets[r] .. offsets[r + 1]) (유사도 내림차순)
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final float[] similarities;
+
+    private RecipeNeighborTable(String[] recipeIds, int[] offsets, int[] neighbors, float[] similarities) {
+        this.recipeIds = recipeIds;
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.similarities = similarities;
+        this.recipeOrdinals = new HashMap<>(recipeIds.length * 2);
+        for (int recipe = 0; recipe < recipeIds.length; recipe++) {
+            recipeOrdinals.put(recipeIds[recipe], recipe);
+        }
+    }
+
+    /**
+     * 레시피별 재료 집합으로 이웃 테이블 구성
+     *
+     * @param recipeIds 레시피 번호 순 레시피 ID
+     * @param recipeIngredients 레시피 번호 순 재료 ID 집합
+     * @param mainIngredients 레시피 번호 순 주재료 ID 집합
+     * @param neighborCount 레시피별 저장할 최대 이웃 수
+     */
+    static RecipeNeighborTable build(String[] recipeIds, List<Set<Long>> recipeIngredients,
+                                     List<Set<Long>> mainIngredients, int neighborCount) {
+        int recipeCount = recipeIds.length;
+
+        // 1. 레시피별 (재료 열, 가중치) 배열과 가중치 합
+        Map<Long, Integer> columns = new HashMap<>();
+        int[][] recipeColumns = new int[recipeCount][];
+        float[][] recipeWeights = new float[recipeCount][];
+        float[] totalWeights = new float[recipeCount];
+        for (int recipe = 0; recipe < recipeCount; recipe++) {
+            Set<Long> ingredients = recipeIngredients.get(recipe);
+            recipeColumns[recipe] = new int[ingredients.size()];
+            recipeWeights[recipe] = new float[ingredients.size()];
+            int i = 0;
+            for (Long ingredientId : ingredients) {
+                Integer column = columns.computeIfAbsent(ingredientId, id -> columns.size());
+                float weight = mainIngredients.get(recipe).contains(ingredientId)
+                        ? MAIN_INGREDIENT_WEIGHT : SECONDARY_INGREDIENT_WEIGHT;
+                recipeColumns[recipe][i] = column;
+                recipeWeights[recipe][i] = weight;
+                totalWeights[recipe] += weight;
+                i++;
+            }
+        }
+
+        // 2. 재료 열 → 사용하는 레시피 번호 / 가중치 (포스팅 리스트)
+        int[] postingSizes = new int[columns.size()];
+        for (int[] cols : recipeColumns) {
+            for (int column : cols) {
+                postingSizes[column]++;
+            }
+        }
+        int[][] postingRecipes = new int[columns.size()][];
+        float[][] postingWeights = new float[columns.size()][];
+        for (int column = 0; column < columns.size(); column++) {
+            postingRecipes[column] = new int[postingSizes[column]];
+            postingWeights[column] = new float[postingSizes[column]];
+        }
+        int[] filled = new int[columns.size()];
+        for (int recipe = 0; recipe < recipeCount; recipe++) {
+            for (int i = 0; i < recipeColumns[recipe].length; i++) {
+                int column = recipeColumns[recipe][i];
+                postingRecipes[column][filled[column]] = recipe;
+                postingWeights[column][filled[column]] = recipeWeights[recipe][i];
+                filled[column]++;
+            }
+        }
+
+        // 3. 레시피별 상위 이웃 계산 (ForkJoin)
+        int[][] topNeighbors = new int[recipeCount][];
+        float[][] topSimilarities = new float[recipeCount][];
+        ForkJoinPool.commonPool().invoke(new NeighborTask(0, recipeCount, neighborCount,
+                recipeColumns, recipeWeights, totalWeights, postingRecipes, postingWeights,
+                topNeighbors, topSimilarities));
+
+        // 4. 하나의 배열로 이어 붙임
+        int[] offsets = new int[recipeCount + 1];
+        for (int recipe = 0; recipe < recipeCount; recipe++) {
+            offsets[recipe + 1] = offsets[recipe] + topNeighbors[recipe].length;
+        }
+        int[] neighbors = new int[offsets[recipeCount]];
+        float[] similarities = new float[offsets[recipeCount]];
+        for (int recipe = 0; recipe < recipeCount; recipe++) {
+            System.arraycopy(topNeighbors[recipe], 0, neighbors, offsets[recipe], topNeighbors[recipe].length);
+            System.arraycopy(topSimilarities[recipe], 0, similarities, offsets[recipe], topSimilarities[recipe].length);
+        }
+
+        return new RecipeNeighborTable(recipeIds, offsets, neighbors, similarities);
+    }
+
+    /**
+     * 스냅샷 파일에 이웃 배열 기록 (레시피 ID는 같은 번호 체계의 행렬이 기록)
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        IndexSnapshotCodec.writeInts(out, offsets);
+        IndexSnapshotCodec.writeInts(out, neighbors);
+        IndexSnapshotCodec.writeFloats(out, similarities);
+    }
+
+    /**
+     * 스냅샷 파일에서 이웃 테이블 복원 ({@link #writeTo}와 같은 순서)
+     *
+     * @param recipeIds 같은 스냅샷에서 복원한 행렬의 레시피 번호 순 레시피 ID
+     */
+    static RecipeNeighborTable readFrom(ByteBuffer in, String[] recipeIds) {
+        int[] offsets = IndexSnapshotCodec.readInts(in);
+        int[] neighbors = IndexSnapshotCodec.readInts(in);
+        float[] similarities = IndexSnapshotCodec.readFloats(in);
+        if (offsets.length != recipeIds.length + 1 || similarities.length != neighbors.length
+                || offsets[recipeIds.length] != neighbors.length) {
+            throw new IllegalStateException("스냅샷의 이웃 테이블 크기가 맞지 않습니다.");
+        }
+        return new RecipeNeighborTable(recipeIds, offsets, neighbors, similarities);
+    }
+
+    /**
+     * 레시피의 유사 레시피 ID 목록 (유사도 내림차순, 테이블에 없는 레시피는 빈 목록)
+     */
+    public List<String> neighborsOf(String recipeId) {
+        Integer recipe = recipeOrdinals.get(recipeId);
+        if (recipe == null) {
+            return new ArrayList<>();
+        }
+        List<String> result = new ArrayList<>(offsets[recipe + 1] - offsets[recipe]);
+        for (int i = offsets[recipe]; i < offsets[recipe + 1]; i++) {
+            result.add(recipeIds[neighbors[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * 레시피의 유사 레시피 유사도 목록 (neighborsOf와 같은 순서)
+     */
+    public float[] similaritiesOf(String recipeId) {
+        Integer recipe = recipeOrdinals.get(recipeId);
+        if (recipe == null) {
+            return new float[0];
+        }
+        return Arrays.copyOfRange(similarities, offsets[recipe], offsets[recipe + 1]);
+    }
+
+    public int getRecipeCount() {
+        return recipeIds.length;
+    }
+
+    /**
+     * 저장된 전체 이웃 수
+     */
+    public int getNeighborCount() {
+        return neighbors.length;
+    }
+
+    /**
+     * 레시피 구간 [from, to)의 이웃 계산 작업
+     * - 구간이 TASK_THRESHOLD보다 크면 반으로 나눠 병렬 처리
+     */
+    private static final class NeighborTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final int neighborCount;
+        private final int[][] recipeColumns;
+        private final float[][] recipeWeights;
+        private final float[] totalWeights;
+        private final int[][] postingRecipes;
+        private final float[][] postingWeights;
+        private final int[][] topNeighbors;
+        private final float[][] topSimilarities;
+
+        private NeighborTask(int from, int to, int neighborCount, int[][] recipeColumns, float[][] recipeWeights,
+                             float[] totalWeights, int[][] postingRecipes, float[][] postingWeights,
+                             int[][] topNeighbors, float[][] topSimilarities) {
+            this.from = from;
+            this.to = to;
+            this.neighborCount = neighborCount;
+            this.recipeColumns = recipeColumns;
+            this.recipeWeights = recipeWeights;
+            this.totalWeights = totalWeights;
+            this.postingRecipes = postingRecipes;
+            this.postingWeights = postingWeights;
+            this.topNeighbors = topNeighbors;
+            this.topSimilarities = topSimilarities;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > TASK_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(split(from, mid), split(mid, to));
+                return;
+            }
+
+            // 작업 단위마다 누적 배열을 한 번만 만들고, 레시피마다 건드린 칸만 초기화
+            int recipeCount = totalWeights.length;
+            float[] minWeightSums = new float[recipeCount];
+            boolean[] sharesMain = new boolean[recipeCount];
+            int[] touched = new int[recipeCount];
+
+            for (int recipe = from; recipe < to; recipe++) {
+                int touchedCount = 0;
+                int[] columns = recipeColumns[recipe];
+                for (int i = 0; i < columns.length; i++) {
+                    float weight = recipeWeights[recipe][i];
+                    int[] others = postingRecipes[columns[i]];
+                    float[] otherWeights = postingWeights[columns[i]];
+                    for (int j = 0; j < others.length; j++) {
+                        int other = others[j];
+                        if (other == recipe) {
+                            continue;
+                        }
+                        if (minWeightSums[other] == 0f) {
+                            touched[touchedCount++] = other;
+                        }
+                        minWeightSums[other] += Math.min(weight, otherWeights[j]);
+                        if (weight == MAIN_INGREDIENT_WEIGHT && otherWeights[j] == MAIN_INGREDIENT_WEIGHT) {
+                            sharesMain[other] = true;
+                        }
+                    }
+                }
+
+                // 가중 Jaccard = Σmin / Σmax, Σmax = 두 레시피 가중치 합 - Σmin
+                TopKSelector<Neighbor> top = new TopKSelector<>(neighborCount, NEIGHBOR_ORDER);
+                for (int t = 0; t < touchedCount; t++) {
+                    int other = touched[t];
+                    if (sharesMain[other]) {
+                        float minSum = minWeightSums[other];
+                        float similarity = minSum / (totalWeights[recipe] + totalWeights[other] - minSum);
+                        top.offer(new Neighbor(other, similarity));
+                    }
+                    minWeightSums[other] = 0f;
+                    sharesMain[other] = false;
+                }
+
+                List<Neighbor> selected = top.toSortedList();
+                topNeighbors[recipe] = new int[selected.size()];
+                topSimilarities[recipe] = new float[selected.size()];
+                for (int k = 0; k < selected.size(); k++) {
+                    topNeighbors[recipe][k] = selected.get(k).recipe;
+                    topSimilarities[recipe][k] = selected.get(k).similarity;
+                }
+            }
+        }
+
+        private NeighborTask split(int subFrom, int subTo) {
+            return new NeighborTask(subFrom, subTo, neighborCount, recipeColumns, recipeWeights, totalWeights,
+                    postingRecipes, postingWeights, topNeighbors, topSimilarities);
+        }
+    }
+
+    private static final class Neighbor {
+        private final int recipe;
+        private final float similarity;
+
+        private Neighbor(int recipe, float similarity) {
+            this.recipe = recipe;
+            this.similarity = similarity;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index;
+
+import java.util.*;
+
+/**
+ * 장보기 목록 계산 (탐욕적 가중 집합 덮개)
+ * - 아직 만들 수 없는 레시피마다 부족 재료 묶음을 구하고, "새로 만들 수 있게 되는 레시피 수 / 살 재료 수"가
+ *   가장 큰 묶음을 구매 한도가 남는 동안 반복해서 고름
+ * - 재료를 하나씩 고르면 부족 재료가 2개 이상인 레시피는 어느 재료도 이득이 0이라 고려되지 않으므로 후보 단위는 레시피의 부족 재료 묶음
+ * - 묶음의 이득은 그 묶음의 부분집합(최대 2^MAX_BUNDLE_SIZE - 1개)별 레시피 수의 합이므로 한 단계가 후보 레시피 수에 비례
+ * - 재료 조합마다 질의가 필요한 SQL 대신 행렬 위에서 계산하며, 전체 카탈로그 기준 수 ms 수준
+ */
+public final class ShoppingListPlanner {
+
+    // 한 번에 고려하는 부족 재료 묶음의 최대 크기
+    public static final int MAX_BUNDLE_SIZE = 3;
+
+    // 묶음 키에서 열 번호 하나가 차지하는 비트 수 (열 번호 + 1 저장, 3개 × 21비트)
+    private static final int COLUMN_BITS = 21;
+    private static final long COLUMN_MASK = (1L << COLUMN_BITS) - 1;
+
+    private ShoppingListPlanner() {
+    }
+
+    /**
+     * 냉장고 기준 장보기 목록 계산
+     *
+     * @param matrix 현재 레시피 × 재료 행렬
+     * @param fridge matrix 기준 냉장고 비트셋
+     * @param maxItems 구매할 최대 재료 수
+     */
+    public static ShoppingPlan plan(RecipeIngredientMatrix matrix, long[] fridge, int maxItems) {
+        if (maxItems < 1) {
+            throw new IllegalArgumentException("구매할 재료 수는 1개 이상이어야 합니다: " + maxItems);
+        }
+        if (matrix.getIngredientCount() >= COLUMN_MASK) {
+            throw new IllegalStateException("재료 수가 너무 많아 장보기 목록을 계산할 수 없습니다: " + matrix.getIngredientCount());
+        }
+
+        // 구매 한도 안에서 만들 수 있게 될 여지가 있는 레시피 → 남은 부족 재료 열 (오름차순)
+        Map<Integer, int[]> pending = new LinkedHashMap<>();
+        int cookableNowCount = 0;
+        for (int recipe = 0; recipe < matrix.getRecipeCount(); recipe++) {
+            if (matrix.ingredientCountOf(recipe) == 0) {
+                continue;
+            }
+            int[] missing = matrix.missingColumnsOf(recipe, fridge);
+            if (missing.length == 0) {
+                cookableNowCount++;
+            } else if (missing.length <= maxItems) {
+                pending.put(recipe, missing);
+            }
+        }
+
+        List<String> ingredientsToBuy = new ArrayList<>();
+        List<ShoppingPlan.Step> steps = new ArrayList<>();
+        int budget = maxItems;
+
+        while (budget > 0 && !pending.isEmpty()) {
+            Map<Long, Integer> recipesByBundle = new HashMap<>();
+            for (int[] missing : pending.values()) {
+                if (missing.length <= MAX_BUNDLE_SIZE) {
+                    recipesByBundle.merge(keyOf(missing, missing.length), 1, Integer::sum);
+                }
+            }
+
+            long bestKey = 0;
+            int bestGain = 0;
+            int bestCost = 0;
+            for (long key : recipesByBundle.keySet()) {
+                int[] bundle = columnsOf(key);
+                if (bundle.length > budget) {
+                    continue;
+                }
+                int gain = gainOf(bundle, recipesByBundle);
+                // 비율(gain / cost) 우선, 같으면 이득이 큰 묶음, 그래도 같으면 키가 작은 묶음 (결과 고정)
+                long compare = (long) gain * bestCost - (long) bestGain * bundle.length;
+                if (bestGain == 0 || compare > 0
+                        || (compare == 0 && (gain > bestGain || (gain == bestGain && key < bestKey)))) {
+                    bestKey = key;
+                    bestGain = gain;
+                    bestCost = bundle.length;
+                }
+            }
+            if (bestGain == 0) {
+                break;
+            }
+
+            int[] bundle = columnsOf(bestKey);
+            budget -= bundle.length;
+            List<String> bundleNames = new ArrayList<>(bundle.length);
+            for (int column : bundle) {
+                bundleNames.add(matrix.ingredientNameOf(column));
+            }
+            ingredientsToBuy.addAll(bundleNames);
+
+            // 산 재료를 부족 목록에서 빼고, 부족 재료가 없어진 레시피는 이번 단계의 결과로 분리
+            List<String> unlockedIds = new ArrayList<>();
+            List<String> unlockedNames = new ArrayList<>();
+            Iterator<Map.Entry<Integer, int[]>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Integer, int[]> entry = iterator.next();
+                int[] remaining = without(entry.getValue(), bundle);
+                if (remaining.length == 0) {
+                    unlockedIds.add(matrix.recipeIdOf(entry.getKey()));
+                    unlockedNames.add(matrix.recipeNameOf(entry.getKey()));
+                    iterator.remove();
+                } else if (remaining.length > budget) {
+                    iterator.remove();
+                } else {
+                    entry.setValue(remaining);
+                }
+            }
+            steps.add(new ShoppingPlan.Step(bundleNames, unlockedIds, unlockedNames));
+        }
+
+        return new ShoppingPlan(ingredientsToBuy, steps, cookableNowCount);
+    }
+
+    // 묶음을 사면 새로 만들 수 있게 되는 레시피 수 = 묶음의 부분집합을 부족 재료로 가진 레시피 수의 합
+    private static int gainOf(int[] bundle, Map<Long, Integer> recipesByBundle) {
+        int gain = 0;
+        int[] subset = new int[bundle.length];
+        for (int mask = 1; mask < (1 << bundle.length); mask++) {
+            int size = 0;
+            for (int i = 0; i < bundle.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    subset[size++] = bundle[i];
+                }
+            }
+            gain += recipesByBundle.getOrDefault(keyOf(subset, size), 0);
+        }
+        return gain;
+    }
+
+    // 오름차순 열 번호 최대 3개 → long 키
+    private static long keyOf(int[] columns, int size) {
+        long key = 0;
+        for (int i = 0; i < size; i++) {
+            key = (key << COLUMN_BITS) | (columns[i] + 1L);
+        }
+        return key;
+    }
+
+    private static int[] columnsOf(long key) {
+        int size = 0;
+        for (long rest = key; rest != 0; rest >>>= COLUMN_BITS) {
+            size++;
+        }
+        int[] columns = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            columns[i] = (int) (key & COLUMN_MASK) - 1;
+            key >>>= COLUMN_BITS;
+        }
+        return columns;
+    }
+
+    // 두 오름차순 배열의 차집합
+    private static int[] without(int[] columns, int[] bought) {
+        int[] remaining = new int[columns.length];
+        int size = 0;
+        int j = 0;
+        for (int column : columns) {
+            while (j < bought.length && bought[j] < column) {
+                j++;
+            }
+            if (j >= bought.length || bought[j] != column) {
+                remaining[size++] = column;
+            }
+        }
+        return size == columns.length ? columns : Arrays.copyOf(remaining, size);
+    }
+}
@@ -0,0 +1,41 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 장보기 목록 계산 결과 ({@link ShoppingListPlanner})
+ */
+@Getter
+@AllArgsConstructor
+public class ShoppingPlan {
+
+    // 구매할 재료명 (고른 순서)
+    private final List<String> ingredientsToBuy;
+
+    // 단계별 구매 묶음과 그 묶음으로 새로 만들 수 있게 되는 레시피
+    private final List<Step> steps;
+
+    // 구매 전에 이미 만들 수 있는 레시피 수
+    private final int cookableNowCount;
+
+    /**
+     * 구매 후 새로 만들 수 있게 되는 레시피 수
+     */
+    public int getUnlockedRecipeCount() {
+        return steps.stream().mapToInt(step -> step.getUnlockedRecipeIds().size()).sum();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Step {
+
+        private final List<String> ingredients;
+
+        // 레시피 ID / 이름 (같은 순서)
+        private final List<String> unlockedRecipeIds;
+        private final List<String> unlockedRecipeNames;
+    }
+}
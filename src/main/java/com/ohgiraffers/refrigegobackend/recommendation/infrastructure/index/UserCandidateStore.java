@@ -0,0 +1,99 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index;
+
+import com.ohgiraffers.refrigegobackend.common.util.BoundedTtlCache;
+import com.ohgiraffers.refrigegobackend.ingredient.domain.UserIngredient;
+import com.ohgiraffers.refrigegobackend.ingredient.event.UserFridgeChangedEvent;
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.UserIngredientRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별 레시피 후보 점수 저장소
+ * - 최근 조회한 사용자의 {@link UserCandidates}를 메모리에 보관 (최대 인원 + TTL 제한)
+ * - 냉장고 변경 이벤트가 오면 보관 중인 사용자만 변경된 재료의 레시피 점수를 증분 갱신
+ * - 보관하지 않은 사용자, 인덱스 재구성 이후의 조회는 DB에서 냉장고를 읽어 새로 구성
+ * - TTL은 이벤트 누락(구성 중 동시 변경 등)에 대한 최대 지연 시간 역할도 함
+ */
+@Slf4j
+@Component
+public class UserCandidateStore {
+
+    private final RecipeIngredientIndex recipeIngredientIndex;
+    private final UserIngredientRepository userIngredientRepository;
+    private final BoundedTtlCache<Long, UserCandidates> store;
+
+    public UserCandidateStore(RecipeIngredientIndex recipeIngredientIndex,
+                              UserIngredientRepository userIngredientRepository,
+                              @Value("${recommendation.user-candidates.max-users:10000}") int maxUsers,
+                              @Value("${recommendation.user-candidates.ttl-minutes:360}") long ttlMinutes) {
+        this.recipeIngredientIndex = recipeIngredientIndex;
+        this.userIngredientRepository = userIngredientRepository;
+        this.store = new BoundedTtlCache<>(maxUsers, ttlMinutes * 60 * 1000);
+    }
+
+    /**
+     * 사용자의 후보 점수 조회 (없거나 이전 인덱스 기준이면 새로 구성)
+     *
+     * @return 인덱스 준비 전이면 null
+     */
+    public UserCandidates getCandidates(Long userId) {
+        if (!recipeIngredientIndex.isReady()) {
+            return null;
+        }
+        RecipeIngredientMatrix matrix = recipeIngredientIndex.getMatrix();
+
+        UserCandidates candidates = store.get(userId);
+        if (candidates != null && candidates.isBuiltOn(matrix)) {
+            return candidates;
+        }
+
+        List<String> fridgeNames = new ArrayList<>();
+        for (Object[] row : userIngredientRepository.findFridgeNamesByUserIdIn(List.of(userId))) {
+            String name = UserIngredient.fridgeNameOf((String) row[1], (String) row[2]);
+            if (name != null) {
+                fridgeNames.add(name);
+            }
+        }
+        candidates = UserCandidates.build(matrix, fridgeNames);
+        store.put(userId, candidates);
+        log.debug("사용자 후보 점수 구성 - 사용자: {}, 재료 {}건", userId, fridgeNames.size());
+        return candidates;
+    }
+
+    /**
+     * 냉장고 변경 커밋 후 보관 중인 후보 점수에 변경분만 반영
+     * - 트랜잭션 밖에서 발행된 이벤트도 바로 처리 (fallbackExecution)
+     * - 이 점수를 읽는 다른 구독자(추천 스냅샷 갱신)보다 먼저 실행
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserFridgeChanged(UserFridgeChangedEvent event) {
+        UserCandidates candidates = store.get(event.getUserId());
+        if (candidates == null) {
+            return;
+        }
+        if (!recipeIngredientIndex.isReady() || !candidates.isBuiltOn(recipeIngredientIndex.getMatrix())) {
+            store.invalidate(event.getUserId());
+            return;
+        }
+        candidates.apply(event.getAddedNames(), event.getRemovedNames());
+    }
+
+    /**
+     * 보관 중인 후보 점수 삭제 (다음 조회 시 새로 구성)
+     */
+    public void invalidate(Long userId) {
+        store.invalidate(userId);
+    }
+
+    public BoundedTtlCache.Stats getStats() {
+        return store.getStats();
+    }
+}
@@ -0,0 +1,150 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index;
+
+import com.ohgiraffers.refrigegobackend.common.util.TopKSelector;
+
+import java.util.*;
+
+/**
+ * 사용자 한 명의 레시피 후보 점수 (레시피별 보유 재료 수)
+ * - 구성 시 한 번 냉장고 전체로 계산하고, 이후에는 재료 추가/제거 시 해당 재료 열의 레시피만 +1/-1
+ * - 같은 재료를 여러 건 보유할 수 있으므로 열별 보유 건수를 세어 0 ↔ 1 로 바뀔 때만 점수 반영
+ * - 상위 후보 순위는 조회 시 계산해 두고 냉장고가 다시 바뀔 때까지 재사용
+ * - 특정 행렬 기준으로 만든 값이므로 인덱스가 재구성되면 새로 만들어야 함 ({@link #isBuiltOn})
+ */
+public final class UserCandidates {
+
+    // 보관할 상위 후보 수
+    public static final int RANKING_SIZE = 50;
+
+    /**
+     * 후보 순위: 부족 재료 수 → 매칭 비율 → 보유 재료 수 → 레시피 ID
+     */
+    public static final Comparator<FridgeMatch> CANDIDATE_ORDER = Comparator
+            .comparingInt(FridgeMatch::getMissingIngredients)
+            .thenComparing(Comparator.comparingDouble(FridgeMatch::getMatchRatio).reversed())
+            .thenComparing(Comparator.comparingInt(FridgeMatch::getMatchedIngredients).reversed())
+            .thenComparing(FridgeMatch::getRecipeId);
+
+    private final RecipeIngredientMatrix matrix;
+
+    // 열 번호 → 보유 건수
+    private final int[] heldCounts;
+
+    // 보유 재료 비트셋 (matrix 기준)
+    private final long[] fridge;
+
+    // 레시피 번호 → 보유 재료 수
+    private final int[] matchCounts;
+
+    // 상위 후보 (냉장고 변경 시 null로 비움)
+    private List<FridgeMatch> ranking;
+
+    private UserCandidates(RecipeIngredientMatrix matrix) {
+        this.matrix = matrix;
+        this.heldCounts = new int[matrix.getIngredientCount()];
+        this.fridge = matrix.fridgeOf(List.of());
+        this.matchCounts = new int[matrix.getRecipeCount()];
+    }
+
+    /**
+     * 냉장고 재료명 목록으로 구성
+     */
+    public static UserCandidates build(RecipeIngredientMatrix matrix, Collection<String> fridgeNames) {
+        UserCandidates candidates = new UserCandidates(matrix);
+        candidates.apply(fridgeNames, List.of());
+        return candidates;
+    }
+
+    public boolean isBuiltOn(RecipeIngredientMatrix current) {
+        return matrix == current;
+    }
+
+    /**
+     * 냉장고 변경분 반영 (행렬에 없는 재료명은 무시)
+     */
+    public synchronized void apply(Collection<String> addedNames, Collection<String> removedNames) {
+        for (String name : addedNames) {
+            int column = matrix.columnOf(name);
+            if (column >= 0 && heldCounts[column]++ == 0) {
+                fridge[column >>> 6] |= 1L << column;
+                for (int recipe : matrix.recipesOfColumn(column)) {
+                    matchCounts[recipe]++;
+                }
+                ranking = null;
+            }
+        }
+        for (String name : removedNames) {
+            int column = matrix.columnOf(name);
+            if (column >= 0 && heldCounts[column] > 0 && --heldCounts[column] == 0) {
+                fridge[column >>> 6] &= ~(1L << column);
+                for (int recipe : matrix.recipesOfColumn(column)) {
+                    matchCounts[recipe]--;
+                }
+                ranking = null;
+            }
+        }
+    }
+
+    /**
+     * 같은 재료 구성의 냉장고인지 (같은 행렬로 만든 비트셋끼리만 비교)
+     */
+    public synchronized boolean hasFridge(long[] other) {
+        return Arrays.equals(fridge, other);
+    }
+
+    /**
+     * 상위 후보 ({@link #CANDIDATE_ORDER} 순, 최대 {@link #RANKING_SIZE}개)
+     */
+    public synchronized List<FridgeMatch> getRanking() {
+        if (ranking == null) {
+            TopKSelector<FridgeMatch> top = new TopKSelector<>(RANKING_SIZE, CANDIDATE_ORDER);
+            for (int recipe = 0; recipe < matchCounts.length; recipe++) {
+                if (matchCounts[recipe] > 0) {
+                    top.offer(matrix.matchOf(recipe, matchCounts[recipe], fridge));
+                }
+            }
+            ranking = Collections.unmodifiableList(top.toSortedList());
+        }
+        return ranking;
+    }
+
+    /**
+     * 보유 재료를 하나 이상 사용하고 부족한 재료가 maxMissing개 이하인 레시피
+     * - {@link RecipeIngredientMatrix#findMatching}과 같은 결과(레시피 번호 순)를 비트 연산 없이 계산
+     */
+    public synchronized List<FridgeMatch> findMatching(int maxMissing) {
+        List<FridgeMatch> matches = new ArrayList<>();
+        for (int recipe = 0; recipe < matchCounts.length; recipe++) {
+            int matched = matchCounts[recipe];
+            if (matched == 0 || matrix.ingredientCountOf(recipe) - matched > maxMissing) {
+                continue;
+            }
+            matches.add(matrix.matchOf(recipe, matched, fridge));
+        }
+        return matches;
+    }
+
+    /**
+     * 보유 재료를 하나 이상 사용하는 레시피 수
+     */
+    public synchronized int countMatching() {
+        int count = 0;
+        for (int matched : matchCounts) {
+            if (matched > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 현재 냉장고 비트셋 복사본 (matrix 기준)
+     */
+    public synchronized long[] getFridge() {
+        return fridge.clone();
+    }
+
+    public RecipeIngredientMatrix getMatrix() {
+        return matrix;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -54,6 +55,38 @@ public interface RecipeIngredientRepository extends JpaRepository<RecipeIngredie
     List<Object[]> findRecipesByIngredientsWithMatchRatio(@Param("ingredientIds") List<Long> ingredientIds,
                                                          @Param("minMatchPercentage") Double minMatchPercentage);
 
+    /**
+     * 인메모리 추천 인덱스 구성용 전체 연결 정보 조회
+     * - 엔티티 대신 필요한 컬럼만 조회 (LOB 컬럼 제외)
+     * @return [레시피 ID, 레시피명, 재료 ID, 재료명, 주재료 여부] 목록
+     */
+    @Query("SELECT ri.recipe.rcpSeq, ri.recipe.rcpNm, ri.ingredient.id, ri.ingredient.name, ri.isMainIngredient " +
+           "FROM RecipeIngredient ri " +
+           "ORDER BY ri.recipe.rcpSeq")
+    List<Object[]> findAllRecipeIngredientLinks();
+
+    /**
+     * 추천 인덱스 스냅샷 검증용 카탈로그 버전 (한 행만 전송)
+     * - 카탈로그 버전은 레시피 저장/재색인 후 카탈로그 변경 이벤트를 발행할 때 1씩 증가
+     * - 앱을 거치지 않은 행 추가/삭제도 잡도록 연결 수, 레시피 수를 함께 비교 (LOB 컬럼은 읽지 않음)
+     * @return [카탈로그 버전, 연결 수, 레시피 수] 한 행
+     */
+    @Query(value = "SELECT " +
+           "(SELECT version FROM recipe_catalog_version WHERE id = 1), " +
+           "(SELECT COUNT(*) FROM recipe_ingredients), " +
+           "(SELECT COUNT(*) FROM recipes)",
+           nativeQuery = true)
+    List<Object[]> findCatalogVersion();
+
+    /**
+     * 레시피들의 기존 연결 정보 조회 (연결 테이블 동기화용)
+     * @return [레시피 ID, 재료 ID, 주재료 여부] 목록
+     */
+    @Query("SELECT ri.recipe.rcpSeq, ri.ingredient.id, ri.isMainIngredient " +
+           "FROM RecipeIngredient ri " +
+           "WHERE ri.recipe.rcpSeq IN :recipeIds")
+    List<Object[]> findLinksByRecipeIds(@Param("recipeIds") Collection<String> recipeIds);
+
     /**
      * 주재료 기준으로 레시피 조회 (더 정확한 추천을 위해)
      * @param ingredientIds 사용자가 보유한 식재료 ID 목록
@@ -127,12 +160,14 @@ public interface RecipeIngredientRepository extends JpaRepository<RecipeIngredie
             @Param("ingredientNames") List<String> ingredientNames,
             @Param("recipeIds") List<String> recipeIds);
 
-    @Query("SELECT DISTINCT ri.recipe FROM RecipeIngredient ri " +
+    /**
+     * 재료명 중 하나 이상을 쓰는 레시피 ID와 매칭된 재료 수 (엔티티 / LOB 컬럼 미조회)
+     * - 일괄 추천 작업에서 추천 인덱스 준비 전 대체 경로로 사용
+     * @return [레시피 ID, 매칭된 재료 수] 목록
+     */
+    @Query("SELECT ri.recipe.rcpSeq, COUNT(ri) FROM RecipeIngredient ri " +
             "WHERE ri.ingredient.name IN :ingredientNames " +
-            "AND ri.recipe.rcpSeq NOT IN :excludedRecipeIds")
-    List<Recipe> findRecipesByIngredientsExcludingRecipeIds(
-            @Param("ingredientNames") List<String> ingredientNames,
-            @Param("excludedRecipeIds") List<String> excludedRecipeIds
-    );
+            "GROUP BY ri.recipe.rcpSeq")
+    List<Object[]> findRecipeIdsByIngredientNames(@Param("ingredientNames") Collection<String> ingredientNames);
 
 }
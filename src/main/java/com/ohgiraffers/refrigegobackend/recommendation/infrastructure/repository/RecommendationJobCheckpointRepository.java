@@ -0,0 +1,17 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository;
+
+import com.ohgiraffers.refrigegobackend.recommendation.domain.RecommendationJobCheckpoint;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Optional;
+
+public interface RecommendationJobCheckpointRepository extends MongoRepository<RecommendationJobCheckpoint, String>,
+        RecommendationJobCheckpointRepositoryCustom {
+
+    /**
+     * 작업의 가장 최근 미완료 진행 상황 (작업일과 무관)
+     *
+     * @param idPrefix 작업명 접두사 (ex. "daily-recipe:")
+     */
+    Optional<RecommendationJobCheckpoint> findFirstByIdStartingWithAndCompletedFalseOrderByJobDateDesc(String idPrefix);
+}
@@ -0,0 +1,27 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository;
+
+import com.ohgiraffers.refrigegobackend.recommendation.domain.RecommendationJobCheckpoint;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 작업 진행 상황 잠금 (인스턴스 간 중복 실행 방지)
+ */
+public interface RecommendationJobCheckpointRepositoryCustom {
+
+    /**
+     * 진행 상황 잠금 획득 (없으면 새로 생성)
+     * - 잠금이 비어 있거나, 같은 인스턴스가 가지고 있거나, 만료되었을 때만 획득
+     *
+     * @param owner 인스턴스 식별자
+     * @param lease 잠금 유지 시간
+     * @return 잠금을 획득한 진행 상황, 다른 인스턴스가 처리 중이면 null
+     */
+    RecommendationJobCheckpoint acquire(String id, LocalDate jobDate, String owner, Duration lease);
+
+    /**
+     * 잠금 해제 (owner 가 같을 때만)
+     */
+    void release(String id, String owner);
+}
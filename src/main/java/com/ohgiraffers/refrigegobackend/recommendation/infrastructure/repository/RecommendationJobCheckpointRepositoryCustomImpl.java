@@ -0,0 +1,57 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository;
+
+import com.ohgiraffers.refrigegobackend.recommendation.domain.RecommendationJobCheckpoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * findAndModify 한 번으로 잠금 확인과 획득을 원자적으로 처리
+ * - 문서가 없으면 upsert 로 새 진행 상황을 만들면서 잠금
+ * - 다른 인스턴스가 잠근 문서는 조건에 맞지 않아 upsert 가 같은 _id 로 삽입을 시도하고 중복 키로 실패 → 획득 실패
+ */
+@RequiredArgsConstructor
+public class RecommendationJobCheckpointRepositoryCustomImpl implements RecommendationJobCheckpointRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public RecommendationJobCheckpoint acquire(String id, LocalDate jobDate, String owner, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = Query.query(Criteria.where("_id").is(id).orOperator(
+                Criteria.where("owner").is(null),
+                Criteria.where("owner").is(owner),
+                Criteria.where("leaseUntil").lt(now)));
+        Update update = new Update()
+                .set("owner", owner)
+                .set("leaseUntil", now.plus(lease))
+                .setOnInsert("jobDate", jobDate)
+                .setOnInsert("lastUserId", 0L)
+                .setOnInsert("processedUsers", 0L)
+                .setOnInsert("recommendedUsers", 0L)
+                .setOnInsert("failedUsers", 0L)
+                .setOnInsert("completed", false)
+                .setOnInsert("startedAt", now)
+                .setOnInsert("updatedAt", now);
+        try {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().returnNew(true).upsert(true), RecommendationJobCheckpoint.class);
+        } catch (DuplicateKeyException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void release(String id, String owner) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id).and("owner").is(owner)),
+                new Update().unset("owner").unset("leaseUntil"), RecommendationJobCheckpoint.class);
+    }
+}
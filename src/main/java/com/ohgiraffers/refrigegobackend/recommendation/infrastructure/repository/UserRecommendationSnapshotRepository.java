@@ -0,0 +1,7 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository;
+
+import com.ohgiraffers.refrigegobackend.recommendation.domain.UserRecommendationSnapshot;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface UserRecommendationSnapshotRepository extends MongoRepository<UserRecommendationSnapshot, Long> {
+}
@@ -1,6 +1,6 @@
 package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.scheduler;
 
-import com.ohgiraffers.refrigegobackend.recommendation.service.RecipeRecommendationService;
+import com.ohgiraffers.refrigegobackend.recommendation.service.DailyRecipeRecommendationJob;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -10,11 +10,11 @@ import org.springframework.stereotype.Component;
 @Component
 public class RecipeRecommendationScheduler {
 
-    private final RecipeRecommendationService recipeRecommendationService;
+    private final DailyRecipeRecommendationJob dailyRecipeRecommendationJob;
 
     @Autowired
-    public RecipeRecommendationScheduler(RecipeRecommendationService recipeRecommendationService) {
-        this.recipeRecommendationService = recipeRecommendationService;
+    public RecipeRecommendationScheduler(DailyRecipeRecommendationJob dailyRecipeRecommendationJob) {
+        this.dailyRecipeRecommendationJob = dailyRecipeRecommendationJob;
     }
 
     @Scheduled(cron = "0 0 0 * * *") // 오전9시-하루한번만
@@ -22,7 +22,7 @@ public class RecipeRecommendationScheduler {
         log.info("🍳 레시피 추천 스케줄러 시작 - {}", java.time.LocalDateTime.now());
         
         try {
-            recipeRecommendationService.generateRecipeRecommendationForAllUsers();
+            dailyRecipeRecommendationJob.run(java.time.LocalDate.now());
             log.info("✅ 레시피 추천 스케줄러 완료");
         } catch (Exception e) {
             log.error("❌ 레시피 추천 스케줄러 실행 중 에러 발생", e);
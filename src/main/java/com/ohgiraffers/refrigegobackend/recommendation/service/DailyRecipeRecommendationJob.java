@@ -0,0 +1,338 @@
+package com.ohgiraffers.refrigegobackend.recommendation.service;
+
+import com.ohgiraffers.refrigegobackend.bookmark.infrastructure.repository.BookmarkRepository;
+import com.ohgiraffers.refrigegobackend.common.util.WeightedReservoirSampler;
+import com.ohgiraffers.refrigegobackend.ingredient.domain.UserIngredient;
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.UserIngredientRepository;
+import com.ohgiraffers.refrigegobackend.notification.service.NotificationService;
+import com.ohgiraffers.refrigegobackend.recipe.dto.response.RecipeSummaryDTO;
+import com.ohgiraffers.refrigegobackend.recipe.service.RecipeSummaryService;
+import com.ohgiraffers.refrigegobackend.recommendation.domain.RecommendationJobCheckpoint;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.RecipeIngredientIndex;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.RecipeIngredientMatrix;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository.RecipeIngredientRepository;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository.RecommendationJobCheckpointRepository;
+import com.ohgiraffers.refrigegobackend.user.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 사용자 대상 오늘의 레시피 추천 작업
+ * - 사용자 ID 키셋 페이지네이션으로 chunkSize명씩 처리 (전체 사용자를 한 번에 메모리에 올리지 않음)
+ * - 묶음마다 냉장고 재료/찜 목록을 IN 쿼리로 한 번에 조회하고, 레시피 매칭은 인메모리 비트셋 행렬로 계산
+ * - 사용자별 추천 + 알림 전송은 크기가 고정된 작업 스레드 풀에서 병렬 처리
+ * - 추천 레시피는 후보 목록을 만들지 않고 가중 저수지 표본 추출로 하나만 고름
+ *   (매칭 비율이 높고 소비기한 임박 재료를 많이 쓰는 레시피일수록 잘 뽑힘)
+ * - 같은 데이터로 사용자별 자동 추천 스냅샷도 갱신
+ * - 묶음이 끝날 때마다 진행 상황을 저장하므로, 중간에 서버가 내려가면 마지막 묶음부터 이어서 처리
+ *   (중단된 묶음은 다시 처리되므로 해당 묶음 사용자는 알림을 한 번 더 받을 수 있음)
+ * - 진행 상황 문서의 잠금을 획득한 인스턴스 하나만 처리 (여러 인스턴스가 같은 작업일을 동시에 처리하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyRecipeRecommendationJob {
+
+    private static final String JOB_NAME = "daily-recipe";
+
+    // 소비기한이 이 일수 이하로 남은 재료(냉동 제외)를 임박 재료로 봄 (UserIngredient.isExpiringSoon 과 같은 기준)
+    private static final int URGENT_DAYS = 3;
+
+    private final UserRepository userRepository;
+    private final UserIngredientRepository userIngredientRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final RecipeIngredientIndex recipeIngredientIndex;
+    private final NotificationService notificationService;
+    private final RecommendationJobCheckpointRepository checkpointRepository;
+    private final UserRecommendationSnapshotService userRecommendationSnapshotService;
+    private final RecipeSummaryService recipeSummaryService;
+
+    // 한 번에 조회/처리할 사용자 수
+    @Value("${recommendation.job.chunk-size:500}")
+    private int chunkSize = 500;
+
+    // 사용자별 추천/알림 전송 작업 스레드 수
+    @Value("${recommendation.job.workers:8}")
+    private int workerCount = 8;
+
+    // false면 후보 레시피 중 균등 추출 (매칭 비율 / 임박 재료 가중치 미적용)
+    @Value("${recommendation.job.weighted-pick:true}")
+    private boolean weightedPick = true;
+
+    // 진행 상황 잠금 유지 시간 (묶음 하나 처리 시간보다 충분히 길게, 묶음마다 연장)
+    @Value("${recommendation.job.lease-minutes:30}")
+    private long leaseMinutes = 30;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // 진행 상황 잠금의 owner 로 쓰는 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 기동 시 재개 작업을 실행하는 스레드 (종료 시 정리)
+    private final ExecutorService resumeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "daily-recipe-recommendation-resume");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 기동 시 중간에 끊긴 작업이 있으면 백그라운드에서 이어서 처리
+     * - 작업일과 무관하게 가장 최근의 미완료 작업을 재개 (자정을 넘겨 재기동해도 이어서 처리)
+     * - 다른 인스턴스가 이미 처리 중이면 잠금 획득에 실패해 건너뜀
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRun() {
+        checkpointRepository.findFirstByIdStartingWithAndCompletedFalseOrderByJobDateDesc(JOB_NAME + ":")
+                .ifPresent(checkpoint -> {
+                    log.info("🔁 중단된 레시피 추천 작업 재개 - 작업일: {}, 마지막 사용자 ID: {}",
+                            checkpoint.getJobDate(), checkpoint.getLastUserId());
+                    resumeExecutor.execute(() -> {
+                        try {
+                            run(checkpoint.getJobDate());
+                        } catch (Exception e) {
+                            log.error("❌ 레시피 추천 작업 재개 실패 - 작업일: {}", checkpoint.getJobDate(), e);
+                        }
+                    });
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resumeExecutor.shutdownNow();
+    }
+
+    /**
+     * 작업일 기준 전체 사용자 레시피 추천
+     * - 같은 작업일에 이미 끝난 작업이면 건너뜀
+     * - 이미 실행 중이거나 다른 인스턴스가 잠금을 가지고 있으면 건너뜀
+     *
+     * @param jobDate 작업일
+     */
+    public void run(LocalDate jobDate) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("레시피 추천 작업이 이미 실행 중입니다.");
+            return;
+        }
+
+        String checkpointId = checkpointId(jobDate);
+        Duration lease = Duration.ofMinutes(leaseMinutes);
+        try {
+            RecommendationJobCheckpoint checkpoint = checkpointRepository.acquire(checkpointId, jobDate, instanceId, lease);
+            if (checkpoint == null) {
+                log.info("다른 인스턴스가 레시피 추천 작업을 처리 중입니다 - {}", checkpointId);
+                return;
+            }
+            try {
+                process(checkpoint, lease);
+            } finally {
+                checkpointRepository.release(checkpointId, instanceId);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 잠금을 획득한 진행 상황부터 끝까지 처리 (묶음마다 진행 상황 저장 + 잠금 연장)
+     */
+    private void process(RecommendationJobCheckpoint checkpoint, Duration lease) {
+        ExecutorService workers = Executors.newFixedThreadPool(workerCount);
+        try {
+            if (checkpoint.isCompleted()) {
+                log.info("레시피 추천 작업이 이미 완료되었습니다 - {}", checkpoint.getId());
+                return;
+            }
+
+            long startTime = System.currentTimeMillis();
+            while (true) {
+                List<Long> userIds = userRepository.findActiveUserIdsAfter(
+                        checkpoint.getLastUserId(), PageRequest.of(0, chunkSize));
+                if (userIds.isEmpty()) {
+                    break;
+                }
+
+                ChunkResult result = processChunk(userIds, workers);
+                checkpoint.advance(userIds.get(userIds.size() - 1), userIds.size(), result.recommended, result.failed);
+                checkpoint.renewLease(lease);
+                checkpointRepository.save(checkpoint);
+                log.info("🍳 레시피 추천 진행 - 누적 사용자 {}명, 추천 {}명, 실패 {}명 (마지막 사용자 ID: {})",
+                        checkpoint.getProcessedUsers(), checkpoint.getRecommendedUsers(),
+                        checkpoint.getFailedUsers(), checkpoint.getLastUserId());
+            }
+
+            checkpoint.complete();
+            checkpointRepository.save(checkpoint);
+            log.info("✅ 레시피 추천 작업 완료 - 사용자 {}명, 추천 {}명, 실패 {}명, 소요 {}ms",
+                    checkpoint.getProcessedUsers(), checkpoint.getRecommendedUsers(),
+                    checkpoint.getFailedUsers(), System.currentTimeMillis() - startTime);
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    /**
+     * 사용자 묶음 하나 처리
+     * - 냉장고/찜 목록 일괄 조회 후 사용자별 작업을 스레드 풀에 나눠 실행하고 모두 끝날 때까지 대기
+     */
+    private ChunkResult processChunk(List<Long> userIds, ExecutorService workers) {
+        LocalDate today = LocalDate.now();
+        Map<Long, List<String>> fridges = new HashMap<>();
+        Map<Long, Set<String>> urgentNames = new HashMap<>();
+        for (Object[] row : userIngredientRepository.findFridgeNamesByUserIdIn(userIds)) {
+            String name = UserIngredient.fridgeNameOf((String) row[1], (String) row[2]);
+            if (name == null) {
+                continue;
+            }
+            fridges.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(name);
+            if (isUrgent((LocalDate) row[3], (Boolean) row[4], today)) {
+                urgentNames.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add(name);
+            }
+        }
+
+        Map<Long, Set<String>> bookmarks = new HashMap<>();
+        for (Object[] row : bookmarkRepository.findRecipeIdsByUserIdIn(userIds)) {
+            bookmarks.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((String) row[1]);
+        }
+
+        // 묶음 하나는 같은 행렬로 계산 (처리 중 인덱스가 재구성되어도 일관성 유지)
+        RecipeIngredientMatrix matrix = recipeIngredientIndex.isReady() ? recipeIngredientIndex.getMatrix() : null;
+
+        List<Callable<Boolean>> tasks = userIds.stream()
+                .map(userId -> (Callable<Boolean>) () -> recommendForUser(userId,
+                        fridges.getOrDefault(userId, Collections.emptyList()),
+                        urgentNames.getOrDefault(userId, Collections.emptySet()),
+                        bookmarks.getOrDefault(userId, Collections.emptySet()),
+                        matrix))
+                .collect(Collectors.toList());
+
+        ChunkResult result = new ChunkResult();
+        try {
+            List<Future<Boolean>> futures = workers.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    if (futures.get(i).get()) {
+                        result.recommended++;
+                    }
+                } catch (ExecutionException e) {
+                    result.failed++;
+                    log.error("❌ [유저 {}] 레시피 추천 실패", userIds.get(i), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("레시피 추천 작업이 중단되었습니다.", e);
+        }
+        return result;
+    }
+
+    /**
+     * 사용자 한 명 추천: 냉장고 재료를 하나 이상 쓰는, 찜하지 않은 레시피 중 1개를 가중 추출해 알림으로 전송
+     *
+     * @param urgentNames 소비기한 임박 재료명 (fridgeNames 의 부분집합)
+     * @return 추천 알림을 보냈으면 true
+     */
+    private boolean recommendForUser(Long userId, List<String> fridgeNames, Set<String> urgentNames,
+                                     Set<String> bookmarkedRecipeIds, RecipeIngredientMatrix matrix) {
+        // 자동 추천 스냅샷도 같은 데이터로 갱신 (실패해도 알림 추천은 계속)
+        if (matrix != null) {
+            try {
+                userRecommendationSnapshotService.saveFromNightlyJob(userId, fridgeNames, bookmarkedRecipeIds, matrix);
+            } catch (Exception e) {
+                log.warn("[유저 {}] 추천 스냅샷 갱신 실패: {}", userId, e.getMessage());
+            }
+        }
+
+        if (fridgeNames.isEmpty()) {
+            return false;
+        }
+
+        if (matrix != null) {
+            // 레시피 번호만 훑으며 하나를 고르고, 고른 레시피만 ID/이름으로 변환
+            long[] fridge = matrix.fridgeOfNames(fridgeNames);
+            long[] urgentFridge = urgentNames.isEmpty() ? null : matrix.fridgeOfNames(urgentNames);
+            WeightedReservoirSampler<Integer> sampler = new WeightedReservoirSampler<>(1);
+            for (int recipe = 0; recipe < matrix.getRecipeCount(); recipe++) {
+                int matched = matrix.matchedCountOf(recipe, fridge);
+                if (matched == 0 || bookmarkedRecipeIds.contains(matrix.recipeIdOf(recipe))) {
+                    continue;
+                }
+                int urgent = urgentFridge != null ? matrix.matchedCountOf(recipe, urgentFridge) : 0;
+                sampler.offer(recipe, pickWeight(matched, matrix.ingredientCountOf(recipe), urgent));
+            }
+
+            Integer picked = sampler.getFirst();
+            if (picked == null) {
+                return false;
+            }
+            log.debug("✅ [유저 {}] 추천 레시피: {} (후보 {}개)", userId, matrix.recipeNameOf(picked), sampler.getOfferedCount());
+            notificationService.sendRecipeRecommendation(userId, matrix.recipeIdOf(picked), matrix.recipeNameOf(picked));
+            return true;
+        }
+
+        // 추천 인덱스 준비 전에는 DB 쿼리로 대체 (레시피 ID와 매칭 재료 수만 조회, 매칭 재료 수에 비례해 추출)
+        WeightedReservoirSampler<String> sampler = new WeightedReservoirSampler<>(1);
+        for (Object[] row : recipeIngredientRepository.findRecipeIdsByIngredientNames(fridgeNames)) {
+            String recipeId = (String) row[0];
+            if (!bookmarkedRecipeIds.contains(recipeId)) {
+                sampler.offer(recipeId, weightedPick ? ((Number) row[1]).doubleValue() : 1.0);
+            }
+        }
+
+        String pickedId = sampler.getFirst();
+        if (pickedId == null) {
+            return false;
+        }
+        RecipeSummaryDTO picked = recipeSummaryService.getSummaries(List.of(pickedId)).get(pickedId);
+        if (picked == null) {
+            return false;
+        }
+        log.debug("✅ [유저 {}] 추천 레시피: {} (후보 {}개)", userId, picked.getRcpNm(), sampler.getOfferedCount());
+        notificationService.sendRecipeRecommendation(userId, pickedId, picked.getRcpNm());
+        return true;
+    }
+
+    /**
+     * 추천 추출 가중치: 매칭 비율 x (1 + 사용하는 임박 재료 수)
+     */
+    private double pickWeight(int matched, int total, int urgent) {
+        if (!weightedPick) {
+            return 1.0;
+        }
+        return (double) matched / Math.max(total, 1) * (1 + urgent);
+    }
+
+    private static boolean isUrgent(LocalDate expiryDate, Boolean frozen, LocalDate today) {
+        if (expiryDate == null || Boolean.TRUE.equals(frozen)) {
+            return false;
+        }
+        long daysLeft = ChronoUnit.DAYS.between(today, expiryDate);
+        return daysLeft >= 0 && daysLeft <= URGENT_DAYS;
+    }
+
+    private static String checkpointId(LocalDate jobDate) {
+        return JOB_NAME + ":" + jobDate;
+    }
+
+    /**
+     * 묶음 처리 결과 (추천 성공 / 실패 사용자 수)
+     */
+    private static class ChunkResult {
+        private int recommended;
+        private int failed;
+    }
+}
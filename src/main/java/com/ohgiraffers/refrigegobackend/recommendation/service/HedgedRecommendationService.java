@@ -0,0 +1,265 @@
+package com.ohgiraffers.refrigegobackend.recommendation.service;
+
+import com.ohgiraffers.refrigegobackend.ai.service.AiRecommendationService;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.RecipeRecommendationRequestDto;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.RecipeRecommendationResponseDto;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.RecommendedRecipeDto;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 추천 / 로컬 추천 동시 실행 (헤징)
+ * - 기존 방식(헬스체크 → AI 호출 → 실패 시 로컬)은 최악의 경우 세 단계 지연이 모두 더해짐
+ * - 두 추천을 동시에 시작하고, AI 결과가 예산(aiBudgetMs) 안에 오면 AI 결과를, 아니면 로컬 결과를 반환
+ * - AI 결과가 비어 있거나 오류면 예산을 기다리지 않고 바로 로컬 결과 사용
+ * - 로컬 추천과 AI 호출은 서로 다른 스레드 풀에서 실행 (느린 AI 호출이 스레드를 붙잡아도 로컬 추천은 밀리지 않음)
+ * - AI 결과를 채택하면 아직 끝나지 않은 로컬 추천은 취소, 예산을 넘긴 AI 호출은 취소하지 않고 AI 캐시를 채우도록 둠
+ * - AI 결과는 캐시된 목록을 공유하므로 찜 여부는 복사본에 표시해서 반환
+ * - 어느 쪽이 채택되었는지와 AI 응답 시간을 누적해 예산 조정에 활용 ({@link #getStats()})
+ */
+@Slf4j
+@Service
+public class HedgedRecommendationService {
+
+    /**
+     * 응답 채택 결과
+     */
+    public enum Winner {
+        AI,                 // AI 결과가 예산 안에 도착
+        LOCAL_AI_TIMEOUT,   // AI 결과가 예산 안에 오지 않음
+        LOCAL_AI_ERROR,     // AI 호출 실패
+        LOCAL_AI_EMPTY,     // AI 결과가 비어 있음
+        LOCAL_AI_REJECTED   // 작업 스레드 부족으로 AI 호출을 시작하지 못함
+    }
+
+    private final RecipeRecommendationService recipeRecommendationService;
+    private final AiRecommendationService aiRecommendationService;
+    private final boolean enabled;
+    private final long aiBudgetMillis;
+    private final long localTimeoutMillis;
+    private final ExecutorService localExecutor;
+    private final ExecutorService aiExecutor;
+
+    private final Map<Winner, LongAdder> winCounts = new EnumMap<>(Winner.class);
+    private final LongAdder localFailures = new LongAdder();
+    private final LongAdder aiCompleted = new LongAdder();
+    private final LongAdder aiCompletedLate = new LongAdder();
+    private final LongAdder aiLatencySumMillis = new LongAdder();
+    private final LongAccumulator aiLatencyMaxMillis = new LongAccumulator(Math::max, 0);
+
+    public HedgedRecommendationService(RecipeRecommendationService recipeRecommendationService,
+                                       AiRecommendationService aiRecommendationService,
+                                       @Value("${recommendation.hedge.enabled:true}") boolean enabled,
+                                       @Value("${recommendation.hedge.ai-budget-ms:1500}") long aiBudgetMillis,
+                                       @Value("${recommendation.hedge.local-timeout-ms:3000}") long localTimeoutMillis,
+                                       @Value("${recommendation.hedge.threads:16}") int threads,
+                                       @Value("${recommendation.hedge.local-threads:8}") int localThreads) {
+        // 대기열이 가득 차면 즉시 거절 (AI 호출은 건너뛰고, 로컬 추천은 요청 스레드에서 실행)
+        this(recipeRecommendationService, aiRecommendationService, enabled, aiBudgetMillis, localTimeoutMillis,
+                newPool("recommend-local-", localThreads), newPool("recommend-hedge-", threads));
+    }
+
+    HedgedRecommendationService(RecipeRecommendationService recipeRecommendationService,
+                                AiRecommendationService aiRecommendationService,
+                                boolean enabled, long aiBudgetMillis, long localTimeoutMillis,
+                                ExecutorService localExecutor, ExecutorService aiExecutor) {
+        this.recipeRecommendationService = recipeRecommendationService;
+        this.aiRecommendationService = aiRecommendationService;
+        this.enabled = enabled;
+        this.aiBudgetMillis = aiBudgetMillis;
+        this.localTimeoutMillis = localTimeoutMillis;
+        this.localExecutor = localExecutor;
+        this.aiExecutor = aiExecutor;
+
+        for (Winner winner : Winner.values()) {
+            winCounts.put(winner, new LongAdder());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * AI / 로컬 추천을 동시에 실행해서 먼저 쓸 수 있는 결과 반환
+     *
+     * @param requestDto 추천 요청 정보 (두 작업이 읽기만 함)
+     * @return 채택된 추천 결과
+     */
+    public RecipeRecommendationResponseDto recommend(RecipeRecommendationRequestDto requestDto) {
+        long startNanos = System.nanoTime();
+
+        Future<RecipeRecommendationResponseDto> local = submitLocal(requestDto);
+        CompletableFuture<RecipeRecommendationResponseDto> ai = submitAi(requestDto);
+
+        Winner localReason;
+        if (ai == null) {
+            localReason = Winner.LOCAL_AI_REJECTED;
+        } else {
+            ai.whenComplete((response, error) -> recordAiLatency(startNanos, error == null));
+            try {
+                RecipeRecommendationResponseDto aiResponse = ai.get(aiBudgetMillis, TimeUnit.MILLISECONDS);
+                if (aiResponse != null && aiResponse.getRecommendedRecipes() != null
+                        && !aiResponse.getRecommendedRecipes().isEmpty()) {
+                    if (local != null) {
+                        local.cancel(true);
+                    }
+                    return won(Winner.AI, withFavorites(aiResponse, requestDto), startNanos);
+                }
+                localReason = Winner.LOCAL_AI_EMPTY;
+            } catch (TimeoutException e) {
+                localReason = Winner.LOCAL_AI_TIMEOUT;
+            } catch (ExecutionException e) {
+                log.warn("AI 추천 실패 - 로컬 결과 사용: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                localReason = Winner.LOCAL_AI_ERROR;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("레시피 추천이 중단되었습니다.", e);
+            }
+        }
+
+        return won(localReason, awaitLocal(local, requestDto, startNanos), startNanos);
+    }
+
+    /**
+     * 로컬 추천 결과 대기 (요청 시작부터 localTimeoutMs 까지)
+     */
+    private RecipeRecommendationResponseDto awaitLocal(Future<RecipeRecommendationResponseDto> local,
+                                                       RecipeRecommendationRequestDto requestDto, long startNanos) {
+        if (local == null) {
+            // 작업 스레드가 부족하면 요청 스레드에서 직접 실행
+            return recipeRecommendationService.recommendRecipes(requestDto);
+        }
+        long remainingMillis = localTimeoutMillis - elapsedMillis(startNanos);
+        try {
+            return local.get(Math.max(0, remainingMillis), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            local.cancel(true);
+            localFailures.increment();
+            throw new RuntimeException("레시피 추천 시간이 초과되었습니다. (" + localTimeoutMillis + "ms)", e);
+        } catch (ExecutionException e) {
+            localFailures.increment();
+            throw new RuntimeException("레시피 추천 처리 중 오류가 발생했습니다: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("레시피 추천이 중단되었습니다.", e);
+        }
+    }
+
+    private Future<RecipeRecommendationResponseDto> submitLocal(RecipeRecommendationRequestDto requestDto) {
+        try {
+            return localExecutor.submit(() -> recipeRecommendationService.recommendRecipes(requestDto));
+        } catch (RejectedExecutionException e) {
+            log.warn("로컬 추천 작업 스레드 부족 - 요청 스레드에서 실행합니다.");
+            return null;
+        }
+    }
+
+    private CompletableFuture<RecipeRecommendationResponseDto> submitAi(RecipeRecommendationRequestDto requestDto) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> aiRecommendationService.requestAiRecommendations(requestDto), aiExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("AI 추천 작업 스레드 부족 - AI 호출을 건너뜁니다.");
+            return null;
+        }
+    }
+
+    /**
+     * AI 결과에 사용자 찜 여부 표시 (AI 캐시가 공유하는 DTO는 변경하지 않고 찜한 레시피만 복사본으로 교체)
+     */
+    private RecipeRecommendationResponseDto withFavorites(RecipeRecommendationResponseDto aiResponse,
+                                                          RecipeRecommendationRequestDto requestDto) {
+        List<RecommendedRecipeDto> marked = recipeRecommendationService.markFavorites(
+                aiResponse.getRecommendedRecipes(), requestDto.getUserId());
+        return new RecipeRecommendationResponseDto(marked, marked.size(), aiResponse.getSelectedIngredients());
+    }
+
+    private static ExecutorService newPool(String namePrefix, int threads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 8),
+                runnable -> {
+                    Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private RecipeRecommendationResponseDto won(Winner winner, RecipeRecommendationResponseDto response, long startNanos) {
+        winCounts.get(winner).increment();
+        log.info("추천 응답 채택 - 경로: {}, 소요: {}ms, 레시피 수: {}",
+                winner, elapsedMillis(startNanos), response.getTotalCount());
+        return response;
+    }
+
+    private void recordAiLatency(long startNanos, boolean succeeded) {
+        if (!succeeded) {
+            return;
+        }
+        long latencyMillis = elapsedMillis(startNanos);
+        aiCompleted.increment();
+        aiLatencySumMillis.add(latencyMillis);
+        aiLatencyMaxMillis.accumulate(latencyMillis);
+        if (latencyMillis > aiBudgetMillis) {
+            aiCompletedLate.increment();
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        localExecutor.shutdownNow();
+        aiExecutor.shutdownNow();
+    }
+
+    /**
+     * 누적 통계 스냅샷
+     */
+    public Stats getStats() {
+        Map<Winner, Long> wins = new LinkedHashMap<>();
+        winCounts.forEach((winner, count) -> wins.put(winner, count.sum()));
+        long completed = aiCompleted.sum();
+        return new Stats(enabled, aiBudgetMillis, localTimeoutMillis, wins, localFailures.sum(),
+                completed, aiCompletedLate.sum(),
+                completed == 0 ? 0 : aiLatencySumMillis.sum() / completed,
+                aiLatencyMaxMillis.get());
+    }
+
+    /**
+     * 헤징 통계
+     * - aiCompletedLate: 예산을 넘겨 도착한 AI 응답 수 (예산을 늘리면 AI 채택이 늘어날 여지)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Stats {
+        private final boolean enabled;
+        private final long aiBudgetMillis;
+        private final long localTimeoutMillis;
+        private final Map<Winner, Long> wins;
+        private final long localFailures;
+        private final long aiCompleted;
+        private final long aiCompletedLate;
+        private final long aiLatencyAvgMillis;
+        private final long aiLatencyMaxMillis;
+    }
+}
@@ -0,0 +1,149 @@
+package com.ohgiraffers.refrigegobackend.recommendation.service;
+
+import com.ohgiraffers.refrigegobackend.ingredient.domain.Ingredient;
+import com.ohgiraffers.refrigegobackend.ingredient.domain.IngredientCategory;
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.IngredientRepository;
+import com.ohgiraffers.refrigegobackend.recipe.infrastructure.repository.RecipeIngredientTokenRepository;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository.RecipeIngredientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 레시피-재료 연결 테이블(recipe_ingredients) 동기화 서비스
+ * - 레시피 저장 시 만든 재료 토큰(기준 재료 ID 포함)으로 레시피별 연결 목록을 계산
+ * - 기존 연결과 비교해서 바뀐 행만 JDBC 배치로 추가/수정/삭제 (같은 데이터를 다시 저장하면 쓰기 없음)
+ * - 주재료 판별: 재료 목록 앞쪽부터 양념/기름류를 제외한 최대 3개
+ * - MySQL JDBC URL에 rewriteBatchedStatements=true가 있어야 배치가 다중 행 문장으로 전송됨
+ *   (datasource 설정은 설정 서버에서 관리하므로 이 저장소에는 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeIngredientLinkService {
+
+    // 주재료로 표시할 최대 재료 수
+    private static final int MAIN_INGREDIENT_LIMIT = 3;
+
+    // 재료 목록 앞쪽에 있어도 주재료로 보지 않는 분류
+    private static final Set<IngredientCategory> NON_MAIN_CATEGORIES =
+            EnumSet.of(IngredientCategory.SEASONING, IngredientCategory.OIL);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO recipe_ingredients (recipe_id, ingredient_id, is_main_ingredient, created_at) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE recipe_ingredients SET is_main_ingredient = ? WHERE recipe_id = ? AND ingredient_id = ?";
+    private static final String DELETE_SQL =
+            "DELETE FROM recipe_ingredients WHERE recipe_id = ? AND ingredient_id = ?";
+
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final RecipeIngredientTokenRepository recipeIngredientTokenRepository;
+    private final IngredientRepository ingredientRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 레시피들의 연결 테이블을 재료 토큰 기준으로 동기화
+     * - 재료 토큰이 먼저 저장되어 있어야 함 (RecipeIngredientTokenService.tokenize)
+     *
+     * @param recipeIds 동기화할 레시피 ID 목록
+     * @return 추가/수정/삭제된 연결 수
+     */
+    @Transactional
+    public int syncLinks(Collection<String> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return 0;
+        }
+        long startTime = System.currentTimeMillis();
+
+        Map<String, Map<Long, Boolean>> expected = buildExpectedLinks(recipeIds);
+        Map<String, Map<Long, Boolean>> existing = new HashMap<>();
+        for (Object[] row : recipeIngredientRepository.findLinksByRecipeIds(recipeIds)) {
+            existing.computeIfAbsent((String) row[0], id -> new HashMap<>())
+                    .put(((Number) row[1]).longValue(), Boolean.TRUE.equals(row[2]));
+        }
+
+        // 기존 연결과 비교
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        for (String recipeId : new LinkedHashSet<>(recipeIds)) {
+            Map<Long, Boolean> expectedLinks = expected.getOrDefault(recipeId, Collections.emptyMap());
+            Map<Long, Boolean> existingLinks = existing.getOrDefault(recipeId, Collections.emptyMap());
+
+            expectedLinks.forEach((ingredientId, isMain) -> {
+                Boolean current = existingLinks.get(ingredientId);
+                if (current == null) {
+                    inserts.add(new Object[]{recipeId, ingredientId, isMain, now});
+                } else if (!current.equals(isMain)) {
+                    updates.add(new Object[]{isMain, recipeId, ingredientId});
+                }
+            });
+            existingLinks.keySet().stream()
+                    .filter(ingredientId -> !expectedLinks.containsKey(ingredientId))
+                    .forEach(ingredientId -> deletes.add(new Object[]{recipeId, ingredientId}));
+        }
+
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+
+        log.info("레시피-재료 연결 동기화 - 레시피 {}개, 추가 {}건, 수정 {}건, 삭제 {}건, 소요 {}ms",
+                recipeIds.size(), inserts.size(), updates.size(), deletes.size(),
+                System.currentTimeMillis() - startTime);
+        return inserts.size() + updates.size() + deletes.size();
+    }
+
+    /**
+     * 재료 토큰으로 레시피별 연결 목록 계산
+     * @return 레시피 ID → (재료 ID → 주재료 여부), 재료 순서 유지
+     */
+    private Map<String, Map<Long, Boolean>> buildExpectedLinks(Collection<String> recipeIds) {
+        // 1. 레시피별 기준 재료 ID (토큰 순서, 중복 제외)
+        Map<String, LinkedHashSet<Long>> ingredientIdsByRecipe = new HashMap<>();
+        Set<Long> allIngredientIds = new HashSet<>();
+        for (Object[] row : recipeIngredientTokenRepository.findTokensByRecipeIds(recipeIds)) {
+            if (row[3] == null) {
+                continue;
+            }
+            Long ingredientId = ((Number) row[3]).longValue();
+            ingredientIdsByRecipe.computeIfAbsent((String) row[0], id -> new LinkedHashSet<>()).add(ingredientId);
+            allIngredientIds.add(ingredientId);
+        }
+
+        // 2. 주재료 판별용 재료 분류
+        Map<Long, IngredientCategory> categories = new HashMap<>();
+        for (Ingredient ingredient : ingredientRepository.findAllById(allIngredientIds)) {
+            categories.put(ingredient.getId(), ingredient.getCategory());
+        }
+
+        // 3. 앞쪽부터 양념/기름류를 제외한 최대 MAIN_INGREDIENT_LIMIT개를 주재료로 표시
+        Map<String, Map<Long, Boolean>> expected = new HashMap<>();
+        ingredientIdsByRecipe.forEach((recipeId, ingredientIds) -> {
+            Map<Long, Boolean> links = new LinkedHashMap<>();
+            int mainCount = 0;
+            for (Long ingredientId : ingredientIds) {
+                boolean isMain = mainCount < MAIN_INGREDIENT_LIMIT
+                        && !NON_MAIN_CATEGORIES.contains(categories.get(ingredientId));
+                if (isMain) {
+                    mainCount++;
+                }
+                links.put(ingredientId, isMain);
+            }
+            expected.put(recipeId, links);
+        });
+        return expected;
+    }
+}
@@ -3,20 +3,36 @@ package com.ohgiraffers.refrigegobackend.recommendation.service;
 import com.ohgiraffers.refrigegobackend.bookmark.domain.Bookmark;
 import com.ohgiraffers.refrigegobackend.bookmark.dto.response.UserIngredientRecipeResponseDTO;
 import com.ohgiraffers.refrigegobackend.bookmark.infrastructure.repository.BookmarkRepository;
+import com.ohgiraffers.refrigegobackend.common.util.Deadline;
+import com.ohgiraffers.refrigegobackend.common.util.TopKSelector;
 import com.ohgiraffers.refrigegobackend.ingredient.domain.Ingredient;
 import com.ohgiraffers.refrigegobackend.ingredient.domain.UserIngredient;
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.dictionary.SelectedIngredientMatcher;
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.dictionary.SynonymDictionary;
 import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.IngredientRepository;
 import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.UserIngredientRepository;
-import com.ohgiraffers.refrigegobackend.notification.service.NotificationService;
 import com.ohgiraffers.refrigegobackend.recipe.domain.Recipe;
+import com.ohgiraffers.refrigegobackend.recipe.dto.response.RecipeIngredientTokenDTO;
+import com.ohgiraffers.refrigegobackend.recipe.dto.response.RecipeSummaryDTO;
 import com.ohgiraffers.refrigegobackend.recipe.infrastructure.repository.RecipeRepository;
+import com.ohgiraffers.refrigegobackend.recipe.service.RecipeIngredientTokenService;
+import com.ohgiraffers.refrigegobackend.recipe.service.RecipeSummaryService;
 import com.ohgiraffers.refrigegobackend.recommendation.dto.*;
 import java.util.Arrays;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.cache.RecommendationCacheKey;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.cache.RecommendationResponseCache;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.FridgeMatch;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.RecipeIngredientIndex;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.RecipeIngredientMatrix;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.RecipeMatch;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.UserCandidateStore;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.UserCandidates;
 import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository.RecipeIngredientRepository;
 import com.ohgiraffers.refrigegobackend.user.entity.User;
 import com.ohgiraffers.refrigegobackend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +42,10 @@ import java.util.stream.Collectors;
 /**
  * 레시피 추천 서비스
  * - RecipeIngredient 매핑 테이블을 활용한 정확한 추천
+ * - 매칭 비율 계산은 인메모리 역색인(RecipeIngredientIndex) 우선, 준비 전에는 DB 쿼리 사용
+ * - 스마트/주재료 추천은 레시피 × 재료 비트셋 행렬(RecipeIngredientMatrix)로 채점
+ * - 스마트/임박 재료 추천은 요청 마감(Deadline)을 후보 채점 → 상세 조회 → 분류 단계로 넘기고,
+ *   마감이 지나면 그때까지 채점한 후보만으로 순위를 매겨 partial=true 로 응답
  */
 @Service
 @RequiredArgsConstructor
@@ -33,18 +53,72 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class RecipeRecommendationService {
 
+    // 추천 대상이 되는 최소 매칭 비율 (%)
+    private static final double MIN_MATCH_PERCENTAGE = 30.0;
+
+    // 스마트 추천 구간별 노출 개수 (PERFECT / MISSING_1 / MISSING_2)
+    private static final int SMART_PERFECT_LIMIT = 5;
+    private static final int SMART_ONE_MISSING_LIMIT = 3;
+    private static final int SMART_TWO_MISSING_LIMIT = 2;
+
+    // 스마트 추천 정렬 기준: 매칭 점수(높을수록 우선) → 긴급도(낮을수록 우선)
+    private static final Comparator<SmartRecommendedRecipeDto> SMART_ORDER = Comparator
+            .comparing(SmartRecommendedRecipeDto::getMatchScore, Comparator.reverseOrder())
+            .thenComparing(SmartRecommendedRecipeDto::getUrgencyScore);
+
+    // 임박 재료 소진 추천 기본 개수
+    private static final int USE_IT_UP_LIMIT = 10;
+
+    // 임박 재료 소진 추천 정렬: 사용하는 긴급 재료 수 → 긴급도 → 매칭 점수
+    private static final Comparator<SmartRecommendedRecipeDto> USE_IT_UP_ORDER = Comparator
+            .comparingInt((SmartRecommendedRecipeDto recipe) -> recipe.getUrgentIngredients().size()).reversed()
+            .thenComparing(SmartRecommendedRecipeDto::getUrgencyScore)
+            .thenComparing(SmartRecommendedRecipeDto::getMatchScore, Comparator.reverseOrder());
+
     private final RecipeIngredientRepository recipeIngredientRepository;
+    private final RecipeIngredientIndex recipeIngredientIndex;
     private final IngredientRepository ingredientRepository;
     private final RecipeRepository recipeRepository;
+    private final RecipeSummaryService recipeSummaryService;
+    private final RecipeIngredientTokenService recipeIngredientTokenService;
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
     private final UserIngredientRepository userIngredientRepository;
-    private final NotificationService notificationService;
+    private final SynonymDictionary synonymDictionary;
+    private final RecommendationResponseCache recommendationResponseCache;
+    private final UserCandidateStore userCandidateStore;
+
+    // 요청에 마감 헤더가 없을 때의 처리 예산 (모바일 클라이언트는 약 2초 후 요청을 포기)
+    @Value("${recommendation.deadline.default-ms:1800}")
+    private long defaultDeadlineMillis = 1800;
+
+    // 헤더로 받은 예산에서 응답 직렬화/전송 몫으로 빼 둘 시간
+    @Value("${recommendation.deadline.reserve-ms:200}")
+    private long deadlineReserveMillis = 200;
+
+    // 헤더로 받을 수 있는 최대 예산
+    @Value("${recommendation.deadline.max-ms:10000}")
+    private long maxDeadlineMillis = 10000;
+
+    /**
+     * 요청 처리 마감 계산
+     *
+     * @param requestedMillis 클라이언트가 보낸 남은 대기 시간 (ms, 없거나 0 이하면 기본 예산 사용)
+     */
+    public Deadline deadlineFor(Long requestedMillis) {
+        if (requestedMillis == null || requestedMillis <= 0) {
+            return Deadline.after(defaultDeadlineMillis);
+        }
+        return Deadline.after(Math.min(requestedMillis, maxDeadlineMillis) - deadlineReserveMillis);
+    }
 
     /**
      * 사용자가 선택한 재료를 기반으로 레시피 추천
      * - 매핑 테이블을 활용한 정확한 매칭
-     * - DB 레벨에서 매칭 비율 계산
+     * - 인메모리 역색인에서 매칭 비율 계산 (인덱스 준비 전에는 DB 쿼리)
+     * - 같은 재료 조합 + 개수의 결과는 응답 캐시에서 재사용
+     * - 매칭 재료는 선택 재료 비트셋과 레시피 행의 교집합, 찜 여부는 요청마다 한 번 읽은 찜 목록으로 표시
+     *   (캐시에는 사용자와 무관한 결과만 저장하고 찜 여부는 응답 직전에 표시)
      * 
      * @param requestDto 추천 요청 정보 (선택한 재료들)
      * @return 추천된 레시피 목록
@@ -62,15 +136,32 @@ public class RecipeRecommendationService {
 
         log.info("변환된 재료 ID: {}", ingredientIds);
 
-        // 2. DB에서 매칭 비율 기반 레시피 조회 (최소 30% 이상 매칭)
-        List<Object[]> matchResults = recipeIngredientRepository
-                .findRecipesByIngredientsWithMatchRatio(ingredientIds, 30.0);
+        // 2. 같은 재료 조합 + 개수의 최근 결과가 있으면 재사용
+        int limit = requestDto.getLimit() != null ? requestDto.getLimit() : 10;
+        RecommendationCacheKey cacheKey = RecommendationCacheKey.of(ingredientIds, limit);
+        List<RecommendedRecipeDto> cached = recommendationResponseCache.getLocal(cacheKey);
+        if (cached != null) {
+            log.info("레시피 추천 캐시 적중 - 추천된 레시피 수: {}", cached.size());
+            List<RecommendedRecipeDto> marked = markFavorites(cached, requestDto.getUserId());
+            return new RecipeRecommendationResponseDto(marked, marked.size(), requestDto.getSelectedIngredients());
+        }
+
+        // 3. 매칭 비율 기반 레시피 상위 limit개 조회 (최소 30% 이상 매칭)
+        List<RecipeMatch> limitedResults = findMatchingRecipes(ingredientIds, limit);
+
+        // 4. 결과를 DTO로 변환 (레시피 상세는 한 번에 조회, 매칭 재료는 인덱스가 준비된 경우 비트셋 교집합)
+        Map<String, RecipeSummaryDTO> summaries = recipeSummaryService.getSummaries(limitedResults.stream()
+                .map(RecipeMatch::getRecipeId)
+                .collect(Collectors.toList()));
+        RecipeIngredientMatrix matrix = recipeIngredientIndex.isReady() ? recipeIngredientIndex.getMatrix() : null;
+        long[] fridge = matrix != null ? matrix.fridgeOf(ingredientIds) : null;
 
-        // 3. 결과를 DTO로 변환
-        List<RecommendedRecipeDto> recommendedRecipes = matchResults.stream()
-                .limit(requestDto.getLimit() != null ? requestDto.getLimit() : 10)
-                .map(this::convertToRecommendedRecipeDto)
+        List<RecommendedRecipeDto> cachedRecipes = limitedResults.stream()
+                .map(match -> convertToRecommendedRecipeDto(match, summaries.get(match.getRecipeId()),
+                        matrix != null ? matrix.matchedIngredientNames(match.getRecipeId(), fridge) : List.of()))
                 .collect(Collectors.toList());
+        recommendationResponseCache.putLocal(cacheKey, cachedRecipes);
+        List<RecommendedRecipeDto> recommendedRecipes = markFavorites(cachedRecipes, requestDto.getUserId());
 
         log.info("레시피 추천 완료 - 추천된 레시피 수: {}", recommendedRecipes.size());
 
@@ -85,9 +176,10 @@ public class RecipeRecommendationService {
      * 특정 레시피 상세 정보 조회
      * 
      * @param recipeId 레시피 ID
+     * @param userId 로그인 사용자 ID (비회원이면 null, 찜 여부 표시용)
      * @return 레시피 상세 정보
      */
-    public RecommendedRecipeDto getRecipeDetail(String recipeId) {
+    public RecommendedRecipeDto getRecipeDetail(String recipeId, Long userId) {
         log.info("레시피 상세 조회 - 레시피: {}", recipeId);
 
         Recipe recipe = recipeRepository.findById(recipeId)
@@ -102,7 +194,7 @@ public class RecipeRecommendationService {
                 .imageUrl(recipe.getImage())
                 .matchedIngredientCount(0) // 상세 조회에서는 의미없음
                 .matchedIngredients(List.of())
-                .isFavorite(false) // TODO: 북마크 서비스와 연동
+                .isFavorite(userId != null && bookmarkRepository.existsByUserIdAndRecipeRcpSeq(userId, recipeId))
                 .matchScore(0.0)
                 .build();
     }
@@ -111,9 +203,10 @@ public class RecipeRecommendationService {
      * 주재료 기반 추천 (더 정확한 추천)
      * 
      * @param ingredientNames 재료명 목록
+     * @param userId 찜 여부를 표시할 사용자 ID 문자열 (컨트롤러가 로그인 사용자 ID로 설정, 비회원이면 null)
      * @return 주재료 기반 추천 레시피
      */
-    public RecipeRecommendationResponseDto recommendByMainIngredients(List<String> ingredientNames) {
+    public RecipeRecommendationResponseDto recommendByMainIngredients(List<String> ingredientNames, String userId) {
         log.info("주재료 기반 추천 시작 - 재료: {}", ingredientNames);
 
         List<Long> ingredientIds = convertIngredientNamesToIds(ingredientNames);
@@ -122,6 +215,13 @@ public class RecipeRecommendationService {
             return new RecipeRecommendationResponseDto(List.of(), 0, ingredientNames);
         }
 
+        if (recipeIngredientIndex.isReady()) {
+            List<RecommendedRecipeDto> recommendations = markFavorites(
+                    recommendByMainIngredientsWithMatrix(ingredientIds), userId);
+            log.info("주재료 기반 추천 완료 - 추천된 레시피 수: {}", recommendations.size());
+            return new RecipeRecommendationResponseDto(recommendations, recommendations.size(), ingredientNames);
+        }
+
         // 주재료만 매칭하는 레시피 조회
         List<com.ohgiraffers.refrigegobackend.recommendation.domain.RecipeIngredient> mainIngredientRecipes = 
                 recipeIngredientRepository.findRecipesByMainIngredients(ingredientIds);
@@ -141,12 +241,53 @@ public class RecipeRecommendationService {
                 .distinct()
                 .limit(10)
                 .collect(Collectors.toList());
+        recommendations = markFavorites(recommendations, userId);
 
         log.info("주재료 기반 추천 완료 - 추천된 레시피 수: {}", recommendations.size());
 
         return new RecipeRecommendationResponseDto(recommendations, recommendations.size(), ingredientNames);
     }
 
+    /**
+     * 비트셋 행렬 기반 주재료 추천
+     * - 주재료가 하나 이상 냉장고에 있는 레시피를 보유 주재료 수 → 보유 재료 비율 순으로 정렬
+     * - 상위 10개만 레시피 요약 정보를 한 번에 조회 (찜 여부는 markFavorites 에서 표시)
+     */
+    private List<RecommendedRecipeDto> recommendByMainIngredientsWithMatrix(List<Long> ingredientIds) {
+        RecipeIngredientMatrix matrix = recipeIngredientIndex.getMatrix();
+        long[] fridge = matrix.fridgeOf(ingredientIds);
+
+        TopKSelector<FridgeMatch> topMatches = new TopKSelector<>(10,
+                Comparator.comparingInt(FridgeMatch::getMatchedMainIngredients).reversed()
+                        .thenComparing(Comparator.comparingDouble(FridgeMatch::getMatchRatio).reversed())
+                        .thenComparing(FridgeMatch::getRecipeId));
+        matrix.findByMainIngredients(fridge).forEach(topMatches::offer);
+        List<FridgeMatch> matches = topMatches.toSortedList();
+
+        Map<String, RecipeSummaryDTO> summaries = recipeSummaryService.getSummaries(matches.stream()
+                .map(FridgeMatch::getRecipeId)
+                .collect(Collectors.toList()));
+
+        return matches.stream()
+                .filter(match -> summaries.containsKey(match.getRecipeId()))
+                .map(match -> {
+                    RecipeSummaryDTO summary = summaries.get(match.getRecipeId());
+                    return RecommendedRecipeDto.builder()
+                            .recipeId(summary.getRcpSeq())
+                            .recipeName(summary.getRcpNm())
+                            .ingredients(summary.getRcpPartsDtls())
+                            .cookingMethod1(summary.getManual01())
+                            .cookingMethod2(summary.getManual02())
+                            .imageUrl(summary.getImage())
+                            .matchedIngredientCount(match.getMatchedIngredients())
+                            .matchedIngredients(matrix.matchedIngredientNames(match, fridge))
+                            .matchScore(match.getMatchRatio())
+                            .isFavorite(false)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * 재료명을 표준 재료 ID로 변환 (개선된 버전)
      */
@@ -173,36 +314,85 @@ public class RecipeRecommendationService {
     }
 
     /**
-     * DB 쿼리 결과를 DTO로 변환
+     * 선택한 재료 ID 기준 매칭 레시피 상위 limit개 조회
+     * - 인메모리 역색인이 준비되어 있으면 포스팅 리스트만 순회하며 상위 limit개만 유지
+     * - 준비 전(기동 직후, 구성 실패)에는 기존 DB GROUP BY 쿼리로 대체
      */
-    private RecommendedRecipeDto convertToRecommendedRecipeDto(Object[] result) {
-        String recipeId = (String) result[0];
-        String recipeName = (String) result[1];
-        Long totalIngredients = (Long) result[2];
-        Long matchedIngredients = (Long) result[3];
-        Double matchPercentage = (Double) result[4];
-
-        // 레시피 상세 정보 조회
-        Recipe recipe = recipeRepository.findById(recipeId)
-                .orElse(null);
+    private List<RecipeMatch> findMatchingRecipes(List<Long> ingredientIds, int limit) {
+        if (recipeIngredientIndex.isReady()) {
+            return recipeIngredientIndex.findMatches(ingredientIds, MIN_MATCH_PERCENTAGE, limit);
+        }
+
+        log.warn("추천 인덱스가 준비되지 않아 DB 매칭 쿼리로 처리합니다.");
+        return recipeIngredientRepository
+                .findRecipesByIngredientsWithMatchRatio(ingredientIds, MIN_MATCH_PERCENTAGE)
+                .stream()
+                .limit(limit)
+                .map(RecipeMatch::fromRow)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 매칭 결과를 DTO로 변환 (찜 여부는 markFavorites 에서 표시)
+     * @param summary 일괄 조회한 레시피 요약 정보 (DB에 없으면 null)
+     * @param matchedIngredients 선택 재료 중 레시피에 들어가는 재료명
+     */
+    private RecommendedRecipeDto convertToRecommendedRecipeDto(RecipeMatch match, RecipeSummaryDTO summary,
+                                                               List<String> matchedIngredients) {
+        String recipeId = match.getRecipeId();
+        String recipeName = match.getRecipeName();
+        int matchedIngredientCount = match.getMatchedIngredients();
+        double matchPercentage = match.getMatchPercentage();
 
         return RecommendedRecipeDto.builder()
                 .recipeId(recipeId)
                 .recipeName(recipeName)
-                .ingredients(recipe != null ? recipe.getRcpPartsDtls() : "")
-                .cookingMethod1(recipe != null ? recipe.getManual01() : "")
-                .cookingMethod2(recipe != null ? recipe.getManual02() : "")
-                .imageUrl(recipe != null ? recipe.getImage() : "")
-                .matchedIngredientCount(matchedIngredients.intValue())
-                .matchedIngredients(List.of()) // TODO: 성능 최적화 후 구현
+                .ingredients(summary != null ? summary.getRcpPartsDtls() : "")
+                .cookingMethod1(summary != null ? summary.getManual01() : "")
+                .cookingMethod2(summary != null ? summary.getManual02() : "")
+                .imageUrl(summary != null ? summary.getImage() : "")
+                .matchedIngredientCount(matchedIngredientCount)
+                .matchedIngredients(matchedIngredients)
                 .matchScore(matchPercentage / 100.0) // 0.0 ~ 1.0 범위로 정규화
-                .isFavorite(false) // TODO: 북마크 서비스와 연동
+                .isFavorite(false)
                 .build();
     }
 
+    /**
+     * 사용자가 찜한 레시피에 찜 여부 표시
+     * - 찜 목록은 요청마다 한 번만 조회하고, 찜한 레시피만 복사본을 만들어 표시 (캐시된 DTO는 변경하지 않음)
+     * - AI 추천 결과에도 같은 방식으로 표시 ({@link HedgedRecommendationService})
+     *
+     * @param userId 사용자 ID 문자열 (비회원이거나 숫자가 아니면 그대로 반환)
+     */
+    public List<RecommendedRecipeDto> markFavorites(List<RecommendedRecipeDto> recipes, String userId) {
+        Set<String> bookmarkedRecipeIds = bookmarkedRecipeIdsOf(userId);
+        if (bookmarkedRecipeIds.isEmpty()) {
+            return recipes;
+        }
+        return recipes.stream()
+                .map(recipe -> bookmarkedRecipeIds.contains(recipe.getRecipeId())
+                        ? recipe.toBuilder().isFavorite(true).build()
+                        : recipe)
+                .collect(Collectors.toList());
+    }
+
+    private Set<String> bookmarkedRecipeIdsOf(String userId) {
+        if (userId == null) {
+            return Collections.emptySet();
+        }
+        try {
+            return new HashSet<>(bookmarkRepository.findRecipeIdsByUserId(Long.valueOf(userId)));
+        } catch (NumberFormatException e) {
+            return Collections.emptySet();
+        }
+    }
+
 
     /**
      * 해당 레시피의 주재료를 사용한 다른 레시피 추천
+     * - 추천 인덱스가 준비되어 있으면 미리 계산한 이웃 테이블(가중 Jaccard 상위 10개)에서 바로 조회
+     * - 북마크 여부는 사용자의 찜 목록을 한 번만 조회해서 판별
      * @param username 사용자 아이디
      * @param recipeId 레시피 아이디
      * @return
@@ -211,33 +401,73 @@ public class RecipeRecommendationService {
 
         User user = userRepository.findByUsernameAndDeletedFalse(username);
 
-        // 1. 기준 레시피 주재료 아이디들 조회
-        List<Long> mainIngredientIds = recipeIngredientRepository.findMainIngredientIdsByRecipeId(recipeId);
+        // 1. 유사 레시피 조회
+        List<Recipe> similarRecipes = recipeIngredientIndex.isReady()
+                ? findNeighborRecipes(recipeId)
+                : findSimilarRecipesFromDb(recipeId);
 
-        if (mainIngredientIds.isEmpty()) {
+        if (similarRecipes.isEmpty()) {
             return Collections.emptyList();
         }
 
-        // 2. 기준 레시피와 다른, 동일 주재료를 사용하는 레시피들 조회
-        List<Recipe> similarRecipes = recipeIngredientRepository.findRecipesByMainIngredientIds(mainIngredientIds, recipeId);
-
-        // 3. 북마크 여부 체크 및 DTO 변환
+        // 2. 북마크 여부 체크 및 DTO 변환
+        Set<String> bookmarkedRecipeIds = new HashSet<>(bookmarkRepository.findRecipeIdsByUserId(user.getId()));
         return similarRecipes.stream()
-                .map(recipe -> {
-                    boolean bookmarked = bookmarkRepository.existsByUserIdAndRecipeRcpSeq(user.getId(), recipe.getRcpSeq());
-                    return new SimilarIngredientRecipeDTO(recipe, bookmarked).toResponseDto();
-                })
+                .map(recipe -> new SimilarIngredientRecipeDTO(recipe,
+                        bookmarkedRecipeIds.contains(recipe.getRcpSeq())).toResponseDto())
                 .limit(10)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 이웃 테이블의 유사 레시피를 유사도 순서대로 조회
+     */
+    private List<Recipe> findNeighborRecipes(String recipeId) {
+        List<String> neighborIds = recipeIngredientIndex.getNeighbors().neighborsOf(recipeId);
+        if (neighborIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Recipe> recipesById = recipeRepository.findAllById(neighborIds).stream()
+                .collect(Collectors.toMap(Recipe::getRcpSeq, recipe -> recipe));
+        return neighborIds.stream()
+                .map(recipesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 기준 레시피와 주재료가 같은 레시피 DB 조회 (추천 인덱스 준비 전)
+     */
+    private List<Recipe> findSimilarRecipesFromDb(String recipeId) {
+        // 기준 레시피 주재료 아이디들 조회
+        List<Long> mainIngredientIds = recipeIngredientRepository.findMainIngredientIdsByRecipeId(recipeId);
+
+        if (mainIngredientIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 기준 레시피와 다른, 동일 주재료를 사용하는 레시피들 조회
+        return recipeIngredientRepository.findRecipesByMainIngredientIds(mainIngredientIds, recipeId);
+    }
+
 
     /**
      * 스마트 레시피 추천 (유통기한 고려)
+     *
+     * @param deadline 처리 마감 (지나면 그때까지의 결과를 partial 로 반환)
      */
-    public SmartRecommendationResponseDto recommendRecipesSmart(SmartRecommendationRequestDto requestDto) {
-        log.info("스마트 레시피 추천 시작 - 사용자: {}, 선택한 재료: {}", 
-                requestDto.getUserId(), requestDto.getSelectedIngredients());
+    public SmartRecommendationResponseDto recommendRecipesSmart(SmartRecommendationRequestDto requestDto,
+                                                                Deadline deadline) {
+        log.info("스마트 레시피 추천 시작 - 사용자: {}, 선택한 재료: {}, {}", 
+                requestDto.getUserId(), requestDto.getSelectedIngredients(), deadline);
+
+        if (recipeIngredientIndex.isReady()) {
+            RecipeIngredientMatrix matrix = recipeIngredientIndex.getMatrix();
+            UrgencyIndex urgency = catalogUrgencyOf(matrix, requestDto.getUserId(), requestDto.getSelectedIngredients());
+            return recommendRecipesSmartWithMatrix(requestDto.getUserId(), matrix, urgency,
+                    requestDto.getSelectedIngredients(), deadline);
+        }
 
         // 1. 기본 추천 받기
         RecipeRecommendationRequestDto basicRequest = new RecipeRecommendationRequestDto(
@@ -248,15 +478,240 @@ public class RecipeRecommendationService {
         
         RecipeRecommendationResponseDto basicResponse = recommendRecipes(basicRequest);
         
-        // 2. 사용자 냉장고 재료 정보 조회
-        List<SmartRecommendationRequestDto.UserIngredientInfo> userIngredients = 
-                getUserIngredientInfos(requestDto.getUserId(), requestDto.getSelectedIngredients());
+        // 2. 사용자 냉장고 재료 정보 조회 (재료별 유통기한 긴급도 인덱스로 한 번만 구성)
+        UrgencyIndex urgency = UrgencyIndex.of(
+                getUserIngredientInfos(requestDto.getUserId(), requestDto.getSelectedIngredients()));
         
         // 3. 스마트 분류 및 정렬
         return categorizeAndSortRecipesSmart(basicResponse.getRecommendedRecipes(), 
-                userIngredients, requestDto.getSelectedIngredients());
+                urgency, requestDto.getSelectedIngredients(), deadline);
     }
     
+    /**
+     * 임박 재료 소진 추천 (유통기한이 임박한 재료를 가장 많이 쓰는 레시피 순)
+     * - 긴급 재료만 담은 비트셋을 레시피 행과 AND 해서 긴급 재료를 하나 이상 쓰는 레시피만 채점
+     * - 부족 재료는 스마트 추천과 같이 2개까지만 허용
+     * - 인덱스 준비 전에는 스마트 추천 결과를 같은 기준으로 다시 정렬
+     *
+     * @param deadline 처리 마감 (지나면 그때까지의 결과를 partial 로 반환)
+     */
+    public SmartRecommendationResponseDto recommendUseItUp(SmartRecommendationRequestDto requestDto,
+                                                           Deadline deadline) {
+        log.info("임박 재료 소진 추천 시작 - 사용자: {}, 선택한 재료: {}",
+                requestDto.getUserId(), requestDto.getSelectedIngredients());
+
+        int limit = requestDto.getLimit() != null && requestDto.getLimit() > 0
+                ? requestDto.getLimit() : USE_IT_UP_LIMIT;
+
+        if (!recipeIngredientIndex.isReady()) {
+            SmartRecommendationResponseDto response = recommendRecipesSmart(requestDto, deadline);
+            List<SmartRecommendedRecipeDto> recipes = response.getRecommendedRecipes().stream()
+                    .filter(recipe -> !recipe.getUrgentIngredients().isEmpty())
+                    .sorted(USE_IT_UP_ORDER)
+                    .limit(limit)
+                    .collect(Collectors.toList());
+            response.setRecommendedRecipes(recipes);
+            response.setTotalCount(recipes.size());
+            return response;
+        }
+
+        List<String> selectedIngredients = requestDto.getSelectedIngredients();
+        RecipeIngredientMatrix matrix = recipeIngredientIndex.getMatrix();
+        UrgencyIndex urgency = catalogUrgencyOf(matrix, requestDto.getUserId(), selectedIngredients);
+        long[] fridge = matrix.fridgeOfNames(catalogNamesOf(matrix, selectedIngredients));
+
+        TopKSelector<SmartRecommendedRecipeDto> top = new TopKSelector<>(limit, USE_IT_UP_ORDER);
+        int[] missingCounts = new int[4]; // 부족 0 / 1 / 2 / 그 외
+        boolean partial = false;
+        for (FridgeMatch urgentMatch : matrix.findMatching(urgency.urgentFridge(matrix), Integer.MAX_VALUE)) {
+            if (deadline.isExpired()) {
+                partial = true;
+                break;
+            }
+            FridgeMatch match = matrix.matchOf(urgentMatch.getRecipeOrdinal(),
+                    matrix.matchedCount(urgentMatch.getRecipeId(), fridge), fridge);
+            int missing = match.getMissingIngredients();
+            missingCounts[Math.min(missing, 3)]++;
+            if (missing <= 2) {
+                top.offer(convertToSmartRecipe(match, matrix, fridge, urgency));
+            }
+        }
+
+        List<SmartRecommendedRecipeDto> finalRecipes = top.toSortedList();
+        partial |= !fillSmartRecipeDetails(finalRecipes, deadline);
+
+        SmartRecommendationResponseDto.SmartCategoryInfo categoryInfo = new SmartRecommendationResponseDto.SmartCategoryInfo(
+                missingCounts[0], missingCounts[1], missingCounts[2], missingCounts[3]);
+        return buildSmartResponse(finalRecipes, categoryInfo, urgency, selectedIngredients, partial);
+    }
+
+    /**
+     * 비트셋 행렬 기반 스마트 추천
+     * - 선택한 재료를 동의어 사전으로 표준 재료명에 맞춰 냉장고 비트셋을 만들고 전체 레시피의 부족 재료 수를 한 번에 계산
+     * - 부족 재료 0/1/2개 구간만 DTO로 만들어 구간별 상위 K개만 유지하고, 최종 선택된 레시피만 상세 조회
+     * - 선택한 재료가 냉장고 전체와 같으면 사용자별 후보 점수 저장소의 증분 점수를 그대로 사용
+     * - 마감이 지나면 남은 후보는 채점하지 않음 (구간별 개수도 채점한 후보까지만 집계)
+     */
+    private SmartRecommendationResponseDto recommendRecipesSmartWithMatrix(
+            String userId,
+            RecipeIngredientMatrix matrix,
+            UrgencyIndex urgency,
+            List<String> selectedIngredients,
+            Deadline deadline) {
+
+        long[] fridge = matrix.fridgeOfNames(catalogNamesOf(matrix, selectedIngredients));
+
+        SmartBuckets buckets = new SmartBuckets();
+        boolean partial = false;
+        UserCandidates candidates = findFridgeCandidates(userId, matrix, fridge);
+        if (candidates != null) {
+            List<FridgeMatch> matches = candidates.findMatching(2);
+            for (FridgeMatch match : matches) {
+                if (deadline.isExpired()) {
+                    partial = true;
+                    break;
+                }
+                buckets.offer(convertToSmartRecipe(match, matrix, fridge, urgency));
+            }
+            buckets.countOther(candidates.countMatching() - matches.size());
+        } else {
+            for (FridgeMatch match : matrix.findMatching(fridge, Integer.MAX_VALUE)) {
+                if (match.getMissingIngredients() > 2) {
+                    buckets.countOther(1);
+                } else if (deadline.isExpired()) {
+                    partial = true;
+                    break;
+                } else {
+                    buckets.offer(convertToSmartRecipe(match, matrix, fridge, urgency));
+                }
+            }
+        }
+
+        List<SmartRecommendedRecipeDto> finalRecipes = buckets.toFinalRecipes();
+        partial |= !fillSmartRecipeDetails(finalRecipes, deadline);
+
+        return buildSmartResponse(finalRecipes, buckets.toCategoryInfo(), urgency, selectedIngredients, partial);
+    }
+
+    /**
+     * 최종 선택된 레시피만 상세 정보(재료, 조리법, 이미지) 채움
+     * - 마감이 지났으면 DB 조회 없이 요약 캐시에 있는 레시피만 채움
+     *
+     * @return 모든 레시피의 상세 정보를 채울 기회가 있었으면 true (마감으로 건너뛴 레시피가 있으면 false)
+     */
+    private boolean fillSmartRecipeDetails(List<SmartRecommendedRecipeDto> finalRecipes, Deadline deadline) {
+        List<String> recipeIds = finalRecipes.stream()
+                .map(SmartRecommendedRecipeDto::getRecipeId)
+                .collect(Collectors.toList());
+        boolean expired = deadline.isExpired();
+        Map<String, RecipeSummaryDTO> summaries = expired
+                ? recipeSummaryService.getCachedSummaries(recipeIds)
+                : recipeSummaryService.getSummaries(recipeIds);
+        for (SmartRecommendedRecipeDto smartRecipe : finalRecipes) {
+            RecipeSummaryDTO summary = summaries.get(smartRecipe.getRecipeId());
+            if (summary != null) {
+                smartRecipe.setIngredients(summary.getRcpPartsDtls());
+                smartRecipe.setCookingMethod1(summary.getManual01());
+                smartRecipe.setCookingMethod2(summary.getManual02());
+                smartRecipe.setImageUrl(summary.getImage());
+            }
+        }
+        return !expired || summaries.size() == recipeIds.size();
+    }
+
+    /**
+     * 재료명을 행렬의 표준 재료명으로 변환
+     * - 표준 재료명과 정확히 같지 않으면 DB 경로(SelectedIngredientMatcher)와 같이 동의어 사전의 대표 재료명으로 다시 찾음
+     * - 둘 다 없으면 원래 이름 그대로 (비트셋에는 들어가지 않음)
+     */
+    private String catalogNameOf(RecipeIngredientMatrix matrix, String name) {
+        int column = matrix.columnOf(name);
+        if (column < 0 && name != null) {
+            column = matrix.columnOf(synonymDictionary.canonicalOf(name));
+        }
+        return column >= 0 ? matrix.ingredientNameOf(column) : name;
+    }
+
+    private List<String> catalogNamesOf(RecipeIngredientMatrix matrix, List<String> names) {
+        return names.stream()
+                .map(name -> catalogNameOf(matrix, name))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 비트셋 행렬 경로용 긴급도 인덱스
+     * - 매칭 결과의 재료명(표준 재료명)으로 조회하므로 냉장고 재료명도 표준 재료명으로 맞춤
+     */
+    private UrgencyIndex catalogUrgencyOf(RecipeIngredientMatrix matrix, String userId, List<String> selectedIngredients) {
+        List<SmartRecommendationRequestDto.UserIngredientInfo> infos = getUserIngredientInfos(userId, selectedIngredients);
+        infos.forEach(info -> info.setName(catalogNameOf(matrix, info.getName())));
+        return UrgencyIndex.of(infos);
+    }
+
+    /**
+     * 선택한 재료 비트셋이 사용자의 냉장고 전체와 같을 때의 후보 점수
+     * - 비회원, 일부 재료만 선택한 경우, 다른 행렬 기준 점수는 null
+     */
+    private UserCandidates findFridgeCandidates(String userId, RecipeIngredientMatrix matrix, long[] fridge) {
+        if (userId == null) {
+            return null;
+        }
+        try {
+            UserCandidates candidates = userCandidateStore.getCandidates(Long.valueOf(userId));
+            return candidates != null && candidates.isBuiltOn(matrix) && candidates.hasFridge(fridge)
+                    ? candidates : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 비트셋 매칭 결과를 스마트 추천 DTO로 변환 (레시피 상세 정보 제외)
+     */
+    private SmartRecommendedRecipeDto convertToSmartRecipe(
+            FridgeMatch match,
+            RecipeIngredientMatrix matrix,
+            long[] fridge,
+            UrgencyIndex urgency) {
+
+        List<String> matchedIngredients = matrix.matchedIngredientNames(match, fridge);
+        List<String> missingIngredients = matrix.missingIngredientNames(match, fridge);
+        List<String> urgentIngredientsForRecipe = urgency.urgentAmong(matchedIngredients);
+
+        String matchStatus;
+        switch (match.getMissingIngredients()) {
+            case 0:
+                matchStatus = "PERFECT";
+                break;
+            case 1:
+                matchStatus = "MISSING_1";
+                break;
+            default:
+                matchStatus = "MISSING_2";
+                break;
+        }
+
+        return SmartRecommendedRecipeDto.builder()
+                .recipeId(match.getRecipeId())
+                .recipeName(match.getRecipeName())
+                .matchedIngredientCount(match.getMatchedIngredients())
+                .matchedIngredients(matchedIngredients)
+                .missingIngredients(missingIngredients)
+                .matchScore(match.getMatchRatio())
+                .isFavorite(false)
+                .matchStatus(matchStatus)
+                .urgencyScore(urgency.scoreOf(matchedIngredients))
+                .urgentIngredients(urgentIngredientsForRecipe)
+                .recommendReason(generateRecommendReason(urgentIngredientsForRecipe, missingIngredients, matchStatus))
+                .build();
+    }
+
+    /**
+     * 선택한 재료 중 냉장고에 있는 재료의 유통기한 정보
+     *
+     * @param userId 사용자 ID 문자열 (컨트롤러가 로그인 사용자 ID로 설정, 비회원이면 null)
+     */
     private List<SmartRecommendationRequestDto.UserIngredientInfo> getUserIngredientInfos(
             String userId, List<String> selectedIngredients) {
         
@@ -276,26 +731,14 @@ public class RecipeRecommendationService {
         }
         
         try {
-            User user = userRepository.findByUsernameAndDeletedFalse(userId);
-            if (user == null) {
-                return Collections.emptyList();
-            }
-            
-            List<UserIngredient> userIngredients = userIngredientRepository.findByUserId(user.getId());
+            List<UserIngredient> userIngredients = userIngredientRepository.findByUserId(Long.valueOf(userId));
             
             return userIngredients.stream()
-                    .filter(ui -> {
-                        String ingredientName = ui.getCustomName() != null && !ui.getCustomName().trim().isEmpty() 
-                                ? ui.getCustomName().trim() 
-                                : (ui.getIngredient() != null ? ui.getIngredient().getName() : "");
-                        return selectedIngredients.contains(ingredientName);
-                    })
+                    .filter(ui -> ui.getFridgeName() != null && selectedIngredients.contains(ui.getFridgeName()))
                     .map(ui -> {
                         SmartRecommendationRequestDto.UserIngredientInfo info = 
                             new SmartRecommendationRequestDto.UserIngredientInfo();
-                        info.setName(ui.getCustomName() != null && !ui.getCustomName().trim().isEmpty() 
-                                ? ui.getCustomName().trim() 
-                                : ui.getIngredient().getName());
+                        info.setName(ui.getFridgeName());
                         // 유통기한 계산 - null 체크 없이 직접 계산
                         long expiryDays = ui.getExpiryDaysLeft();
                         info.setExpiryDaysLeft(expiryDays == Long.MAX_VALUE ? null : (int) expiryDays);
@@ -312,102 +755,90 @@ public class RecipeRecommendationService {
         }
     }
     
+    /**
+     * DB 경로 스마트 분류 (후보는 매칭 비율 순이므로 마감 시 앞쪽 후보만 분류해도 상위 결과에 가까움)
+     */
     private SmartRecommendationResponseDto categorizeAndSortRecipesSmart(
             List<RecommendedRecipeDto> recipes,
-            List<SmartRecommendationRequestDto.UserIngredientInfo> userIngredients,
-            List<String> selectedIngredients) {
-        
-        List<SmartRecommendedRecipeDto> perfectMatches = new ArrayList<>();
-        List<SmartRecommendedRecipeDto> oneMissingMatches = new ArrayList<>();
-        List<SmartRecommendedRecipeDto> twoMissingMatches = new ArrayList<>();
-        List<SmartRecommendedRecipeDto> otherMatches = new ArrayList<>();
+            UrgencyIndex urgency,
+            List<String> selectedIngredients,
+            Deadline deadline) {
         
+        // 각 카테고리 내에서 점수/긴급도 순 상위 K개만 유지
+        // 선택 재료는 요청 단위로 한 번만 정규화해서 모든 레시피에 재사용
+        SelectedIngredientMatcher ingredientMatcher = synonymDictionary.matcherFor(selectedIngredients);
+
+        // 레시피 저장 시 만들어 둔 재료 토큰을 한 번에 조회
+        Map<String, List<RecipeIngredientTokenDTO>> tokensByRecipe = recipeIngredientTokenService.getTokens(
+                recipes.stream().map(RecommendedRecipeDto::getRecipeId).collect(Collectors.toList()));
+
+        SmartBuckets buckets = new SmartBuckets();
+        boolean partial = false;
         for (RecommendedRecipeDto recipe : recipes) {
-            SmartRecommendedRecipeDto smartRecipe = convertToSmartRecipe(recipe, userIngredients, selectedIngredients);
-            
-            switch (smartRecipe.getMatchStatus()) {
-                case "PERFECT":
-                    perfectMatches.add(smartRecipe);
-                    break;
-                case "MISSING_1":
-                    oneMissingMatches.add(smartRecipe);
-                    break;
-                case "MISSING_2":
-                    twoMissingMatches.add(smartRecipe);
-                    break;
-                default:
-                    otherMatches.add(smartRecipe);
-                    break;
+            if (deadline.isExpired()) {
+                partial = true;
+                break;
+            }
+            List<RecipeIngredientTokenDTO> tokens = tokensByRecipe.get(recipe.getRecipeId());
+            if (tokens == null) {
+                // 토큰 도입 전 저장된 레시피는 요청 시 분리
+                tokens = recipeIngredientTokenService.tokenizeText(recipe.getIngredients());
             }
+            buckets.offer(convertToSmartRecipe(recipe, tokens, urgency, ingredientMatcher));
         }
         
-        // 각 카테고리 내에서 긴급도 순으로 정렬
-        sortByUrgency(perfectMatches);
-        sortByUrgency(oneMissingMatches);
-        sortByUrgency(twoMissingMatches);
-        
-        // 최종 결과 조합
-        List<SmartRecommendedRecipeDto> finalRecipes = new ArrayList<>();
-        finalRecipes.addAll(perfectMatches.subList(0, Math.min(perfectMatches.size(), 5)));
-        finalRecipes.addAll(oneMissingMatches.subList(0, Math.min(oneMissingMatches.size(), 3)));
-        finalRecipes.addAll(twoMissingMatches.subList(0, Math.min(twoMissingMatches.size(), 2)));
-        
-        // 긴급 재료 추출
-        List<String> urgentIngredients = userIngredients.stream()
-                .filter(ui -> ui.getExpiryDaysLeft() != null && ui.getExpiryDaysLeft() <= 2 && !ui.getFrozen())
-                .map(SmartRecommendationRequestDto.UserIngredientInfo::getName)
-                .collect(Collectors.toList());
-        
+        return buildSmartResponse(buckets.toFinalRecipes(), buckets.toCategoryInfo(), urgency, selectedIngredients,
+                partial);
+    }
+
+    /**
+     * 스마트 추천 응답 조합 (분류별 개수, 긴급 재료 포함)
+     */
+    private SmartRecommendationResponseDto buildSmartResponse(
+            List<SmartRecommendedRecipeDto> finalRecipes,
+            SmartRecommendationResponseDto.SmartCategoryInfo categoryInfo,
+            UrgencyIndex urgency,
+            List<String> selectedIngredients,
+            boolean partial) {
+
         SmartRecommendationResponseDto response = new SmartRecommendationResponseDto();
         response.setRecommendedRecipes(finalRecipes);
         response.setTotalCount(finalRecipes.size());
         response.setSelectedIngredients(selectedIngredients);
-        
-        SmartRecommendationResponseDto.SmartCategoryInfo categoryInfo = 
-            new SmartRecommendationResponseDto.SmartCategoryInfo();
-        categoryInfo.setPerfectMatches(perfectMatches.size());
-        categoryInfo.setOneMissingMatches(oneMissingMatches.size());
-        categoryInfo.setTwoMissingMatches(twoMissingMatches.size());
-        categoryInfo.setOtherMatches(otherMatches.size());
-        
         response.setCategoryInfo(categoryInfo);
-        response.setUrgentIngredients(urgentIngredients);
+        // 긴급 재료 (가장 급한 재료부터)
+        response.setUrgentIngredients(new ArrayList<>(urgency.getUrgentNames()));
+        response.setPartial(partial);
+        if (partial) {
+            log.warn("스마트 추천 처리 마감 초과 - 일부 후보만 반영한 결과 반환 (레시피 수: {})", finalRecipes.size());
+        }
         
         return response;
     }
     
     private SmartRecommendedRecipeDto convertToSmartRecipe(
             RecommendedRecipeDto recipe,
-            List<SmartRecommendationRequestDto.UserIngredientInfo> userIngredients,
-            List<String> selectedIngredients) {
-        
-        // 레시피 필요 재료 분석
-        List<String> recipeIngredients = parseRecipeIngredients(recipe.getIngredients());
+            List<RecipeIngredientTokenDTO> recipeTokens,
+            UrgencyIndex urgency,
+            SelectedIngredientMatcher ingredientMatcher) {
         
         // 매칭 분석
         List<String> matchedIngredients = new ArrayList<>();
         List<String> missingIngredients = new ArrayList<>();
         List<String> urgentIngredientsForRecipe = new ArrayList<>();
         
-        for (String recipeIng : recipeIngredients) {
-            boolean found = false;
-            for (String selectedIng : selectedIngredients) {
-                if (isIngredientMatch(recipeIng, selectedIng)) {
-                    matchedIngredients.add(selectedIng);
-                    
-                    // 긴급도 체크
-                    userIngredients.stream()
-                            .filter(ui -> ui.getName().equals(selectedIng))
-                            .filter(ui -> ui.getExpiryDaysLeft() != null && ui.getExpiryDaysLeft() <= 2 && !ui.getFrozen())
-                            .findFirst()
-                            .ifPresent(ui -> urgentIngredientsForRecipe.add(ui.getName()));
-                    
-                    found = true;
-                    break;
-                }
+        for (RecipeIngredientTokenDTO token : recipeTokens) {
+            // 토큰에 저장된 대표 재료명으로 선택 재료와 비교
+            String selectedIng = ingredientMatcher.match(token.getTokenText(), token.getCanonicalName());
+            if (selectedIng == null) {
+                missingIngredients.add(token.getTokenText());
+                continue;
             }
-            if (!found) {
-                missingIngredients.add(recipeIng);
+            matchedIngredients.add(selectedIng);
+            
+            // 긴급도 체크
+            if (urgency.isUrgent(selectedIng)) {
+                urgentIngredientsForRecipe.add(selectedIng);
             }
         }
         
@@ -425,7 +856,7 @@ public class RecipeRecommendationService {
         }
         
         // 긴급도 점수 계산
-        int urgencyScore = calculateUrgencyScore(matchedIngredients, userIngredients);
+        int urgencyScore = urgency.scoreOf(matchedIngredients);
         
         // 추천 이유 생성
         String recommendReason = generateRecommendReason(urgentIngredientsForRecipe, missingIngredients, matchStatus);
@@ -449,60 +880,6 @@ public class RecipeRecommendationService {
         );
     }
     
-    private List<String> parseRecipeIngredients(String ingredientsText) {
-        if (ingredientsText == null || ingredientsText.trim().isEmpty()) {
-            return Collections.emptyList();
-        }
-        
-        return Arrays.stream(ingredientsText.split(",|\\|"))  
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .limit(10) // 최대 10개만
-                .collect(Collectors.toList());
-    }
-    
-    private boolean isIngredientMatch(String recipeIngredient, String userIngredient) {
-        String recipe = recipeIngredient.toLowerCase().trim();
-        String user = userIngredient.toLowerCase().trim();
-        
-        // 정확 매칭
-        if (recipe.equals(user)) return true;
-        
-        // 포함 관계
-        if (recipe.contains(user) || user.contains(recipe)) return true;
-        
-        // 동의어 사전 (간단한 버전)
-        Map<String, List<String>> synonyms = Map.of(
-                "파프리카", List.of("피망", "빨간피망", "노란피망"),
-                "피망", List.of("파프리카"),
-                "양배추", List.of("배추", "캐비지"),
-                "배추", List.of("양배추"),
-                "대파", List.of("파", "쪽파"),
-                "파", List.of("대파", "쪽파"),
-                "삼겹살", List.of("돼지고기", "돼지삼겹살"),
-                "돼지고기", List.of("삼겹살"),
-                "고춧가루", List.of("고추가루"),
-                "고추가루", List.of("고춧가루")
-        );
-        
-        return synonyms.getOrDefault(user, Collections.emptyList()).contains(recipe) ||
-               synonyms.getOrDefault(recipe, Collections.emptyList()).contains(user);
-    }
-    
-    private int calculateUrgencyScore(List<String> matchedIngredients, 
-            List<SmartRecommendationRequestDto.UserIngredientInfo> userIngredients) {
-        
-        return matchedIngredients.stream()
-                .mapToInt(ingredient -> 
-                        userIngredients.stream()
-                                .filter(ui -> ui.getName().equals(ingredient))
-                                .mapToInt(ui -> ui.getExpiryDaysLeft() != null ? ui.getExpiryDaysLeft() : 999)
-                                .min()
-                                .orElse(999))
-                .min()
-                .orElse(999);
-    }
-    
     private String generateRecommendReason(List<String> urgentIngredients, List<String> missingIngredients, String matchStatus) {
         // 긴급 재료가 있으면 우선 표시
         if (!urgentIngredients.isEmpty()) {
@@ -524,63 +901,53 @@ public class RecipeRecommendationService {
         return "추천 레시피에요!";
     }
     
-    private void sortByUrgency(List<SmartRecommendedRecipeDto> recipes) {
-        recipes.sort((r1, r2) -> {
-            // 1차: 매칭 점수 (높을수록 우선) - 점수 우선순위!
-            int scoreCompare = Double.compare(r2.getMatchScore(), r1.getMatchScore());
-            if (scoreCompare != 0) return scoreCompare;
-            
-            // 2차: 긴급도 (낮을수록 우선) - 동점일 때만 고려
-            return Integer.compare(r1.getUrgencyScore(), r2.getUrgencyScore());
-        });
-    }
-
     /**
-     * 보유 중인 식재료로 만들 수 있는 레시피 랜덤 1개 반환
+     * 스마트 추천 구간별 상위 K개 선택
+     * - PERFECT / MISSING_1 / MISSING_2 구간마다 노출할 개수만큼만 힙에 유지
+     * - 구간별 전체 개수는 응답의 categoryInfo 용으로 집계만 함
      */
-    public void generateRecipeRecommendationForAllUsers() {
-        List<User> users = userRepository.findAllByDeletedFalse();
-
-        log.info("🍳 전체 사용자 수: {}", users.size());
-
-        for (User user : users) {
-            log.info("👤 [유저 {}] 추천 레시피 생성 시작", user.getUsername());
-
-            // ↓ 직접 인라인 처리
-            List<UserIngredient> userIngredients = userIngredientRepository.findByUserId(user.getId());
-
-            List<String> fridgeIngredientNames = userIngredients.stream()
-                    .map(ui -> {
-                        if (ui.getCustomName() != null && !ui.getCustomName().trim().isEmpty()) {
-                            return ui.getCustomName().trim();
-                        } else if (ui.getIngredient() != null) {
-                            return ui.getIngredient().getName().trim();
-                        }
-                        return null;
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
-
-            List<String> bookmarkedRecipeIds = bookmarkRepository.findByUserId(user.getId()).stream()
-                    .map(b -> b.getRecipe().getRcpSeq())
-                    .toList();
-
-            List<Recipe> matched = recipeIngredientRepository.findRecipesByIngredientsExcludingRecipeIds(
-                    fridgeIngredientNames, bookmarkedRecipeIds
-            );
-
-            if (matched.isEmpty()) {
-                log.info("❌ [유저 {}] 추천 가능한 레시피 없음", user.getUsername());
-                continue;
+    private static class SmartBuckets {
+
+        private final TopKSelector<SmartRecommendedRecipeDto> perfect =
+                new TopKSelector<>(SMART_PERFECT_LIMIT, SMART_ORDER);
+        private final TopKSelector<SmartRecommendedRecipeDto> oneMissing =
+                new TopKSelector<>(SMART_ONE_MISSING_LIMIT, SMART_ORDER);
+        private final TopKSelector<SmartRecommendedRecipeDto> twoMissing =
+                new TopKSelector<>(SMART_TWO_MISSING_LIMIT, SMART_ORDER);
+        private int otherCount;
+
+        void offer(SmartRecommendedRecipeDto recipe) {
+            switch (recipe.getMatchStatus()) {
+                case "PERFECT":
+                    perfect.offer(recipe);
+                    break;
+                case "MISSING_1":
+                    oneMissing.offer(recipe);
+                    break;
+                case "MISSING_2":
+                    twoMissing.offer(recipe);
+                    break;
+                default:
+                    otherCount++;
+                    break;
             }
+        }
 
-            Recipe recipe = matched.get(new Random().nextInt(matched.size()));
+        void countOther(int count) {
+            otherCount += count;
+        }
 
-            log.info("✅ [유저 {}] 추천 레시피: {}", user.getUsername(), recipe.getRcpNm());
+        SmartRecommendationResponseDto.SmartCategoryInfo toCategoryInfo() {
+            return new SmartRecommendationResponseDto.SmartCategoryInfo(perfect.getOfferedCount(),
+                    oneMissing.getOfferedCount(), twoMissing.getOfferedCount(), otherCount);
+        }
 
-            notificationService.sendRecipeRecommendation(user.getId(), recipe);
+        List<SmartRecommendedRecipeDto> toFinalRecipes() {
+            List<SmartRecommendedRecipeDto> finalRecipes = new ArrayList<>();
+            finalRecipes.addAll(perfect.toSortedList());
+            finalRecipes.addAll(oneMissing.toSortedList());
+            finalRecipes.addAll(twoMissing.toSortedList());
+            return finalRecipes;
         }
     }
-
-
 }
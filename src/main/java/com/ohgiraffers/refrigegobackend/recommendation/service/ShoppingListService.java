@@ -0,0 +1,83 @@
+package com.ohgiraffers.refrigegobackend.recommendation.service;
+
+import com.ohgiraffers.refrigegobackend.recipe.dto.response.RecipeSummaryDTO;
+import com.ohgiraffers.refrigegobackend.recipe.service.RecipeSummaryService;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.ShoppingListResponseDto;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.ShoppingListPlanner;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.ShoppingPlan;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.UserCandidateStore;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.UserCandidates;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장보기 목록 서비스
+ * - 사용자 냉장고 기준으로, 적은 재료를 사서 새로 만들 수 있는 레시피를 최대한 늘리는 구매 목록 계산
+ * - 냉장고 비트셋은 사용자별 후보 점수 저장소의 값을 그대로 사용하고, 계산은 {@link ShoppingListPlanner}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShoppingListService {
+
+    // 한 번에 계산할 수 있는 최대 구매 재료 수
+    public static final int MAX_ITEMS = 10;
+
+    private final UserCandidateStore userCandidateStore;
+    private final RecipeSummaryService recipeSummaryService;
+
+    /**
+     * 사용자 냉장고 기준 장보기 목록
+     *
+     * @param userId 사용자 ID
+     * @param maxItems 구매할 최대 재료 수 (1 ~ {@link #MAX_ITEMS})
+     * @throws IllegalStateException 추천 인덱스 준비 전
+     */
+    public ShoppingListResponseDto getShoppingList(Long userId, int maxItems) {
+        if (maxItems < 1 || maxItems > MAX_ITEMS) {
+            throw new IllegalArgumentException("구매할 재료 수는 1 ~ " + MAX_ITEMS + "개여야 합니다: " + maxItems);
+        }
+        UserCandidates candidates = userCandidateStore.getCandidates(userId);
+        if (candidates == null) {
+            throw new IllegalStateException("추천 인덱스가 아직 준비되지 않았습니다.");
+        }
+
+        long startNanos = System.nanoTime();
+        ShoppingPlan plan = ShoppingListPlanner.plan(candidates.getMatrix(), candidates.getFridge(), maxItems);
+        log.info("장보기 목록 계산 - 사용자: {}, 구매 재료: {}, 새로 만들 수 있는 레시피 {}개, {}μs",
+                userId, plan.getIngredientsToBuy(), plan.getUnlockedRecipeCount(),
+                (System.nanoTime() - startNanos) / 1000);
+
+        return toResponse(plan);
+    }
+
+    private ShoppingListResponseDto toResponse(ShoppingPlan plan) {
+        List<String> unlockedRecipeIds = new ArrayList<>();
+        plan.getSteps().forEach(step -> unlockedRecipeIds.addAll(step.getUnlockedRecipeIds()));
+        Map<String, RecipeSummaryDTO> summaries = recipeSummaryService.getSummaries(unlockedRecipeIds);
+
+        List<ShoppingListResponseDto.ShoppingStep> steps = new ArrayList<>(plan.getSteps().size());
+        for (ShoppingPlan.Step step : plan.getSteps()) {
+            List<ShoppingListResponseDto.UnlockedRecipe> recipes = new ArrayList<>();
+            for (int i = 0; i < step.getUnlockedRecipeIds().size(); i++) {
+                String recipeId = step.getUnlockedRecipeIds().get(i);
+                RecipeSummaryDTO summary = summaries.get(recipeId);
+                recipes.add(new ShoppingListResponseDto.UnlockedRecipe(recipeId,
+                        step.getUnlockedRecipeNames().get(i), summary != null ? summary.getImage() : ""));
+            }
+            steps.add(new ShoppingListResponseDto.ShoppingStep(step.getIngredients(), recipes));
+        }
+
+        return ShoppingListResponseDto.builder()
+                .ingredientsToBuy(plan.getIngredientsToBuy())
+                .steps(steps)
+                .cookableNowCount(plan.getCookableNowCount())
+                .unlockedRecipeCount(plan.getUnlockedRecipeCount())
+                .build();
+    }
+}
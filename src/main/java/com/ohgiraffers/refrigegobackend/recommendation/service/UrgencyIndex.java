@@ -0,0 +1,108 @@
+package com.ohgiraffers.refrigegobackend.recommendation.service;
+
+import com.ohgiraffers.refrigegobackend.recommendation.dto.SmartRecommendationRequestDto;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.RecipeIngredientMatrix;
+
+import java.util.*;
+
+/**
+ * 냉장고 재료 유통기한 긴급도 인덱스 (요청 단위로 한 번 구성)
+ * - 재료명 → 최소 남은 일수를 미리 모아 두어, 레시피마다 냉장고 목록 전체를 다시 훑지 않고 조회 한 번으로 긴급도 계산
+ * - 긴급 재료(남은 일수 URGENT_DAYS 이하, 냉동 제외)는 최소 힙에서 꺼낸 순서(가장 급한 재료부터)로 보관
+ * - 같은 재료를 여러 건 보유하면 가장 빨리 만료되는 건 기준
+ */
+final class UrgencyIndex {
+
+    // 이 일수 이하로 남은 재료를 긴급 재료로 분류
+    static final int URGENT_DAYS = 2;
+
+    // 유통기한 정보가 없는 재료의 긴급도 (클수록 여유)
+    static final int NO_EXPIRY = 999;
+
+    // 재료명 → 최소 남은 일수 (냉동 포함, 긴급도 점수용)
+    private final Map<String, Integer> minDaysLeft;
+
+    // 긴급 재료명 (남은 일수 → 재료명 순)
+    private final List<String> urgentNames;
+    private final Set<String> urgentNameSet;
+
+    private UrgencyIndex(Map<String, Integer> minDaysLeft, List<String> urgentNames) {
+        this.minDaysLeft = minDaysLeft;
+        this.urgentNames = Collections.unmodifiableList(urgentNames);
+        this.urgentNameSet = new HashSet<>(urgentNames);
+    }
+
+    static UrgencyIndex of(List<SmartRecommendationRequestDto.UserIngredientInfo> userIngredients) {
+        Map<String, Integer> minDaysLeft = new HashMap<>(userIngredients.size() * 2);
+        Map<String, Integer> urgentDaysLeft = new HashMap<>();
+
+        for (SmartRecommendationRequestDto.UserIngredientInfo info : userIngredients) {
+            if (info.getName() == null) {
+                continue;
+            }
+            int daysLeft = info.getExpiryDaysLeft() != null ? info.getExpiryDaysLeft() : NO_EXPIRY;
+            minDaysLeft.merge(info.getName(), daysLeft, Math::min);
+
+            boolean frozen = Boolean.TRUE.equals(info.getFrozen());
+            if (info.getExpiryDaysLeft() != null && daysLeft <= URGENT_DAYS && !frozen) {
+                urgentDaysLeft.merge(info.getName(), daysLeft, Math::min);
+            }
+        }
+
+        PriorityQueue<Map.Entry<String, Integer>> heap = new PriorityQueue<>(Math.max(1, urgentDaysLeft.size()),
+                Map.Entry.<String, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+        heap.addAll(urgentDaysLeft.entrySet());
+
+        List<String> urgentNames = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            urgentNames.add(heap.poll().getKey());
+        }
+        return new UrgencyIndex(minDaysLeft, urgentNames);
+    }
+
+    /**
+     * 재료 목록의 긴급도 점수 (가장 빨리 만료되는 재료의 남은 일수, 낮을수록 긴급)
+     */
+    int scoreOf(Collection<String> ingredientNames) {
+        int score = NO_EXPIRY;
+        for (String name : ingredientNames) {
+            score = Math.min(score, minDaysLeft.getOrDefault(name, NO_EXPIRY));
+        }
+        return score;
+    }
+
+    boolean isUrgent(String ingredientName) {
+        return urgentNameSet.contains(ingredientName);
+    }
+
+    /**
+     * 재료 목록 중 긴급 재료 (입력 순서 유지, 중복 제거)
+     */
+    List<String> urgentAmong(Collection<String> ingredientNames) {
+        List<String> urgent = new ArrayList<>();
+        for (String name : ingredientNames) {
+            if (urgentNameSet.contains(name) && !urgent.contains(name)) {
+                urgent.add(name);
+            }
+        }
+        return urgent;
+    }
+
+    boolean hasUrgent() {
+        return !urgentNames.isEmpty();
+    }
+
+    /**
+     * 긴급 재료명 (가장 급한 재료부터)
+     */
+    List<String> getUrgentNames() {
+        return urgentNames;
+    }
+
+    /**
+     * 긴급 재료만 담은 냉장고 비트셋 (레시피 행과 AND 하면 레시피가 소진하는 긴급 재료 수)
+     */
+    long[] urgentFridge(RecipeIngredientMatrix matrix) {
+        return matrix.fridgeOfNames(urgentNames);
+    }
+}
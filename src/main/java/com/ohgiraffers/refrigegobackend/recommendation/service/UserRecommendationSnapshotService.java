@@ -0,0 +1,154 @@
+package com.ohgiraffers.refrigegobackend.recommendation.service;
+
+import com.ohgiraffers.refrigegobackend.bookmark.infrastructure.repository.BookmarkRepository;
+import com.ohgiraffers.refrigegobackend.ingredient.event.UserFridgeChangedEvent;
+import com.ohgiraffers.refrigegobackend.recipe.dto.response.RecipeSummaryDTO;
+import com.ohgiraffers.refrigegobackend.recipe.service.RecipeSummaryService;
+import com.ohgiraffers.refrigegobackend.recommendation.domain.UserRecommendationSnapshot;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.RecipeRecommendationResponseDto;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.RecommendedRecipeDto;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.FridgeMatch;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.RecipeIngredientIndex;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.RecipeIngredientMatrix;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.UserCandidateStore;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.UserCandidates;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository.UserRecommendationSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 자동 추천 스냅샷 서비스
+ * - 자동 추천 API는 스냅샷 문서 하나를 키로 조회해 그대로 응답 (조인 없음)
+ * - 스냅샷 갱신: 냉장고 변경 이벤트, 일괄 추천 작업, 조회 시 없거나 maxAge가 지난 경우(지연 재계산)
+ * - 순위는 사용자별 후보 점수({@link UserCandidates})의 상위 후보를 그대로 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserRecommendationSnapshotService {
+
+    // 스냅샷에 보관할 추천 수 (자동 추천 limit의 최댓값)
+    public static final int SNAPSHOT_SIZE = 20;
+
+    static final String SOURCE_EVENT = "EVENT";
+    static final String SOURCE_NIGHTLY = "NIGHTLY";
+    static final String SOURCE_ON_DEMAND = "ON_DEMAND";
+
+    private final UserRecommendationSnapshotRepository snapshotRepository;
+    private final UserCandidateStore userCandidateStore;
+    private final RecipeIngredientIndex recipeIngredientIndex;
+    private final RecipeSummaryService recipeSummaryService;
+    private final BookmarkRepository bookmarkRepository;
+
+    // 이 시간이 지난 스냅샷은 조회 시 다시 계산 (찜 변경 등 이벤트로 잡지 않는 변경의 최대 지연)
+    @Value("${recommendation.snapshot.max-age-minutes:360}")
+    private long maxAgeMinutes = 360;
+
+    /**
+     * 자동 추천 조회
+     * - 유효한 스냅샷이 있으면 그대로 반환, 없거나 오래되었으면 다시 계산해서 저장
+     * - 추천 인덱스 준비 전에는 오래된 스냅샷이라도 반환 (없으면 빈 결과)
+     *
+     * @param userId 사용자 ID
+     * @param limit 최대 추천 개수 (최대 {@link #SNAPSHOT_SIZE})
+     */
+    public RecipeRecommendationResponseDto getAutoRecommendations(Long userId, int limit) {
+        Optional<UserRecommendationSnapshot> stored = snapshotRepository.findById(userId);
+
+        UserRecommendationSnapshot snapshot;
+        if (stored.isPresent() && !stored.get().isStale(Duration.ofMinutes(maxAgeMinutes))) {
+            snapshot = stored.get();
+        } else if (recipeIngredientIndex.isReady()) {
+            snapshot = refresh(userId, SOURCE_ON_DEMAND);
+        } else {
+            log.warn("추천 인덱스 준비 전 - 기존 스냅샷으로 응답합니다. 사용자: {}", userId);
+            snapshot = stored.orElseGet(() -> UserRecommendationSnapshot.of(userId, List.of(), List.of(), SOURCE_ON_DEMAND));
+        }
+
+        List<RecommendedRecipeDto> recipes = snapshot.getRecipes().stream()
+                .limit(Math.max(0, limit))
+                .collect(Collectors.toList());
+        return new RecipeRecommendationResponseDto(recipes, recipes.size(), snapshot.getFridgeNames());
+    }
+
+    /**
+     * 냉장고 변경 커밋 후 스냅샷 갱신
+     * - 후보 점수 증분 반영(UserCandidateStore) 이후에 실행되도록 가장 낮은 우선순위
+     * - 실패해도 냉장고 변경 요청에는 영향을 주지 않으며, 다음 조회 시 다시 계산
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserFridgeChanged(UserFridgeChangedEvent event) {
+        if (!recipeIngredientIndex.isReady()) {
+            return;
+        }
+        try {
+            refresh(event.getUserId(), SOURCE_EVENT);
+        } catch (Exception e) {
+            log.warn("추천 스냅샷 갱신 실패 - 사용자: {}, 오류: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 일괄 추천 작업에서 미리 읽어 둔 냉장고/찜 목록으로 스냅샷 저장
+     */
+    public void saveFromNightlyJob(Long userId, List<String> fridgeNames, Set<String> bookmarkedRecipeIds,
+                                   RecipeIngredientMatrix matrix) {
+        UserCandidates candidates = UserCandidates.build(matrix, fridgeNames);
+        snapshotRepository.save(buildSnapshot(userId, candidates, bookmarkedRecipeIds, SOURCE_NIGHTLY));
+    }
+
+    /**
+     * 사용자 후보 점수로 스냅샷을 다시 계산해서 저장
+     */
+    private UserRecommendationSnapshot refresh(Long userId, String source) {
+        UserCandidates candidates = userCandidateStore.getCandidates(userId);
+        Set<String> bookmarkedRecipeIds = new HashSet<>(bookmarkRepository.findRecipeIdsByUserId(userId));
+
+        UserRecommendationSnapshot snapshot = buildSnapshot(userId, candidates, bookmarkedRecipeIds, source);
+        snapshotRepository.save(snapshot);
+        log.debug("추천 스냅샷 갱신 - 사용자: {}, 경로: {}, 레시피 {}개", userId, source, snapshot.getRecipes().size());
+        return snapshot;
+    }
+
+    private UserRecommendationSnapshot buildSnapshot(Long userId, UserCandidates candidates,
+                                                     Set<String> bookmarkedRecipeIds, String source) {
+        RecipeIngredientMatrix matrix = candidates.getMatrix();
+        long[] fridge = candidates.getFridge();
+        List<FridgeMatch> ranking = candidates.getRanking();
+        List<FridgeMatch> top = ranking.subList(0, Math.min(SNAPSHOT_SIZE, ranking.size()));
+
+        Map<String, RecipeSummaryDTO> summaries = recipeSummaryService.getSummaries(top.stream()
+                .map(FridgeMatch::getRecipeId)
+                .collect(Collectors.toList()));
+
+        List<RecommendedRecipeDto> recipes = new ArrayList<>(top.size());
+        for (FridgeMatch match : top) {
+            RecipeSummaryDTO summary = summaries.get(match.getRecipeId());
+            recipes.add(RecommendedRecipeDto.builder()
+                    .recipeId(match.getRecipeId())
+                    .recipeName(match.getRecipeName())
+                    .ingredients(summary != null ? summary.getRcpPartsDtls() : "")
+                    .cookingMethod1(summary != null ? summary.getManual01() : "")
+                    .cookingMethod2(summary != null ? summary.getManual02() : "")
+                    .imageUrl(summary != null ? summary.getImage() : "")
+                    .matchedIngredientCount(match.getMatchedIngredients())
+                    .matchedIngredients(matrix.matchedIngredientNames(match, fridge))
+                    .missingIngredients(matrix.missingIngredientNames(match, fridge))
+                    .matchScore(match.getMatchRatio())
+                    .isFavorite(bookmarkedRecipeIds.contains(match.getRecipeId()))
+                    .build());
+        }
+
+        return UserRecommendationSnapshot.of(userId, matrix.ingredientNamesOf(fridge), recipes, source);
+    }
+}
@@ -16,7 +16,9 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -87,9 +89,12 @@ public class WeatherRecommendationService {
                 seasonalIngredients, cookingTypes);
         log.info("📦 조건에 맞는 레시피 개수: {}", recipes.size());
 
+        // 찜 목록은 한 번만 조회해서 레시피마다 집합으로 확인
+        Set<String> bookmarkedRecipeIds = new HashSet<>(bookmarkRepository.findRecipeIdsByUserId(user.getId()));
+
         List<RecipeRecommendationDto> recipeDtos = recipes.stream()
                 .map(recipe -> {
-                    boolean bookmarked = bookmarkRepository.existsByUserIdAndRecipeRcpSeq(user.getId(), recipe.getRcpSeq());
+                    boolean bookmarked = bookmarkedRecipeIds.contains(recipe.getRcpSeq());
                     return new RecipeRecommendationDto(
                             recipe.getRcpNm(),
                             recipe.getRcpSeq(),
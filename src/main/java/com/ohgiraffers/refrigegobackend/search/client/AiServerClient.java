@@ -2,6 +2,8 @@ package com.ohgiraffers.refrigegobackend.search.client;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.refrigegobackend.ai.client.AiServerHealthMonitor;
+import com.ohgiraffers.refrigegobackend.config.AiServerHttpTransport;
 import com.ohgiraffers.refrigegobackend.config.AiServerProperties;
 import com.ohgiraffers.refrigegobackend.recipe.infrastructure.repository.RecipeRepository;
 import com.ohgiraffers.refrigegobackend.search.dto.request.SemanticSearchRequestDTO;
@@ -19,6 +21,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -28,12 +31,15 @@ public class AiServerClient {
     private final AiServerProperties aiServerProperties;
     private final ObjectMapper objectMapper;
     private final RecipeRepository recipeRepository;
+    private final AiServerHealthMonitor aiServerHealthMonitor;
     
-    public AiServerClient(AiServerProperties aiServerProperties, ObjectMapper objectMapper, RecipeRepository recipeRepository) {
+    public AiServerClient(AiServerProperties aiServerProperties, ObjectMapper objectMapper, RecipeRepository recipeRepository,
+                          AiServerHealthMonitor aiServerHealthMonitor, AiServerHttpTransport aiServerHttpTransport) {
         this.aiServerProperties = aiServerProperties;
         this.objectMapper = objectMapper;
         this.recipeRepository = recipeRepository;
-        this.restTemplate = new RestTemplate();
+        this.aiServerHealthMonitor = aiServerHealthMonitor;
+        this.restTemplate = aiServerHttpTransport.getSearch();
     }
     
     /**
@@ -51,11 +57,10 @@ public class AiServerClient {
             
             HttpEntity<SemanticSearchRequestDTO> entity = new HttpEntity<>(request, headers);
             
-            ResponseEntity<String> response = restTemplate.postForEntity(url, entity, String.class);
+            ResponseEntity<SemanticSearchResponseDTO> response = postForJson(url, entity, SemanticSearchResponseDTO.class);
             
             if (response.getStatusCode() == HttpStatus.OK) {
-                // JSON 응답을 DTO로 변환
-                SemanticSearchResponseDTO result = parseSemanticSearchResponse(response.getBody());
+                SemanticSearchResponseDTO result = completeSemanticSearchResponse(response.getBody());
                 log.info("시멘틱 검색 성공: {} 개 레시피, {} 개 재료", 
                         result.getRecipes().size(), result.getIngredients().size());
                 return result;
@@ -65,9 +70,15 @@ public class AiServerClient {
             }
             
         } catch (ResourceAccessException e) {
+            aiServerHealthMonitor.recordFailure();
             log.error("AI 서버 연결 실패: {}", e.getMessage());
             return createEmptySemanticResponse();
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
+        } catch (HttpServerErrorException e) {
+            aiServerHealthMonitor.recordFailure();
+            log.error("AI 서버 HTTP 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
+            return createEmptySemanticResponse();
+        } catch (HttpClientErrorException e) {
+            aiServerHealthMonitor.recordSuccess();
             log.error("AI 서버 HTTP 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
             return createEmptySemanticResponse();
         } catch (Exception e) {
@@ -96,10 +107,10 @@ public class AiServerClient {
             
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
             
-            ResponseEntity<String> response = restTemplate.postForEntity(url, entity, String.class);
+            ResponseEntity<VectorSearchResponseDTO> response = postForJson(url, entity, VectorSearchResponseDTO.class);
             
             if (response.getStatusCode() == HttpStatus.OK) {
-                VectorSearchResponseDTO result = parseVectorSearchResponse(response.getBody());
+                VectorSearchResponseDTO result = completeVectorSearchResponse(response.getBody(), request.getQuery());
                 log.info("벡터 검색 성공: {} 개 레시피", result.getResults().size());
                 return result;
             } else {
@@ -108,9 +119,15 @@ public class AiServerClient {
             }
             
         } catch (ResourceAccessException e) {
+            aiServerHealthMonitor.recordFailure();
             log.error("AI 서버 연결 실패: {}", e.getMessage());
             return createEmptyVectorResponse(request.getQuery());
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
+        } catch (HttpServerErrorException e) {
+            aiServerHealthMonitor.recordFailure();
+            log.error("AI 서버 HTTP 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
+            return createEmptyVectorResponse(request.getQuery());
+        } catch (HttpClientErrorException e) {
+            aiServerHealthMonitor.recordSuccess();
             log.error("AI 서버 HTTP 오류: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
             return createEmptyVectorResponse(request.getQuery());
         } catch (Exception e) {
@@ -120,9 +137,22 @@ public class AiServerClient {
     }
     
     /**
-     * 오타 교정 API 호출
+     * 오타 교정 API 호출 (실패하면 원본 반환)
      */
     public String spellCheck(String query) {
+        return trySpellCheck(query).orElse(query);
+    }
+
+    /**
+     * 오타 교정 API 호출
+     *
+     * @return 교정 결과 (교정이 필요 없으면 원본), AI 서버 차단 중이거나 호출에 실패하면 비어 있음
+     */
+    public Optional<String> trySpellCheck(String query) {
+        if (!aiServerHealthMonitor.allowRequest()) {
+            log.debug("AI 서버 차단 중 - 오타 교정 생략: '{}'", query);
+            return Optional.empty();
+        }
         try {
             log.info("AI 서버 오타 교정 호출: query={}", query);
             
@@ -137,6 +167,7 @@ public class AiServerClient {
             HttpEntity<Map<String, String>> entity = new HttpEntity<>(requestBody, headers);
             
             ResponseEntity<String> response = restTemplate.postForEntity(url, entity, String.class);
+            aiServerHealthMonitor.recordSuccess();
             
             if (response.getStatusCode() == HttpStatus.OK) {
                 Map<String, Object> responseMap = objectMapper.readValue(response.getBody(), new TypeReference<Map<String, Object>>() {});
@@ -149,150 +180,77 @@ public class AiServerClient {
                     log.debug("오타 교정 불필요: '{}'", query);
                 }
                 
-                return correctedQuery != null ? correctedQuery : query;
+                return Optional.of(correctedQuery != null ? correctedQuery : query);
             } else {
                 log.error("AI 서버 오타 교정 실패: {}", response.getStatusCode());
-                return query;
+                return Optional.empty();
             }
             
+        } catch (ResourceAccessException | HttpServerErrorException e) {
+            aiServerHealthMonitor.recordFailure();
+            log.error("오타 교정 중 오류: {}", e.getMessage());
+            return Optional.empty();
         } catch (Exception e) {
             log.error("오타 교정 중 오류: {}", e.getMessage(), e);
-            return query; // 실패시 원본 반환
+            return Optional.empty();
         }
     }
     
     /**
-     * AI 서버 연결 상태 확인
+     * JSON POST 요청 후 응답 스트림에서 바로 DTO로 역직렬화 (문자열 / Map 중간 변환 없음)
+     * - 4xx/5xx는 RestTemplate 오류 처리기가 예외로 전달하므로, 본문을 읽기 시작하면 AI 서버 응답 성공으로 기록
+     * - 필드 매핑은 DTO의 @JsonAlias(snake_case) 참고
      */
-    public boolean isAiServerHealthy() {
-        try {
-            String url = aiServerProperties.getBaseUrl() + "/health";
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            return response.getStatusCode() == HttpStatus.OK;
-        } catch (Exception e) {
-            log.warn("AI 서버 헬스체크 실패: {}", e.getMessage());
-            return false;
-        }
+    private <T> ResponseEntity<T> postForJson(String url, HttpEntity<?> entity, Class<T> responseType) {
+        return restTemplate.execute(url, HttpMethod.POST, restTemplate.httpEntityCallback(entity, responseType),
+                response -> {
+                    aiServerHealthMonitor.recordSuccess();
+                    T body = objectMapper.readValue(response.getBody(), responseType);
+                    return new ResponseEntity<>(body, response.getHeaders(), response.getStatusCode());
+                });
     }
     
     /**
-     * 시멘틱 검색 응답 파싱
+     * 시멘틱 검색 응답 보완 (누락된 목록은 빈 목록으로, 레시피 이미지 정보 보강)
      */
-    private SemanticSearchResponseDTO parseSemanticSearchResponse(String responseBody) {
-        try {
-            Map<String, Object> responseMap = objectMapper.readValue(responseBody, new TypeReference<Map<String, Object>>() {});
-            
-            List<RecipeSearchResultDTO> recipes = parseRecipeResults(
-                (List<Map<String, Object>>) responseMap.get("recipes"));
-            List<IngredientSearchResultDTO> ingredients = parseIngredientResults(
-                (List<Map<String, Object>>) responseMap.get("ingredients"));
-            
-            int totalMatches = (Integer) responseMap.getOrDefault("total_matches", 0);
-            double processingTime = ((Number) responseMap.getOrDefault("processing_time", 0.0)).doubleValue();
-            
-            return new SemanticSearchResponseDTO(recipes, ingredients, totalMatches, processingTime);
-        } catch (Exception e) {
-            log.error("시멘틱 검색 응답 파싱 오류: {}", e.getMessage());
+    private SemanticSearchResponseDTO completeSemanticSearchResponse(SemanticSearchResponseDTO response) {
+        if (response == null) {
             return createEmptySemanticResponse();
         }
+        response.setRecipes(completeRecipeResults(response.getRecipes()));
+        response.setIngredients(response.getIngredients() != null ? response.getIngredients() : Collections.emptyList());
+        response.setSearchMethod("semantic");
+        return response;
     }
     
     /**
-     * 벡터 검색 응답 파싱
+     * 벡터 검색 응답 보완 (누락된 목록은 빈 목록으로, 레시피 이미지 정보 보강)
      */
-    private VectorSearchResponseDTO parseVectorSearchResponse(String responseBody) {
-        try {
-            Map<String, Object> responseMap = objectMapper.readValue(responseBody, new TypeReference<Map<String, Object>>() {});
-            
-            String query = (String) responseMap.get("query");
-            List<RecipeSearchResultDTO> results = parseRecipeResults(
-                (List<Map<String, Object>>) responseMap.get("results"));
-
-            int total = (Integer) responseMap.getOrDefault("total", 0);
-            
-            return new VectorSearchResponseDTO(query, results, total);
-        } catch (Exception e) {
-            log.error("벡터 검색 응답 파싱 오류: {}", e.getMessage());
-            return createEmptyVectorResponse("");
+    private VectorSearchResponseDTO completeVectorSearchResponse(VectorSearchResponseDTO response, String query) {
+        if (response == null) {
+            return createEmptyVectorResponse(query);
         }
+        response.setResults(completeRecipeResults(response.getResults()));
+        response.setSearchMethod("vector");
+        return response;
     }
     
     /**
-     * 레시피 결과 파싱 (이미지 정보 보강 포함)
+     * 레시피 결과 보완 (재료 목록 누락 처리, 이미지 정보 보강 포함)
      */
-    private List<RecipeSearchResultDTO> parseRecipeResults(List<Map<String, Object>> recipeData) {
-        if (recipeData == null) return Collections.emptyList();
+    private List<RecipeSearchResultDTO> completeRecipeResults(List<RecipeSearchResultDTO> recipes) {
+        if (recipes == null) return Collections.emptyList();
         
-        List<RecipeSearchResultDTO> results = recipeData.stream()
-                .map(this::mapToRecipeResult)
-                .toList();
+        for (RecipeSearchResultDTO recipe : recipes) {
+            if (recipe.getIngredients() == null) {
+                recipe.setIngredients(Collections.emptyList());
+            }
+        }
         
         // MySQL에서 이미지 정보 보강
-        enhanceWithImageData(results);
-        
-        return results;
-    }
-    
-    /**
-     * 재료 결과 파싱
-     */
-    private List<IngredientSearchResultDTO> parseIngredientResults(List<Map<String, Object>> ingredientData) {
-        if (ingredientData == null) return Collections.emptyList();
+        enhanceWithImageData(recipes);
         
-        return ingredientData.stream()
-                .map(this::mapToIngredientResult)
-                .toList();
-    }
-    
-    /**
-     * Map을 RecipeSearchResultDTO로 변환
-     */
-    private RecipeSearchResultDTO mapToRecipeResult(Map<String, Object> data) {
-        RecipeSearchResultDTO result = new RecipeSearchResultDTO();
-        
-        // AI 서버 응답 필드명에 맞춰 매핑
-        result.setRcpSeq((String) data.get("rcp_seq"));
-        result.setRcpNm((String) data.get("rcp_nm"));
-        result.setRcpCategory((String) data.get("rcp_category"));
-        result.setRcpWay2((String) data.get("rcp_way2"));
-        result.setImage((String) data.get("image"));
-        result.setThumbnail((String) data.get("thumbnail"));
-        result.setScore(((Number) data.getOrDefault("score", 0.0)).doubleValue());
-        result.setMatchReason((String) data.get("match_reason"));
-        
-        // 디버깅: 이미지 필드 로그
-        log.debug("이미지 필드 매핑: image={}, thumbnail={}, recipe={}", 
-                data.get("image"), data.get("thumbnail"), data.get("rcp_nm"));
-        
-        // 재료 정보 파싱
-        List<Map<String, Object>> ingredientsData = (List<Map<String, Object>>) data.get("ingredients");
-        if (ingredientsData != null) {
-            List<RecipeSearchResultDTO.RecipeIngredientDTO> ingredients = ingredientsData.stream()
-                    .map(ingredientData -> new RecipeSearchResultDTO.RecipeIngredientDTO(
-                            ((Number) ingredientData.get("ingredient_id")).longValue(),
-                            (String) ingredientData.get("name"),
-                            (Boolean) ingredientData.getOrDefault("is_main_ingredient", false)
-                    ))
-                    .toList();
-            result.setIngredients(ingredients);
-        } else {
-            result.setIngredients(Collections.emptyList());
-        }
-        
-        return result;
-    }
-    
-    /**
-     * Map을 IngredientSearchResultDTO로 변환
-     */
-    private IngredientSearchResultDTO mapToIngredientResult(Map<String, Object> data) {
-        IngredientSearchResultDTO result = new IngredientSearchResultDTO();
-        result.setIngredientId(((Number) data.get("ingredient_id")).longValue());
-        result.setName((String) data.get("name"));
-        result.setCategory((String) data.get("category"));
-        result.setScore(((Number) data.getOrDefault("score", 0.0)).doubleValue());
-        result.setMatchReason((String) data.get("match_reason"));
-        return result;
+        return recipes;
     }
     
     /**
@@ -1,7 +1,9 @@
 package com.ohgiraffers.refrigegobackend.search.controller;
 
+import com.ohgiraffers.refrigegobackend.common.util.BoundedTtlCache;
 import com.ohgiraffers.refrigegobackend.search.dto.response.SemanticSearchResponseDTO;
 import com.ohgiraffers.refrigegobackend.search.dto.response.VectorSearchResponseDTO;
+import com.ohgiraffers.refrigegobackend.search.infrastructure.cache.SearchResultCache;
 import com.ohgiraffers.refrigegobackend.search.service.SearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +20,7 @@ import java.util.Map;
 public class SearchController {
     
     private final SearchService searchService;
+    private final SearchResultCache searchResultCache;
     
     /**
      * 시멘틱 검색 API
@@ -118,6 +121,14 @@ public class SearchController {
         }
     }
     
+    /**
+     * 검색 결과 캐시 통계 API (검색 종류별 적중/미스 횟수, 적중률)
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<Map<String, BoundedTtlCache.Stats>> getCacheStats() {
+        return ResponseEntity.ok(searchResultCache.getStats());
+    }
+    
     /**
      * AI 서버 연결 상태 확인 API
      */
@@ -1,5 +1,6 @@
 package com.ohgiraffers.refrigegobackend.search.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -9,9 +10,11 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class IngredientSearchResultDTO {
     
+    @JsonAlias("ingredient_id")
     private Long ingredientId;
     private String name;
     private String category;
     private double score;
+    @JsonAlias("match_reason")
     private String matchReason;
 }
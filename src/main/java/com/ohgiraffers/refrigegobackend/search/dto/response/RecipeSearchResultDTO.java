@@ -1,23 +1,34 @@
 package com.ohgiraffers.refrigegobackend.search.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
 
+/**
+ * 레시피 검색 결과
+ * - AI 서버 응답(snake_case)은 @JsonAlias로 바로 역직렬화하고, 클라이언트 응답은 기존 camelCase 유지
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class RecipeSearchResultDTO {
     
+    @JsonAlias("rcp_seq")
     private String rcpSeq;
+    @JsonAlias("rcp_nm")
     private String rcpNm;
+    @JsonAlias("rcp_category")
     private String rcpCategory;
+    @JsonAlias("rcp_way2")
     private String rcpWay2;
     private String image;        // 메인 이미지 URL
     private String thumbnail;    // 썸네일 이미지 URL
     private double score;
+    @JsonAlias("match_reason")
     private String matchReason;
     private List<RecipeIngredientDTO> ingredients;
     
@@ -25,8 +36,12 @@ public class RecipeSearchResultDTO {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class RecipeIngredientDTO {
+        @JsonAlias("ingredient_id")
         private Long ingredientId;
         private String name;
+        // getter가 isMainIngredient()라 JSON 이름은 mainIngredient
+        @JsonProperty("mainIngredient")
+        @JsonAlias("is_main_ingredient")
         private boolean isMainIngredient;
     }
 }
@@ -1,5 +1,6 @@
 package com.ohgiraffers.refrigegobackend.search.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,7 +14,9 @@ public class SemanticSearchResponseDTO {
     
     private List<RecipeSearchResultDTO> recipes;
     private List<IngredientSearchResultDTO> ingredients;
+    @JsonAlias("total_matches")
     private int totalMatches;
+    @JsonAlias("processing_time")
     private double processingTime;
     private String searchMethod;
     
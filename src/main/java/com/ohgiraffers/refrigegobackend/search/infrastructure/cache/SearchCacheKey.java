@@ -0,0 +1,117 @@
+package com.ohgiraffers.refrigegobackend.search.infrastructure.cache;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 결과 캐시 키
+ * - 검색 종류(endpoint) + 정규화한 검색어 + 결과 개수
+ * - 정규화: 앞뒤 공백 제거, 연속 공백을 한 칸으로, 소문자 변환 ("김치  찌개 " → "김치 찌개")
+ * - AI 서버에는 정규화 검색어가 아니라 사용자가 입력한 검색어(앞뒤 공백만 제거)를 보냄 ({@link #getText()}, 키 비교에는 쓰지 않음)
+ */
+public final class SearchCacheKey {
+
+    public static final String VECTOR = "vector";
+    private static final String SEMANTIC_PREFIX = "semantic:";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String endpoint;
+    private final String query;
+    private final String text;
+    private final int limit;
+    private final int hash;
+
+    private SearchCacheKey(String endpoint, String text, int limit) {
+        this.endpoint = endpoint;
+        this.query = normalizeQuery(text);
+        this.text = text == null ? "" : text.trim();
+        this.limit = limit;
+        this.hash = 31 * (31 * endpoint.hashCode() + query.hashCode()) + limit;
+    }
+
+    /**
+     * 시멘틱 검색 키
+     *
+     * @param searchType all / recipe / ingredient
+     */
+    public static SearchCacheKey semantic(String searchType, String query, int limit) {
+        return new SearchCacheKey(SEMANTIC_PREFIX + searchType, query, limit);
+    }
+
+    /**
+     * 벡터 검색 키
+     */
+    public static SearchCacheKey vector(String query, int limit) {
+        return new SearchCacheKey(VECTOR, query, limit);
+    }
+
+    public static String normalizeQuery(String query) {
+        if (query == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(query.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 같은 검색 종류/개수에 검색어만 바꾼 키 (오타 교정 결과용)
+     */
+    public SearchCacheKey withQuery(String newQuery) {
+        return normalizeQuery(newQuery).equals(query) ? this : new SearchCacheKey(endpoint, newQuery, limit);
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * 정규화한 검색어 (캐시 키)
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * AI 서버에 보낼 검색어 (입력한 검색어에서 앞뒤 공백만 제거)
+     */
+    public String getText() {
+        return text;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public boolean isVector() {
+        return VECTOR.equals(endpoint);
+    }
+
+    /**
+     * 시멘틱 검색 타입 (벡터 검색이면 null)
+     */
+    public String getSearchType() {
+        return endpoint.startsWith(SEMANTIC_PREFIX) ? endpoint.substring(SEMANTIC_PREFIX.length()) : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SearchCacheKey other)) {
+            return false;
+        }
+        return limit == other.limit
+                && endpoint.equals(other.endpoint)
+                && query.equals(other.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchCacheKey{endpoint=" + endpoint + ", query=" + query + ", limit=" + limit + "}";
+    }
+}
@@ -0,0 +1,137 @@
+package com.ohgiraffers.refrigegobackend.search.infrastructure.cache;
+
+import com.ohgiraffers.refrigegobackend.common.util.BoundedTtlCache;
+import com.ohgiraffers.refrigegobackend.recipe.event.RecipeCatalogChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검색 결과 캐시
+ * - "김치찌개", "계란"처럼 짧은 검색어가 반복되므로 AI 서버 검색 + 이미지 보강(MySQL) 결과를 재사용
+ * - 검색 종류(endpoint)별로 캐시를 나눠 종류별 적중률을 확인할 수 있음
+ * - 오타 교정 결과(정규화 검색어 → 교정 검색어)도 따로 캐시해 교정 호출을 줄임
+ * - 검색어별 요청 횟수를 집계해 캐시 예열 대상(자주 찾는 검색어)을 고름 ({@link #topQueries(int)})
+ * - 값은 여러 요청이 공유하므로 꺼낸 뒤 수정하지 않음
+ * - 레시피 카탈로그가 바뀌면 전체 무효화 (이미지 정보가 바뀔 수 있음)
+ */
+@Slf4j
+@Component
+public class SearchResultCache {
+
+    private static final List<String> ENDPOINTS = List.of(
+            "semantic:all", "semantic:recipe", "semantic:ingredient", SearchCacheKey.VECTOR);
+
+    private final Map<String, BoundedTtlCache<SearchCacheKey, Object>> resultCaches = new LinkedHashMap<>();
+    private final BoundedTtlCache<String, String> correctionCache;
+    private final ConcurrentHashMap<SearchCacheKey, AtomicLong> queryCounts = new ConcurrentHashMap<>();
+    private final int maxTrackedQueries;
+
+    public SearchResultCache(@Value("${search.cache.max-size:2000}") int maxSize,
+                             @Value("${search.cache.ttl-seconds:600}") long ttlSeconds,
+                             @Value("${search.cache.max-tracked-queries:5000}") int maxTrackedQueries) {
+        for (String endpoint : ENDPOINTS) {
+            resultCaches.put(endpoint, new BoundedTtlCache<>(maxSize, ttlSeconds * 1000));
+        }
+        this.correctionCache = new BoundedTtlCache<>(maxSize, ttlSeconds * 1000);
+        this.maxTrackedQueries = maxTrackedQueries;
+    }
+
+    /**
+     * 캐시 조회
+     *
+     * @return 유효한 결과, 없거나 만료되었으면 null
+     */
+    public <T> T get(SearchCacheKey key, Class<T> type) {
+        BoundedTtlCache<SearchCacheKey, Object> cache = resultCaches.get(key.getEndpoint());
+        if (cache == null) {
+            return null;
+        }
+        Object value = cache.get(key);
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    public void put(SearchCacheKey key, Object result) {
+        BoundedTtlCache<SearchCacheKey, Object> cache = resultCaches.get(key.getEndpoint());
+        if (cache != null) {
+            cache.put(key, result);
+        }
+    }
+
+    /**
+     * 오타 교정 결과 조회 (정규화 검색어 기준)
+     */
+    public String getCorrection(String normalizedQuery) {
+        return correctionCache.get(normalizedQuery);
+    }
+
+    public void putCorrection(String normalizedQuery, String correctedQuery) {
+        correctionCache.put(normalizedQuery, correctedQuery);
+    }
+
+    /**
+     * 검색어 요청 횟수 집계 (집계 중인 검색어가 maxTrackedQueries를 넘으면 새 검색어는 집계하지 않음)
+     */
+    public void recordQuery(SearchCacheKey key) {
+        AtomicLong count = queryCounts.get(key);
+        if (count == null) {
+            if (queryCounts.size() >= maxTrackedQueries) {
+                return;
+            }
+            count = queryCounts.computeIfAbsent(key, k -> new AtomicLong());
+        }
+        count.incrementAndGet();
+    }
+
+    /**
+     * 요청 횟수가 많은 검색어 순으로 최대 n개
+     */
+    public List<SearchCacheKey> topQueries(int n) {
+        List<Map.Entry<SearchCacheKey, Long>> snapshot = new ArrayList<>(queryCounts.size());
+        queryCounts.forEach((key, count) -> snapshot.add(Map.entry(key, count.get())));
+        snapshot.sort(Map.Entry.<SearchCacheKey, Long>comparingByValue().reversed());
+        return snapshot.stream()
+                .limit(n)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 요청 횟수 절반으로 감쇠 (예열 주기마다 호출해 최근 인기 검색어가 앞서도록 함, 0이 되면 집계에서 제외)
+     */
+    public void decayQueryCounts() {
+        queryCounts.forEach((key, count) -> {
+            if (count.updateAndGet(value -> value / 2) == 0) {
+                queryCounts.remove(key, count);
+            }
+        });
+    }
+
+    /**
+     * 레시피 카탈로그 변경 시 전체 무효화
+     */
+    @EventListener
+    public void onRecipeCatalogChanged(RecipeCatalogChangedEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        resultCaches.values().forEach(BoundedTtlCache::invalidateAll);
+        log.info("검색 결과 캐시 무효화");
+    }
+
+    /**
+     * 캐시 통계 (검색 종류별 결과 캐시 + spell-correction: 오타 교정 캐시)
+     */
+    public Map<String, BoundedTtlCache.Stats> getStats() {
+        Map<String, BoundedTtlCache.Stats> stats = new LinkedHashMap<>();
+        resultCaches.forEach((endpoint, cache) -> stats.put(endpoint, cache.getStats()));
+        stats.put("spell-correction", correctionCache.getStats());
+        return stats;
+    }
+}
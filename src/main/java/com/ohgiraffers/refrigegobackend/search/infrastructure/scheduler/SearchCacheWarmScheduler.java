@@ -0,0 +1,34 @@
+package com.ohgiraffers.refrigegobackend.search.infrastructure.scheduler;
+
+import com.ohgiraffers.refrigegobackend.search.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 결과 캐시 예열 스케줄러
+ * - 캐시 TTL보다 짧은 주기로 자주 찾는 검색어 결과를 미리 갱신해, 인기 검색어는 만료로 인한 미스가 나지 않도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchCacheWarmScheduler {
+
+    private final SearchService searchService;
+
+    @Value("${search.cache.warm-top-queries:30}")
+    private int warmTopQueries = 30;
+
+    @Scheduled(initialDelayString = "${search.cache.warm-interval-ms:300000}",
+               fixedDelayString = "${search.cache.warm-interval-ms:300000}")
+    public void warmSearchCache() {
+        try {
+            int warmed = searchService.warmCache(warmTopQueries);
+            log.info("검색 캐시 예열 완료: {} 개 검색어", warmed);
+        } catch (Exception e) {
+            log.error("검색 캐시 예열 중 에러 발생", e);
+        }
+    }
+}
@@ -1,118 +1,242 @@
 package com.ohgiraffers.refrigegobackend.search.service;
 
+import com.ohgiraffers.refrigegobackend.ai.client.AiServerHealthMonitor;
 import com.ohgiraffers.refrigegobackend.search.client.AiServerClient;
 import com.ohgiraffers.refrigegobackend.search.dto.request.SemanticSearchRequestDTO;
 import com.ohgiraffers.refrigegobackend.search.dto.request.VectorSearchRequestDTO;
 import com.ohgiraffers.refrigegobackend.search.dto.response.SemanticSearchResponseDTO;
 import com.ohgiraffers.refrigegobackend.search.dto.response.VectorSearchResponseDTO;
+import com.ohgiraffers.refrigegobackend.search.infrastructure.cache.SearchCacheKey;
+import com.ohgiraffers.refrigegobackend.search.infrastructure.cache.SearchResultCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Optional;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SearchService {
-    
+
     private final AiServerClient aiServerClient;
-    
+    private final AiServerHealthMonitor aiServerHealthMonitor;
+    private final SearchResultCache searchResultCache;
+
+    // 캐시 키를 만들기 전에 오타 교정 적용 여부 (교정 결과도 캐시됨)
+    @Value("${search.cache.spell-correction:true}")
+    private boolean spellCorrectionEnabled = true;
+
     /**
      * 시멘틱 검색 수행
+     * - 정규화한 검색어(오타 교정 포함) + 검색 타입 + 개수로 결과를 캐시
      */
     public SemanticSearchResponseDTO performSemanticSearch(String query, String searchType, int limit) {
         log.info("시멘틱 검색 요청: query={}, searchType={}, limit={}", query, searchType, limit);
-        
+
         // 검색어 유효성 검사
         if (query == null || query.trim().isEmpty()) {
             log.warn("빈 검색어로 인한 검색 실패");
             return createEmptySemanticResponse();
         }
-        
+
         // 검색 타입 유효성 검사
         if (!isValidSearchType(searchType)) {
             log.warn("유효하지 않은 검색 타입: {}", searchType);
             searchType = "all";
         }
-        
-        // AI 서버 연결 상태 확인
-        if (!aiServerClient.isAiServerHealthy()) {
-            log.error("AI 서버가 연결되지 않음");
-            return createEmptySemanticResponse();
+
+        SearchCacheKey key = SearchCacheKey.semantic(searchType, query, Math.max(1, Math.min(limit, 50)));
+        searchResultCache.recordQuery(key);
+        SemanticSearchResponseDTO cached = searchResultCache.get(key, SemanticSearchResponseDTO.class);
+        SearchCacheKey correctedKey = key;
+        if (cached == null) {
+            correctedKey = correctedKey(key);
+            cached = findCorrected(key, correctedKey, SemanticSearchResponseDTO.class);
         }
-        
-        SemanticSearchRequestDTO request = new SemanticSearchRequestDTO(
-                query.trim(), searchType, Math.max(1, Math.min(limit, 50))
-        );
-        
-        try {
-            SemanticSearchResponseDTO response = aiServerClient.semanticSearch(request);
-            log.info("시멘틱 검색 완료: {} 개 결과", response.getTotalMatches());
-            return response;
-        } catch (Exception e) {
-            log.error("시멘틱 검색 중 오류 발생: {}", e.getMessage(), e);
-            return createEmptySemanticResponse();
+        if (cached != null) {
+            log.info("시멘틱 검색 캐시 적중: {} 개 결과", cached.getTotalMatches());
+            return cached;
         }
+        return searchSemanticAndCache(key, correctedKey);
     }
-    
+
     /**
      * 벡터 검색 수행
+     * - 정규화한 검색어(오타 교정 포함) + 개수로 결과를 캐시
      */
     public VectorSearchResponseDTO performVectorSearch(String query, int limit) {
         log.info("벡터 검색 요청: query={}, limit={}", query, limit);
-        
+
         // 검색어 유효성 검사
         if (query == null || query.trim().isEmpty()) {
             log.warn("빈 검색어로 인한 벡터 검색 실패");
             return createEmptyVectorResponse(query);
         }
-        
-        // AI 서버 연결 상태 확인
-        if (!aiServerClient.isAiServerHealthy()) {
-            log.error("AI 서버가 연결되지 않음");
-            return createEmptyVectorResponse(query);
+
+        SearchCacheKey key = SearchCacheKey.vector(query, Math.max(1, Math.min(limit, 50)));
+        searchResultCache.recordQuery(key);
+        VectorSearchResponseDTO cached = searchResultCache.get(key, VectorSearchResponseDTO.class);
+        SearchCacheKey correctedKey = key;
+        if (cached == null) {
+            correctedKey = correctedKey(key);
+            cached = findCorrected(key, correctedKey, VectorSearchResponseDTO.class);
         }
-        
-        VectorSearchRequestDTO request = new VectorSearchRequestDTO(
-                query.trim(), Math.max(1, Math.min(limit, 50))
-        );
-        
-        try {
-            VectorSearchResponseDTO response = aiServerClient.vectorSearch(request);
-            log.info("벡터 검색 완료: {} 개 결과", response.getTotal());
-            return response;
-        } catch (Exception e) {
-            log.error("벡터 검색 중 오류 발생: {}", e.getMessage(), e);
-            return createEmptyVectorResponse(query);
+        if (cached != null) {
+            log.info("벡터 검색 캐시 적중: {} 개 결과", cached.getTotal());
+            return cached;
         }
+        return searchVectorAndCache(key, correctedKey);
     }
-    
+
     /**
      * 추천 검색 (사용자 입력에 따라 자동으로 검색 방법 선택)
      */
     public SemanticSearchResponseDTO performRecommendedSearch(String query, int limit) {
         log.info("추천 검색 요청: query={}, limit={}", query, limit);
-        
+
         // 기본적으로 시멘틱 검색 사용 (레시피와 재료 모두 검색)
         return performSemanticSearch(query, "all", limit);
     }
-    
+
     /**
-     * AI 서버 상태 확인
+     * 자주 찾는 검색어의 캐시 예열
+     * - 요청 횟수 상위 검색어를 캐시 조회 없이 다시 검색해 결과를 갱신하고, 요청 횟수를 감쇠
+     * - AI 서버가 차단 중이면 건너뜀
+     *
+     * @return 갱신한 검색어 수
+     */
+    public int warmCache(int topQueries) {
+        List<SearchCacheKey> keys = searchResultCache.topQueries(topQueries);
+        int warmed = 0;
+        for (SearchCacheKey key : keys) {
+            if (!aiServerHealthMonitor.isAvailable()) {
+                log.info("AI 서버 차단 중 - 검색 캐시 예열 중단 ({}/{})", warmed, keys.size());
+                break;
+            }
+            if (key.isVector()) {
+                searchVectorAndCache(key, correctedKey(key));
+            } else {
+                searchSemanticAndCache(key, correctedKey(key));
+            }
+            warmed++;
+        }
+        searchResultCache.decayQueryCounts();
+        return warmed;
+    }
+
+    /**
+     * AI 서버 상태 확인 (최근 헬스체크와 호출 결과 기준, 네트워크 호출 없음)
      */
     public boolean checkAiServerHealth() {
-        boolean isHealthy = aiServerClient.isAiServerHealthy();
+        boolean isHealthy = aiServerHealthMonitor.isAvailable();
         log.info("AI 서버 상태: {}", isHealthy ? "정상" : "오류");
         return isHealthy;
     }
-    
+
+    /**
+     * 입력 검색어 키로 캐시를 찾지 못했을 때 오타 교정한 검색어 키로 조회
+     * - 교정 검색어 키로 찾으면 입력 검색어 키에도 저장해 다음 요청은 교정 없이 적중
+     */
+    private <T> T findCorrected(SearchCacheKey key, SearchCacheKey correctedKey, Class<T> type) {
+        if (correctedKey.equals(key)) {
+            return null;
+        }
+        T cached = searchResultCache.get(correctedKey, type);
+        if (cached != null) {
+            searchResultCache.put(key, cached);
+        }
+        return cached;
+    }
+
+    private SemanticSearchResponseDTO searchSemanticAndCache(SearchCacheKey key, SearchCacheKey correctedKey) {
+        // AI 서버 차단 여부 확인 (헬스체크는 AiServerHealthMonitor가 주기적으로 수행)
+        if (!aiServerHealthMonitor.allowRequest()) {
+            log.warn("AI 서버 차단 중 - 검색 생략");
+            return createEmptySemanticResponse();
+        }
+
+        SemanticSearchRequestDTO request = new SemanticSearchRequestDTO(
+                correctedKey.getText(), key.getSearchType(), key.getLimit()
+        );
+
+        try {
+            SemanticSearchResponseDTO response = aiServerClient.semanticSearch(request);
+            log.info("시멘틱 검색 완료: {} 개 결과", response.getTotalMatches());
+            // 실패 시 빈 응답이 오므로 결과가 있을 때만 캐시
+            if (!response.getRecipes().isEmpty() || !response.getIngredients().isEmpty()) {
+                cacheResult(key, correctedKey, response);
+            }
+            return response;
+        } catch (Exception e) {
+            log.error("시멘틱 검색 중 오류 발생: {}", e.getMessage(), e);
+            return createEmptySemanticResponse();
+        }
+    }
+
+    private VectorSearchResponseDTO searchVectorAndCache(SearchCacheKey key, SearchCacheKey correctedKey) {
+        // AI 서버 차단 여부 확인 (헬스체크는 AiServerHealthMonitor가 주기적으로 수행)
+        if (!aiServerHealthMonitor.allowRequest()) {
+            log.warn("AI 서버 차단 중 - 검색 생략");
+            return createEmptyVectorResponse(key.getText());
+        }
+
+        VectorSearchRequestDTO request = new VectorSearchRequestDTO(
+                correctedKey.getText(), key.getLimit()
+        );
+
+        try {
+            VectorSearchResponseDTO response = aiServerClient.vectorSearch(request);
+            log.info("벡터 검색 완료: {} 개 결과", response.getTotal());
+            // 실패 시 빈 응답이 오므로 결과가 있을 때만 캐시
+            if (!response.getResults().isEmpty()) {
+                cacheResult(key, correctedKey, response);
+            }
+            return response;
+        } catch (Exception e) {
+            log.error("벡터 검색 중 오류 발생: {}", e.getMessage(), e);
+            return createEmptyVectorResponse(key.getText());
+        }
+    }
+
+    private void cacheResult(SearchCacheKey key, SearchCacheKey correctedKey, Object response) {
+        searchResultCache.put(correctedKey, response);
+        if (!correctedKey.equals(key)) {
+            searchResultCache.put(key, response);
+        }
+    }
+
+    /**
+     * 오타 교정한 검색어 키 (교정 비활성화 시 그대로)
+     * - 교정 API에는 입력한 검색어를 보내고, 교정 결과는 정규화 검색어 기준으로 캐시
+     * - 교정 호출이 실패했거나 AI 서버 차단 중이면 캐시하지 않고 입력 검색어 키 그대로 사용 (다음 요청에서 다시 교정)
+     */
+    private SearchCacheKey correctedKey(SearchCacheKey key) {
+        if (!spellCorrectionEnabled) {
+            return key;
+        }
+        String corrected = searchResultCache.getCorrection(key.getQuery());
+        if (corrected == null) {
+            Optional<String> checked = aiServerClient.trySpellCheck(key.getText());
+            if (checked.isEmpty()) {
+                return key;
+            }
+            corrected = checked.get();
+            searchResultCache.putCorrection(key.getQuery(), corrected);
+        }
+        return key.withQuery(corrected);
+    }
+
     /**
      * 검색 타입 유효성 검사
      */
     private boolean isValidSearchType(String searchType) {
-        return searchType != null && 
+        return searchType != null &&
                (searchType.equals("all") || searchType.equals("recipe") || searchType.equals("ingredient"));
     }
-    
+
     /**
      * 빈 시멘틱 검색 응답 생성
      */
@@ -124,7 +248,7 @@ public class SearchService {
                 0.0
         );
     }
-    
+
     /**
      * 빈 벡터 검색 응답 생성
      */
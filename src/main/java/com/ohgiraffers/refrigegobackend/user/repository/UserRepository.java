@@ -2,7 +2,10 @@ package com.ohgiraffers.refrigegobackend.user.repository;
 
 
 import com.ohgiraffers.refrigegobackend.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -10,4 +13,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByUsername(String username);
     User findByUsernameAndDeletedFalse(String username);
     List<User> findAllByDeletedFalse();
+
+    /**
+     * 탈퇴하지 않은 사용자 ID를 lastUserId 다음부터 ID 순으로 조회 (키셋 페이지네이션)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.deleted = false AND u.id > :lastUserId ORDER BY u.id")
+    List<Long> findActiveUserIdsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+CREATE TABLE recipe_ingredient_tokens (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    recipe_id VARCHAR(255) NOT NULL,
+    token_order INT NOT NULL,
+    token_text VARCHAR(500) NOT NULL,
+    canonical_name VARCHAR(100),
+    ingredient_id BIGINT,
+
+    INDEX idx_recipe_ingredient_tokens_recipe (recipe_id, token_order)
+);
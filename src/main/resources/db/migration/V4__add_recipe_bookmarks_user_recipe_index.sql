@@ -0,0 +1 @@
+CREATE INDEX idx_recipe_bookmarks_user_recipe ON recipe_bookmarks (user_id, recipe_id);
@@ -0,0 +1,7 @@
+CREATE TABLE recipe_catalog_version (
+    id INT PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+INSERT INTO recipe_catalog_version (id, version, updated_at) VALUES (1, 0, CURRENT_TIMESTAMP(6));
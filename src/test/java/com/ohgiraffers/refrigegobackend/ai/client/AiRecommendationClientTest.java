@@ -0,0 +1,115 @@
+package com.ohgiraffers.refrigegobackend.ai.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohgiraffers.refrigegobackend.config.AiServerHttpTransport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith({MockitoExtension.class, OutputCaptureExtension.class})
+class AiRecommendationClientTest {
+
+    private static final String URL = "http://ai-server/api/recommend/by-ingredients";
+
+    @Mock
+    private AiServerHttpTransport aiServerHttpTransport;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private AiServerHealthMonitor aiServerHealthMonitor;
+
+    private AiRecommendationClient aiRecommendationClient;
+
+    @BeforeEach
+    void setUp() {
+        given(aiServerHttpTransport.getRecommendation()).willReturn(restTemplate);
+        aiRecommendationClient = new AiRecommendationClient(aiServerHttpTransport, new ObjectMapper(),
+                aiServerHealthMonitor, "http://ai-server", "/api/recommend/by-ingredients", 0.0);
+    }
+
+    @Test
+    @DisplayName("AI 서버를 한 번만 호출하고 받은 응답 버퍼에서 추천 결과를 역직렬화")
+    void parsesBufferedBody() {
+        // given
+        givenResponseBody("""
+                {"recipes": [{"rcp_seq": "R1", "rcp_nm": "김치찌개", "score": 0.9,
+                              "match_reason": "김치 보유", "matched_ingredients": ["김치"],
+                              "missing_ingredients": ["두부"], "rcp_way2": "끓이기", "rcp_category": "국"}],
+                 "total": 1, "processing_time": 0.12}
+                """);
+
+        // when
+        AiRecommendationResponse response = aiRecommendationClient.requestRecipeRecommendation(
+                "7", List.of("김치"), 10);
+
+        // then
+        assertThat(response.getTotal()).isEqualTo(1);
+        assertThat(response.getProcessingTime()).isEqualTo(0.12);
+        AiRecommendedRecipe recipe = response.getRecipes().get(0);
+        assertThat(recipe.getRcpSeq()).isEqualTo("R1");
+        assertThat(recipe.getRcpNm()).isEqualTo("김치찌개");
+        assertThat(recipe.getMatchReason()).isEqualTo("김치 보유");
+        assertThat(recipe.getMissingIngredients()).containsExactly("두부");
+        verify(restTemplate, times(1)).exchange(eq(URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(byte[].class));
+        verify(aiServerHealthMonitor).recordSuccess();
+    }
+
+    @Test
+    @DisplayName("응답 본문 파싱에 실패하면 다시 요청하지 않고 원시 응답을 경고 로그에 남긴 뒤 예외")
+    void malformedBodyLoggedAndRethrown(CapturedOutput output) {
+        // given
+        givenResponseBody("{\"recipes\": [{\"rcp_seq\": \"R1\", ");
+
+        // when & then
+        assertThatThrownBy(() -> aiRecommendationClient.requestRecipeRecommendation("7", List.of("김치"), 10))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageStartingWith("AI 서버 통신 오류");
+        assertThat(output).contains("AI 서버 응답 파싱 실패 - 원시 응답: {\"recipes\": [{\"rcp_seq\": \"R1\", ");
+        verify(restTemplate, times(1)).exchange(eq(URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(byte[].class));
+        // 서버는 응답했으므로 차단기 실패로 세지 않음
+        verify(aiServerHealthMonitor).recordSuccess();
+        verify(aiServerHealthMonitor, never()).recordFailure();
+    }
+
+    @Test
+    @DisplayName("응답 본문이 비어 있으면 null")
+    void emptyBodyReturnsNull() {
+        // given
+        givenResponseBody("");
+
+        // when
+        AiRecommendationResponse response = aiRecommendationClient.requestRecipeRecommendation(
+                "7", List.of("김치"), 10);
+
+        // then
+        assertThat(response).isNull();
+    }
+
+    private void givenResponseBody(String body) {
+        given(restTemplate.exchange(eq(URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(byte[].class)))
+                .willReturn(ResponseEntity.ok(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
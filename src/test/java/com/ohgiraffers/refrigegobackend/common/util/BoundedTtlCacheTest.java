@@ -0,0 +1,58 @@
+package com.ohgiraffers.refrigegobackend.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다")
+    void evictsLeastRecentlyUsed() {
+        // given
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(2, 1000, now::get);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a"); // b가 가장 오래 사용하지 않은 항목이 됨
+
+        // when
+        cache.put("c", 3);
+
+        // then
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("c")).isEqualTo(3);
+
+        BoundedTtlCache.Stats stats = cache.getStats();
+        assertThat(stats.getSize()).isEqualTo(2);
+        assertThat(stats.getEvictionCount()).isEqualTo(1);
+        assertThat(stats.getHitCount()).isEqualTo(3);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 미스로 처리하고 제거한다")
+    void expiresAfterTtl() {
+        // given
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(10, 1000, now::get);
+        cache.put("a", 1);
+
+        // when
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        Integer beforeTtl = cache.get("a");
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        Integer afterTtl = cache.get("a");
+
+        // then
+        assertThat(beforeTtl).isEqualTo(1);
+        assertThat(afterTtl).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getStats().getExpirationCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ohgiraffers.refrigegobackend.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    @Test
+    @DisplayName("연속 실패 시 OPEN, 차단 시간 후 시험 호출 한 건만 허용하고 성공하면 CLOSED")
+    void opensAndRecoversThroughHalfOpen() {
+        // given
+        AtomicLong now = new AtomicLong(1_000L);
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, 100, now::get);
+
+        // when - 연속 실패 2회
+        breaker.recordFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        breaker.recordFailure();
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+        assertThat(breaker.isAvailable()).isFalse();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+
+        breaker.recordSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.allowRequest()).isTrue();
+
+        CircuitBreaker.Stats stats = breaker.getStats();
+        assertThat(stats.getTransitions())
+                .containsEntry("CLOSED->OPEN", 1L)
+                .containsEntry("OPEN->HALF_OPEN", 1L)
+                .containsEntry("HALF_OPEN->CLOSED", 1L);
+        assertThat(stats.getRejectedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 OPEN, 헬스체크 성공 시 차단 시간을 기다리지 않고 HALF_OPEN")
+    void halfOpenFailureReopensAndProbeSuccessHalfOpens() {
+        // given
+        AtomicLong now = new AtomicLong(1_000L);
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 100, now::get);
+        breaker.recordFailure();
+
+        // when - 헬스체크 성공
+        breaker.recordProbeSuccess();
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.allowRequest()).isTrue();
+
+        breaker.recordFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+        assertThat(breaker.getStats().getTransitions()).containsEntry("HALF_OPEN->OPEN", 1L);
+    }
+}
@@ -0,0 +1,43 @@
+package com.ohgiraffers.refrigegobackend.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadlineTest {
+
+    @Test
+    @DisplayName("마감 시각이 지나면 만료되고 남은 시간은 0")
+    void expiresAfterBudget() {
+        // given
+        AtomicLong now = new AtomicLong(1_000L);
+        Deadline deadline = Deadline.after(100, now::get);
+
+        // when & then
+        assertThat(deadline.isExpired()).isFalse();
+        assertThat(deadline.remainingMillis()).isEqualTo(100);
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(60));
+        assertThat(deadline.isExpired()).isFalse();
+        assertThat(deadline.remainingMillis()).isEqualTo(40);
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(40));
+        assertThat(deadline.isExpired()).isTrue();
+        assertThat(deadline.remainingMillis()).isZero();
+    }
+
+    @Test
+    @DisplayName("마감이 없으면 만료되지 않고, 0 이하 예산은 바로 만료")
+    void noneAndNonPositiveBudget() {
+        assertThat(Deadline.none().isBounded()).isFalse();
+        assertThat(Deadline.none().isExpired()).isFalse();
+        assertThat(Deadline.none().remainingMillis()).isEqualTo(Long.MAX_VALUE);
+
+        assertThat(Deadline.after(0).isExpired()).isTrue();
+        assertThat(Deadline.after(-5).isExpired()).isTrue();
+    }
+}
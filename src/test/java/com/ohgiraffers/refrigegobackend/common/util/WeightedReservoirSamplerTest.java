@@ -0,0 +1,55 @@
+package com.ohgiraffers.refrigegobackend.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class WeightedReservoirSamplerTest {
+
+    @Test
+    @DisplayName("가중치에 비례한 확률로 후보를 뽑는다")
+    void picksProportionalToWeight() {
+        // given
+        Random random = new Random(42);
+        int trials = 20_000;
+        int heavyPicked = 0;
+
+        // when - 가중치 3 : 1
+        for (int i = 0; i < trials; i++) {
+            WeightedReservoirSampler<String> sampler = new WeightedReservoirSampler<>(1, random::nextDouble);
+            sampler.offer("light", 1.0);
+            sampler.offer("heavy", 3.0);
+            if ("heavy".equals(sampler.getFirst())) {
+                heavyPicked++;
+            }
+        }
+
+        // then
+        assertThat(heavyPicked / (double) trials).isCloseTo(0.75, within(0.02));
+    }
+
+    @Test
+    @DisplayName("가중치가 0 이하인 후보는 뽑지 않으며, 후보가 없으면 null")
+    void ignoresNonPositiveWeights() {
+        // given
+        WeightedReservoirSampler<String> sampler = new WeightedReservoirSampler<>(2);
+
+        // when
+        sampler.offer("zero", 0.0);
+        sampler.offer("negative", -1.0);
+
+        // then
+        assertThat(sampler.getFirst()).isNull();
+        assertThat(sampler.getOfferedCount()).isZero();
+
+        sampler.offer("a", 1.0);
+        sampler.offer("b", 1.0);
+        sampler.offer("c", 1.0);
+        assertThat(sampler.getSampled()).hasSize(2);
+        assertThat(sampler.getOfferedCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ohgiraffers.refrigegobackend.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiServerHttpTransportTest {
+
+    private static final long SLOW_RESPONSE_MS = 600;
+
+    private HttpServer server;
+    private String baseUrl;
+    // 요청을 보낸 클라이언트 포트 (같은 포트면 같은 TCP 연결)
+    private final List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+
+    private AiServerHttpTransport transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/fast", exchange -> respond(exchange, 0));
+        server.createContext("/slow", exchange -> respond(exchange, SLOW_RESPONSE_MS));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+
+        AiServerProperties properties = new AiServerProperties();
+        properties.getHttp().setSearchReadTimeout(200);
+        properties.getHttp().setRecommendationReadTimeout(3000);
+        transport = new AiServerHttpTransport(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("응답 대기 시간은 호출 종류별로 적용: 검색은 제한을 넘기면 실패, 추천은 같은 응답을 기다림")
+    void readTimeoutPerCallType() {
+        // when & then
+        assertThatThrownBy(() -> transport.getSearch().getForObject(baseUrl + "/slow", String.class))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(transport.getRecommendation().getForObject(baseUrl + "/slow", String.class))
+                .isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("호출 종류가 달라도 HttpClient 하나를 공유해 keep-alive 연결을 재사용")
+    void sharesKeepAliveConnection() {
+        // when
+        transport.getSearch().getForObject(baseUrl + "/fast", String.class);
+        transport.getRecommendation().getForObject(baseUrl + "/fast", String.class);
+        transport.getHealth().getForObject(baseUrl + "/fast", String.class);
+
+        // then
+        assertThat(clientPorts).hasSize(3);
+        assertThat(clientPorts).containsOnly(clientPorts.get(0));
+    }
+
+    private void respond(HttpExchange exchange, long delayMillis) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.ohgiraffers.refrigegobackend.ingredient.infrastructure.dictionary;
+
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.IngredientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class SynonymDictionaryTest {
+
+    @Mock
+    private IngredientRepository ingredientRepository;
+
+    @InjectMocks
+    private SynonymDictionary synonymDictionary;
+
+    @BeforeEach
+    void setUp() {
+        // 동의어 파일(data/ingredient-synonyms.csv) + 기준 재료명 (data/ingredients.sql에 각각 행이 있는 이름 포함)
+        given(ingredientRepository.findAllNames()).willReturn(List.of(
+                "양파", "대파", "감자", "배추", "양배추", "돼지고기", "삼겹살",
+                "피망", "파프리카", "쪽파", "고추가루", "고춧가루"));
+        synonymDictionary.rebuild();
+    }
+
+    @Test
+    @DisplayName("기준 재료명은 자기 자신으로, 기준 재료에 없는 별칭만 대표 재료명으로 정규화된다")
+    void canonicalOf() {
+        // 기준 재료명은 동의어 파일에 있어도 다른 재료로 합쳐지지 않음
+        assertThat(synonymDictionary.canonicalOf(" 피망 ")).isEqualTo("피망");
+        assertThat(synonymDictionary.canonicalOf("고추가루")).isEqualTo("고추가루");
+        assertThat(synonymDictionary.canonicalOf("배추")).isEqualTo("배추");
+        assertThat(synonymDictionary.canonicalOf("돼지고기")).isEqualTo("돼지고기");
+        assertThat(synonymDictionary.canonicalOf("쪽파")).isEqualTo("쪽파");
+        assertThat(synonymDictionary.canonicalOf("감자")).isEqualTo("감자");
+
+        // 기준 재료에 없는 별칭
+        assertThat(synonymDictionary.canonicalOf("돼지삼겹살")).isEqualTo("삼겹살");
+        assertThat(synonymDictionary.canonicalOf("캐비지")).isEqualTo("양배추");
+        assertThat(synonymDictionary.canonicalOf("빨간피망")).isEqualTo("파프리카");
+        assertThat(synonymDictionary.canonicalOf("사전에없는재료")).isEqualTo("사전에없는재료");
+    }
+
+    @Test
+    @DisplayName("텍스트를 한 번 훑어 포함된 대표 재료명을 가장 긴 이름 우선으로 찾는다")
+    void findCanonicals() {
+        String parts = "돼지고기 100g(1/2컵), 양파 1/2개, 쪽파 2뿌리, 배추 1/4통, 감자 1개";
+
+        assertThat(synonymDictionary.findCanonicals(parts))
+                .containsExactly("돼지고기", "양파", "쪽파", "배추", "감자"); // "양파"의 "파"는 대파로 잡지 않음
+
+        String aliases = "돼지삼겹살 200g, 캐비지 1/4통, 빨간피망 1개, 파 1대";
+        assertThat(synonymDictionary.findCanonicals(aliases))
+                .containsExactly("삼겹살", "양배추", "파프리카", "대파");
+    }
+
+    @Test
+    @DisplayName("선택 재료 매처는 동의어와 사전에 없는 이름의 포함 관계를 모두 매칭한다")
+    void selectedIngredientMatcher() {
+        SelectedIngredientMatcher matcher = synonymDictionary.matcherFor(List.of("삼겹살", "대파", "수제소스"));
+
+        assertThat(matcher.match("돼지삼겹살 200g")).isEqualTo("삼겹살");
+        assertThat(matcher.match("돼지고기 200g")).isNull();
+        assertThat(matcher.match("파 1대")).isEqualTo("대파");
+        assertThat(matcher.match("수제소스 2큰술")).isEqualTo("수제소스");
+        assertThat(matcher.match("양파 1개")).isNull();
+    }
+}
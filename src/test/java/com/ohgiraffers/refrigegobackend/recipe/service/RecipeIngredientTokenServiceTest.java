@@ -0,0 +1,115 @@
+package com.ohgiraffers.refrigegobackend.recipe.service;
+
+import com.ohgiraffers.refrigegobackend.ingredient.domain.Ingredient;
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.dictionary.SynonymDictionary;
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.IngredientRepository;
+import com.ohgiraffers.refrigegobackend.recipe.domain.Recipe;
+import com.ohgiraffers.refrigegobackend.recipe.dto.response.RecipeIngredientTokenDTO;
+import com.ohgiraffers.refrigegobackend.recipe.infrastructure.repository.RecipeIngredientTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeIngredientTokenServiceTest {
+
+    @Mock
+    private RecipeIngredientTokenRepository recipeIngredientTokenRepository;
+
+    @Mock
+    private IngredientRepository ingredientRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private RecipeIngredientTokenService recipeIngredientTokenService;
+
+    @BeforeEach
+    void setUp() {
+        // 동의어 파일(data/ingredient-synonyms.csv) + 기준 재료명
+        given(ingredientRepository.findAllNames()).willReturn(List.of("양파", "대파", "돼지고기", "삼겹살", "간장"));
+        SynonymDictionary synonymDictionary = new SynonymDictionary(ingredientRepository);
+        synonymDictionary.rebuild();
+        recipeIngredientTokenService = new RecipeIngredientTokenService(
+                recipeIngredientTokenRepository, ingredientRepository, synonymDictionary, jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("재료 텍스트를 쉼표/세로선으로 나누고 빈 토큰은 버리며, 토큰마다 대표 재료명을 붙인다")
+    void tokenizeText() {
+        // when
+        List<RecipeIngredientTokenDTO> tokens = recipeIngredientTokenService.tokenizeText(
+                " 돼지삼겹살 200g, 양파 1/2개 | 파 1대,, 수제소스 2큰술 ");
+
+        // then
+        assertThat(tokens.stream().map(RecipeIngredientTokenDTO::getTokenText).collect(Collectors.toList()))
+                .containsExactly("돼지삼겹살 200g", "양파 1/2개", "파 1대", "수제소스 2큰술");
+        assertThat(tokens.stream().map(RecipeIngredientTokenDTO::getCanonicalName).collect(Collectors.toList()))
+                .containsExactly("삼겹살", "양파", "대파", null);
+        assertThat(tokens).allMatch(token -> token.getIngredientId() == null);
+        assertThat(recipeIngredientTokenService.tokenizeText("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰 저장 시 대표 재료명으로 기준 재료 ID를 붙이고, 저장된 토큰과 같으면 다시 쓰지 않는다")
+    void tokenizeWritesOnlyChangedRecipes() {
+        // given
+        Recipe changed = Recipe.builder().rcpSeq("R1").rcpPartsDtls("돼지고기 100g, 간장 1큰술").build();
+        Recipe unchanged = Recipe.builder().rcpSeq("R2").rcpPartsDtls("양파 1개").build();
+        given(ingredientRepository.findByNameIn(any())).willReturn(List.of(
+                Ingredient.builder().id(1L).name("돼지고기").build(),
+                Ingredient.builder().id(2L).name("양파").build(),
+                Ingredient.builder().id(3L).name("간장").build()));
+        given(recipeIngredientTokenRepository.findTokensByRecipeIds(any())).willReturn(List.<Object[]>of(
+                new Object[]{"R1", "돼지고기 100g", "돼지고기", 1L},
+                new Object[]{"R2", "양파 1개", "양파", 2L}));
+
+        // when
+        int updated = recipeIngredientTokenService.tokenize(List.of(changed, unchanged));
+
+        // then - R1은 간장 토큰이 새로 생겨 다시 저장, R2는 그대로
+        assertThat(updated).isEqualTo(1);
+        verify(recipeIngredientTokenRepository).deleteByRecipeIds(List.of("R1"));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).hasSize(2);
+        assertThat(rows.getValue().get(0)).containsExactly("R1", 0, "돼지고기 100g", "돼지고기", 1L);
+        assertThat(rows.getValue().get(1)).containsExactly("R1", 1, "간장 1큰술", "간장", 3L);
+    }
+
+    @Test
+    @DisplayName("모든 레시피의 토큰이 저장된 것과 같으면 삭제/저장하지 않는다")
+    void tokenizeUnchangedWritesNothing() {
+        // given
+        Recipe recipe = Recipe.builder().rcpSeq("R2").rcpPartsDtls("양파 1개").build();
+        given(ingredientRepository.findByNameIn(any())).willReturn(List.of(
+                Ingredient.builder().id(2L).name("양파").build()));
+        given(recipeIngredientTokenRepository.findTokensByRecipeIds(any())).willReturn(List.<Object[]>of(
+                new Object[]{"R2", "양파 1개", "양파", 2L}));
+
+        // when
+        int updated = recipeIngredientTokenService.tokenize(List.of(recipe));
+
+        // then
+        assertThat(updated).isZero();
+        verify(recipeIngredientTokenRepository, never()).deleteByRecipeIds(any());
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,112 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index;
+
+import com.ohgiraffers.refrigegobackend.recipe.infrastructure.repository.RecipeRepository;
+import com.ohgiraffers.refrigegobackend.recipe.service.RecipeSummaryService;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository.RecipeIngredientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeIndexSnapshotStoreTest {
+
+    @Mock
+    private RecipeIngredientRepository recipeIngredientRepository;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private RecipeSummaryService recipeSummaryService;
+
+    @TempDir
+    Path tempDir;
+
+    // 야채볶음: 양파(1, 주), 당근(2), 감자(3) / 소고기볶음: 소고기(4, 주), 양파(1) / 감자튀김: 감자(3, 주)
+    private final String[] recipeIds = {"TEST001", "TEST002", "TEST003"};
+    private final List<Set<Long>> recipeIngredients = List.of(Set.of(1L, 2L, 3L), Set.of(4L, 1L), Set.of(3L));
+    private final List<Set<Long>> mainIngredients = List.of(Set.of(1L), Set.of(4L), Set.of(3L));
+    private final RecipeIngredientMatrix matrix = RecipeIngredientMatrix.build(
+            recipeIds, new String[]{"야채볶음", "소고기볶음", "감자튀김"}, recipeIngredients, mainIngredients,
+            Map.of(1L, "양파", 2L, "당근", 3L, "감자", 4L, "소고기"));
+    private final RecipeNeighborTable neighbors = RecipeNeighborTable.build(recipeIds, recipeIngredients, mainIngredients, 10);
+
+    private RecipeIndexSnapshotStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = new RecipeIndexSnapshotStore(recipeIngredientRepository, recipeRepository, recipeSummaryService,
+                true, tempDir.resolve("index.snapshot").toString());
+
+        given(recipeRepository.findSummariesByRcpSeqIn(List.of("TEST001", "TEST002", "TEST003")))
+                .willReturn(List.<Object[]>of(new Object[]{"TEST001", "야채볶음", "양파, 당근, 감자", "볶는다", null, "img"}));
+        store.save(42L, 10, matrix, neighbors);
+    }
+
+    @Test
+    @DisplayName("같은 카탈로그 버전으로 저장한 스냅샷을 읽으면 같은 행렬과 이웃 테이블이 복원된다")
+    void roundTrip() throws Exception {
+        // when
+        RecipeIndexSnapshotStore.Snapshot snapshot = store.load(42L, 10);
+
+        // then
+        assertThat(snapshot).isNotNull();
+        long[] fridge = snapshot.getMatrix().fridgeOfNames(List.of("양파", "감자"));
+        assertThat(snapshot.getMatrix().findMatching(fridge, Integer.MAX_VALUE)).extracting(FridgeMatch::toString)
+                .isEqualTo(matrix.findMatching(matrix.fridgeOfNames(List.of("양파", "감자")), Integer.MAX_VALUE).stream()
+                        .map(FridgeMatch::toString)
+                        .toList());
+        assertThat(snapshot.getMatrix().postingsById().get(1L)).containsExactly(0, 1);
+        assertThat(snapshot.getNeighbors().neighborsOf("TEST001")).isEqualTo(neighbors.neighborsOf("TEST001"));
+        assertThat(snapshot.getNeighbors().similaritiesOf("TEST001")).isEqualTo(neighbors.similaritiesOf("TEST001"));
+        assertThat(snapshot.getSummaryCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전이나 이웃 수가 다르거나 파일이 손상되었으면 스냅샷을 사용하지 않는다")
+    void rejectsMismatchOrCorruption() throws Exception {
+        assertThat(store.load(43L, 10)).isNull();
+        assertThat(store.load(42L, 5)).isNull();
+
+        // 본문 마지막 바이트 변경
+        Path file = tempDir.resolve("index.snapshot");
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file, bytes, StandardOpenOption.TRUNCATE_EXISTING);
+
+        assertThat(store.load(42L, 10)).isNull();
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전은 버전 행이나 연결/레시피 수가 바뀌면 달라진다")
+    void catalogVersionFollowsVersionRowAndCounts() {
+        // given
+        given(recipeIngredientRepository.findCatalogVersion()).willReturn(
+                List.<Object[]>of(new Object[]{3L, 6L, 3L}),
+                List.<Object[]>of(new Object[]{3L, 6L, 3L}),
+                List.<Object[]>of(new Object[]{4L, 6L, 3L}),
+                List.<Object[]>of(new Object[]{3L, 7L, 3L}));
+
+        // when
+        long current = store.catalogVersion();
+
+        // then
+        assertThat(store.catalogVersion()).isEqualTo(current);
+        assertThat(store.catalogVersion()).isNotEqualTo(current);
+        assertThat(store.catalogVersion()).isNotEqualTo(current);
+    }
+}
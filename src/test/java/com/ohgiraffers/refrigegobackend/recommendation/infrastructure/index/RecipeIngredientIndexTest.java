@@ -0,0 +1,174 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index;
+
+import com.ohgiraffers.refrigegobackend.recommendation.event.RecipeIndexRebuiltEvent;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository.RecipeIngredientRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeIngredientIndexTest {
+
+    @Mock
+    private RecipeIngredientRepository recipeIngredientRepository;
+
+    @Mock
+    private RecipeIndexSnapshotStore snapshotStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    /**
+     * 테스트용 연결 데이터로 인덱스 구성
+     */
+    private void buildIndex() {
+        // RecipeIngredientRepositoryTest와 같은 데이터 구성
+        // 야채볶음: 양파(1), 당근(2), 감자(3) / 소고기볶음: 소고기(4), 양파(1) / 감자튀김: 감자(3)
+        List<Object[]> links = Arrays.<Object[]>asList(
+                new Object[]{"TEST001", "야채볶음", 1L, "양파", true},
+                new Object[]{"TEST001", "야채볶음", 2L, "당근", false},
+                new Object[]{"TEST001", "야채볶음", 3L, "감자", false},
+                new Object[]{"TEST002", "소고기볶음", 4L, "소고기", true},
+                new Object[]{"TEST002", "소고기볶음", 1L, "양파", false},
+                new Object[]{"TEST003", "감자튀김", 3L, "감자", true}
+        );
+        given(recipeIngredientRepository.findAllRecipeIngredientLinks()).willReturn(links);
+
+        recipeIngredientIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("선택한 재료의 포스팅 리스트만으로 매칭 비율을 계산한다")
+    void findMatches() {
+        // given
+        buildIndex();
+
+        // when
+        List<RecipeMatch> matches = recipeIngredientIndex.findMatches(List.of(1L, 2L), 50.0);
+
+        // then
+        assertThat(matches).hasSize(2); // 야채볶음(66.7%), 소고기볶음(50%)
+
+        RecipeMatch first = matches.get(0);
+        assertThat(first.getRecipeId()).isEqualTo("TEST001");
+        assertThat(first.getTotalIngredients()).isEqualTo(3);
+        assertThat(first.getMatchedIngredients()).isEqualTo(2);
+        assertThat(first.getMatchPercentage()).isCloseTo(66.67, within(0.1));
+
+        RecipeMatch second = matches.get(1);
+        assertThat(second.getRecipeId()).isEqualTo("TEST002");
+        assertThat(second.getMatchPercentage()).isCloseTo(50.0, within(0.1));
+    }
+
+    @Test
+    @DisplayName("매칭 비율이 기준치 미만이거나 포스팅이 없는 재료는 결과에서 제외된다")
+    void findMatches_BelowThresholdOrUnknown() {
+        // given
+        buildIndex();
+
+        // when
+        List<RecipeMatch> potatoOnly = recipeIngredientIndex.findMatches(List.of(3L), 80.0);
+        List<RecipeMatch> unknown = recipeIngredientIndex.findMatches(List.of(999L), 10.0);
+
+        // then
+        assertThat(potatoOnly).extracting(RecipeMatch::getRecipeId).containsExactly("TEST003");
+        assertThat(unknown).isEmpty();
+    }
+
+    @Test
+    @DisplayName("limit을 지정하면 정렬 기준상 상위 limit개만 반환한다")
+    void findMatches_WithLimit() {
+        // given
+        buildIndex();
+
+        // when
+        List<RecipeMatch> top1 = recipeIngredientIndex.findMatches(List.of(1L, 2L, 3L), 30.0, 1);
+
+        // then
+        assertThat(top1).extracting(RecipeMatch::getRecipeId).containsExactly("TEST001"); // 100%
+    }
+
+    @Test
+    @DisplayName("비트셋 행렬로 바로 만들 수 있는 레시피와 부족 재료 수를 계산한다")
+    void matrixFindCookableAndMissing() {
+        // given
+        buildIndex();
+        RecipeIngredientMatrix matrix = recipeIngredientIndex.getMatrix();
+        long[] fridge = matrix.fridgeOfNames(List.of("양파", "감자"));
+
+        // when
+        List<FridgeMatch> cookable = matrix.findCookable(fridge);
+        List<FridgeMatch> missingOne = matrix.findMatching(fridge, 1);
+
+        // then
+        assertThat(cookable).extracting(FridgeMatch::getRecipeId).containsExactly("TEST003");
+        assertThat(missingOne).extracting(FridgeMatch::getRecipeId)
+                .containsExactly("TEST001", "TEST002", "TEST003");
+
+        FridgeMatch vegetable = missingOne.get(0);
+        assertThat(vegetable.getMatchedIngredients()).isEqualTo(2);
+        assertThat(vegetable.getMissingIngredients()).isEqualTo(1);
+        assertThat(matrix.missingIngredientNames(vegetable, fridge)).containsExactly("당근");
+        assertThat(matrix.isCookable("TEST001", fridge)).isFalse();
+    }
+
+    @Test
+    @DisplayName("냉장고에 주재료가 있는 레시피만 주재료 기반으로 조회된다")
+    void matrixFindByMainIngredients() {
+        // given
+        buildIndex();
+        RecipeIngredientMatrix matrix = recipeIngredientIndex.getMatrix();
+        long[] fridge = matrix.fridgeOf(List.of(1L, 3L)); // 양파, 감자
+
+        // when
+        List<FridgeMatch> matches = matrix.findByMainIngredients(fridge);
+
+        // then
+        assertThat(matches).extracting(FridgeMatch::getRecipeId).containsExactly("TEST001", "TEST003");
+        assertThat(matches).extracting(FridgeMatch::getMatchedMainIngredients).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("재구성 완료 이벤트는 새 인덱스로 교체한 뒤 발행된다")
+    void publishesRebuiltEventAfterSwap() {
+        // given
+        AtomicBoolean readyWhenPublished = new AtomicBoolean();
+        willAnswer(invocation -> {
+            RecipeIndexRebuiltEvent event = invocation.getArgument(0);
+            readyWhenPublished.set(recipeIngredientIndex.isReady() && event.getRecipeCount() == 3);
+            return null;
+        }).given(eventPublisher).publishEvent(any(RecipeIndexRebuiltEvent.class));
+
+        // when
+        buildIndex();
+
+        // then
+        assertThat(readyWhenPublished).isTrue();
+    }
+
+    @Test
+    @DisplayName("인덱스 구성 전에는 사용할 수 없다")
+    void notReadyBeforeRebuild() {
+        assertThat(recipeIngredientIndex.isReady()).isFalse();
+        assertThatThrownBy(() -> recipeIngredientIndex.findMatches(List.of(1L), 30.0))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
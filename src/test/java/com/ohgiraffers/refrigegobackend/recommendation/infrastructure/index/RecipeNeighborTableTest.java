@@ -0,0 +1,53 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RecipeNeighborTableTest {
+
+    // 양파(1), 당근(2), 감자(3), 소고기(4)
+    private final String[] recipeIds = {"R1", "R2", "R3", "R4"};
+    private final List<Set<Long>> recipeIngredients = List.of(
+            Set.of(1L, 2L, 3L),  // R1: 양파(주), 당근, 감자
+            Set.of(1L, 2L),      // R2: 양파(주), 당근
+            Set.of(1L, 4L),      // R3: 양파(주), 소고기
+            Set.of(4L, 1L)       // R4: 소고기(주), 양파
+    );
+    private final List<Set<Long>> mainIngredients = List.of(
+            Set.of(1L), Set.of(1L), Set.of(1L), Set.of(4L)
+    );
+
+    @Test
+    @DisplayName("주재료를 함께 쓰는 레시피만 가중 Jaccard 유사도 순으로 이웃이 된다")
+    void neighborsByWeightedJaccard() {
+        // when
+        RecipeNeighborTable table = RecipeNeighborTable.build(recipeIds, recipeIngredients, mainIngredients, 10);
+
+        // then
+        // R1-R2: min(양파 2,2 + 당근 1,1) = 3 / (4 + 3 - 3) = 0.75
+        // R1-R3: min(양파 2,2) = 2 / (4 + 3 - 2) = 0.4
+        // R4: 소고기가 주재료인 다른 레시피가 없어 이웃 없음
+        assertThat(table.neighborsOf("R1")).containsExactly("R2", "R3");
+        assertThat(table.similaritiesOf("R1")[0]).isCloseTo(0.75f, within(0.001f));
+        assertThat(table.similaritiesOf("R1")[1]).isCloseTo(0.4f, within(0.001f));
+        assertThat(table.neighborsOf("R4")).isEmpty();
+        assertThat(table.neighborsOf("UNKNOWN")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("레시피별 이웃은 지정한 개수까지만 저장된다")
+    void neighborCountLimit() {
+        // when
+        RecipeNeighborTable table = RecipeNeighborTable.build(recipeIds, recipeIngredients, mainIngredients, 1);
+
+        // then
+        assertThat(table.neighborsOf("R1")).containsExactly("R2");
+        assertThat(table.neighborsOf("R3")).containsExactly("R2"); // R3-R2 0.5 > R3-R1 0.4
+    }
+}
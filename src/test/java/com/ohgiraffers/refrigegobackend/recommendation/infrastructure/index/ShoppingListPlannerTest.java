@@ -0,0 +1,46 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShoppingListPlannerTest {
+
+    // 야채볶음: 양파(1), 당근(2), 감자(3) / 소고기볶음: 소고기(4), 양파(1) / 감자튀김: 감자(3) / 양파링: 양파(1)
+    private final RecipeIngredientMatrix matrix = RecipeIngredientMatrix.build(
+            new String[]{"TEST001", "TEST002", "TEST003", "TEST004"},
+            new String[]{"야채볶음", "소고기볶음", "감자튀김", "양파링"},
+            List.of(Set.of(1L, 2L, 3L), Set.of(4L, 1L), Set.of(3L), Set.of(1L)),
+            List.of(Set.of(1L), Set.of(4L), Set.of(3L), Set.of(1L)),
+            Map.of(1L, "양파", 2L, "당근", 3L, "감자", 4L, "소고기"));
+
+    @Test
+    @DisplayName("부족 재료 2개짜리 레시피도 묶음으로 고려해 새로 만들 수 있는 레시피가 가장 많은 구매 목록을 고른다")
+    void choosesBundleUnlockingMostRecipes() {
+        // when
+        ShoppingPlan plan = ShoppingListPlanner.plan(matrix, matrix.fridgeOfNames(List.of("양파")), 2);
+
+        // then - {당근, 감자}는 재료 2개로 야채볶음 + 감자튀김
+        assertThat(plan.getIngredientsToBuy()).containsExactly("당근", "감자");
+        assertThat(plan.getSteps()).hasSize(1);
+        assertThat(plan.getSteps().get(0).getUnlockedRecipeIds()).containsExactly("TEST001", "TEST003");
+        assertThat(plan.getCookableNowCount()).isEqualTo(1);
+        assertThat(plan.getUnlockedRecipeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("구매 한도를 넘는 묶음은 고르지 않는다")
+    void respectsBudget() {
+        // when
+        ShoppingPlan plan = ShoppingListPlanner.plan(matrix, matrix.fridgeOfNames(List.of("양파")), 1);
+
+        // then - 재료 1개로는 감자(감자튀김) 또는 소고기(소고기볶음), 같은 이득이면 열 번호가 앞선 재료
+        assertThat(plan.getIngredientsToBuy()).containsExactly("감자");
+        assertThat(plan.getUnlockedRecipeCount()).isEqualTo(1);
+    }
+}
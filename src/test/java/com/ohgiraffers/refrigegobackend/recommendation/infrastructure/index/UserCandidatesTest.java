@@ -0,0 +1,59 @@
+package com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCandidatesTest {
+
+    // 야채볶음: 양파(1), 당근(2), 감자(3) / 소고기볶음: 소고기(4), 양파(1) / 감자튀김: 감자(3)
+    private final RecipeIngredientMatrix matrix = RecipeIngredientMatrix.build(
+            new String[]{"TEST001", "TEST002", "TEST003"},
+            new String[]{"야채볶음", "소고기볶음", "감자튀김"},
+            List.of(Set.of(1L, 2L, 3L), Set.of(4L, 1L), Set.of(3L)),
+            List.of(Set.of(1L), Set.of(4L), Set.of(3L)),
+            Map.of(1L, "양파", 2L, "당근", 3L, "감자", 4L, "소고기"));
+
+    @Test
+    @DisplayName("재료 추가/제거를 증분 반영한 결과가 처음부터 계산한 결과와 같다")
+    void applyMatchesFullRecompute() {
+        // given
+        UserCandidates candidates = UserCandidates.build(matrix, List.of("양파"));
+
+        // when
+        candidates.apply(List.of("감자", "당근", "없는재료"), List.of("양파"));
+
+        // then
+        long[] expectedFridge = matrix.fridgeOfNames(List.of("감자", "당근"));
+        assertThat(candidates.hasFridge(expectedFridge)).isTrue();
+        assertThat(candidates.findMatching(Integer.MAX_VALUE)).extracting(FridgeMatch::toString)
+                .isEqualTo(matrix.findMatching(expectedFridge, Integer.MAX_VALUE).stream()
+                        .map(FridgeMatch::toString)
+                        .toList());
+        assertThat(candidates.getRanking()).extracting(FridgeMatch::getRecipeId)
+                .containsExactly("TEST003", "TEST001"); // 부족 0개, 부족 1개
+    }
+
+    @Test
+    @DisplayName("같은 재료를 여러 건 보유하면 한 건을 제거해도 점수가 유지된다")
+    void duplicateHoldings() {
+        // given
+        UserCandidates candidates = UserCandidates.build(matrix, List.of("감자", "감자"));
+
+        // when
+        candidates.apply(List.of(), List.of("감자"));
+
+        // then
+        assertThat(candidates.getRanking()).extracting(FridgeMatch::getRecipeId)
+                .containsExactly("TEST003", "TEST001");
+
+        candidates.apply(List.of(), List.of("감자"));
+        assertThat(candidates.getRanking()).isEmpty();
+        assertThat(candidates.countMatching()).isZero();
+    }
+}
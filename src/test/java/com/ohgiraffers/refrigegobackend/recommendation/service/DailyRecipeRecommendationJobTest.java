@@ -0,0 +1,202 @@
+package com.ohgiraffers.refrigegobackend.recommendation.service;
+
+import com.ohgiraffers.refrigegobackend.bookmark.infrastructure.repository.BookmarkRepository;
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.UserIngredientRepository;
+import com.ohgiraffers.refrigegobackend.notification.service.NotificationService;
+import com.ohgiraffers.refrigegobackend.recipe.dto.response.RecipeSummaryDTO;
+import com.ohgiraffers.refrigegobackend.recipe.service.RecipeSummaryService;
+import com.ohgiraffers.refrigegobackend.recommendation.domain.RecommendationJobCheckpoint;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.RecipeIngredientIndex;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository.RecipeIngredientRepository;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository.RecommendationJobCheckpointRepository;
+import com.ohgiraffers.refrigegobackend.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class DailyRecipeRecommendationJobTest {
+
+    private static final LocalDate JOB_DATE = LocalDate.of(2025, 1, 1);
+    private static final String CHECKPOINT_ID = "daily-recipe:2025-01-01";
+    private static final PageRequest CHUNK = PageRequest.of(0, 500);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserIngredientRepository userIngredientRepository;
+
+    @Mock
+    private BookmarkRepository bookmarkRepository;
+
+    @Mock
+    private RecipeIngredientRepository recipeIngredientRepository;
+
+    // 인덱스 미준비 상태(isReady = false)로 DB 쿼리 경로를 검증
+    @Mock
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private RecommendationJobCheckpointRepository checkpointRepository;
+
+    @Mock
+    private UserRecommendationSnapshotService userRecommendationSnapshotService;
+
+    @Mock
+    private RecipeSummaryService recipeSummaryService;
+
+    @InjectMocks
+    private DailyRecipeRecommendationJob dailyRecipeRecommendationJob;
+
+    @Test
+    @DisplayName("중단된 작업은 저장된 마지막 사용자 다음부터 이어서 처리하고, 묶음마다 진행 상황을 저장한 뒤 완료 표시")
+    void resumesFromCheckpoint() {
+        // given - 사용자 1, 2 까지 처리된 상태
+        RecommendationJobCheckpoint checkpoint = RecommendationJobCheckpoint.start(CHECKPOINT_ID, JOB_DATE);
+        checkpoint.advance(2L, 2, 1, 0);
+        givenAcquired(checkpoint);
+        given(userRepository.findActiveUserIdsAfter(2L, CHUNK)).willReturn(List.of(3L, 4L));
+        given(userRepository.findActiveUserIdsAfter(4L, CHUNK)).willReturn(List.of());
+
+        // when
+        dailyRecipeRecommendationJob.run(JOB_DATE);
+
+        // then
+        verify(userRepository, never()).findActiveUserIdsAfter(eq(0L), any());
+        verify(checkpointRepository, times(2)).save(checkpoint);
+        assertThat(checkpoint.getLastUserId()).isEqualTo(4L);
+        assertThat(checkpoint.getProcessedUsers()).isEqualTo(4);
+        assertThat(checkpoint.getRecommendedUsers()).isEqualTo(1);
+        assertThat(checkpoint.isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 작업일에 이미 완료된 작업은 다시 실행하지 않음")
+    void skipsCompletedRun() {
+        // given
+        RecommendationJobCheckpoint checkpoint = RecommendationJobCheckpoint.start(CHECKPOINT_ID, JOB_DATE);
+        checkpoint.complete();
+        givenAcquired(checkpoint);
+
+        // when
+        dailyRecipeRecommendationJob.run(JOB_DATE);
+
+        // then
+        verifyNoInteractions(userRepository, notificationService);
+        verify(checkpointRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("사용자별 추천 성공/실패 수를 진행 상황에 누적하고, 한 사용자의 실패는 다른 사용자 처리에 영향 없음")
+    void countsRecommendedAndFailedUsers() {
+        // given
+        // 진행 상황이 없으면 잠금 획득 시 새로 생성됨
+        givenAcquired(RecommendationJobCheckpoint.start(CHECKPOINT_ID, JOB_DATE));
+        given(userRepository.findActiveUserIdsAfter(0L, CHUNK)).willReturn(List.of(1L, 2L, 3L));
+        given(userRepository.findActiveUserIdsAfter(3L, CHUNK)).willReturn(List.of());
+        // 사용자 3은 냉장고가 비어 있어 추천 없음
+        given(userIngredientRepository.findFridgeNamesByUserIdIn(List.of(1L, 2L, 3L))).willReturn(List.of(
+                new Object[]{1L, null, "김치", null, false},
+                new Object[]{2L, "두부 ", null, null, false}));
+        given(recipeIngredientRepository.findRecipeIdsByIngredientNames(List.of("김치")))
+                .willReturn(List.<Object[]>of(new Object[]{"R1", 1L}));
+        given(recipeIngredientRepository.findRecipeIdsByIngredientNames(List.of("두부")))
+                .willReturn(List.<Object[]>of(new Object[]{"R2", 1L}));
+        given(recipeSummaryService.getSummaries(List.of("R1")))
+                .willReturn(Map.of("R1", new RecipeSummaryDTO("R1", "김치찌개", "", "", "", "")));
+        given(recipeSummaryService.getSummaries(List.of("R2")))
+                .willReturn(Map.of("R2", new RecipeSummaryDTO("R2", "두부조림", "", "", "", "")));
+        willThrow(new RuntimeException("FCM 전송 실패"))
+                .given(notificationService).sendRecipeRecommendation(2L, "R2", "두부조림");
+
+        // when
+        dailyRecipeRecommendationJob.run(JOB_DATE);
+
+        // then
+        verify(notificationService).sendRecipeRecommendation(1L, "R1", "김치찌개");
+        verify(notificationService, never()).sendRecipeRecommendation(eq(3L), any(String.class), any(String.class));
+        verify(userRecommendationSnapshotService, never()).saveFromNightlyJob(anyLong(), any(), any(), any());
+
+        ArgumentCaptor<RecommendationJobCheckpoint> saved = ArgumentCaptor.forClass(RecommendationJobCheckpoint.class);
+        verify(checkpointRepository, times(2)).save(saved.capture());
+        RecommendationJobCheckpoint checkpoint = saved.getValue();
+        assertThat(checkpoint.getId()).isEqualTo(CHECKPOINT_ID);
+        assertThat(checkpoint.getLastUserId()).isEqualTo(3L);
+        assertThat(checkpoint.getProcessedUsers()).isEqualTo(3);
+        assertThat(checkpoint.getRecommendedUsers()).isEqualTo(1);
+        assertThat(checkpoint.getFailedUsers()).isEqualTo(1);
+        assertThat(checkpoint.isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 진행 상황 잠금을 가지고 있으면 처리하지 않음")
+    void skipsWhenLockedByAnotherInstance() {
+        // given
+        given(checkpointRepository.acquire(eq(CHECKPOINT_ID), eq(JOB_DATE), anyString(), any(Duration.class)))
+                .willReturn(null);
+
+        // when
+        dailyRecipeRecommendationJob.run(JOB_DATE);
+
+        // then
+        verifyNoInteractions(userRepository, notificationService);
+        verify(checkpointRepository, never()).save(any());
+        verify(checkpointRepository, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("기동 시 작업일과 무관하게 가장 최근의 미완료 작업을 백그라운드 실행기에서 이어서 처리하고 잠금 해제")
+    void resumesLatestUnfinishedRunOnStartup() {
+        // given - 전날 작업이 사용자 4까지 처리된 상태
+        LocalDate yesterday = JOB_DATE.minusDays(1);
+        String checkpointId = "daily-recipe:" + yesterday;
+        RecommendationJobCheckpoint checkpoint = RecommendationJobCheckpoint.start(checkpointId, yesterday);
+        checkpoint.advance(4L, 4, 2, 0);
+        given(checkpointRepository.findFirstByIdStartingWithAndCompletedFalseOrderByJobDateDesc("daily-recipe:"))
+                .willReturn(Optional.of(checkpoint));
+        given(checkpointRepository.acquire(eq(checkpointId), eq(yesterday), anyString(), any(Duration.class)))
+                .willReturn(checkpoint);
+        given(userRepository.findActiveUserIdsAfter(4L, CHUNK)).willReturn(List.of());
+
+        // when
+        dailyRecipeRecommendationJob.resumeInterruptedRun();
+
+        // then
+        verify(checkpointRepository, timeout(1000)).release(eq(checkpointId), anyString());
+        verify(checkpointRepository).save(checkpoint);
+        assertThat(checkpoint.isCompleted()).isTrue();
+    }
+
+    private void givenAcquired(RecommendationJobCheckpoint checkpoint) {
+        given(checkpointRepository.acquire(eq(CHECKPOINT_ID), eq(JOB_DATE), anyString(), any(Duration.class)))
+                .willReturn(checkpoint);
+    }
+}
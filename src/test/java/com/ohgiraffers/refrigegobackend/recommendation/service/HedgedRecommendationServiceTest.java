@@ -0,0 +1,172 @@
+package com.ohgiraffers.refrigegobackend.recommendation.service;
+
+import com.ohgiraffers.refrigegobackend.ai.service.AiRecommendationService;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.RecipeRecommendationRequestDto;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.RecipeRecommendationResponseDto;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.RecommendedRecipeDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HedgedRecommendationServiceTest {
+
+    private static final long AI_BUDGET_MS = 200;
+    private static final long LOCAL_TIMEOUT_MS = 2000;
+
+    @Mock
+    private RecipeRecommendationService recipeRecommendationService;
+
+    @Mock
+    private AiRecommendationService aiRecommendationService;
+
+    private ExecutorService localExecutor;
+    private ExecutorService aiExecutor;
+    private HedgedRecommendationService hedgedRecommendationService;
+
+    private RecipeRecommendationRequestDto requestDto;
+    private RecipeRecommendationResponseDto localResponse;
+    private RecipeRecommendationResponseDto aiResponse;
+
+    @BeforeEach
+    void setUp() {
+        localExecutor = Executors.newFixedThreadPool(2);
+        aiExecutor = Executors.newFixedThreadPool(2);
+        hedgedRecommendationService = new HedgedRecommendationService(recipeRecommendationService,
+                aiRecommendationService, true, AI_BUDGET_MS, LOCAL_TIMEOUT_MS, localExecutor, aiExecutor);
+
+        requestDto = new RecipeRecommendationRequestDto(List.of("김치", "돼지고기"), 10);
+        requestDto.setUserId("7");
+        localResponse = new RecipeRecommendationResponseDto(
+                List.of(recipe("L1", false)), 1, requestDto.getSelectedIngredients());
+        aiResponse = new RecipeRecommendationResponseDto(
+                List.of(recipe("A1", false), recipe("A2", false)), 2, requestDto.getSelectedIngredients());
+    }
+
+    @AfterEach
+    void tearDown() {
+        localExecutor.shutdownNow();
+        aiExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("AI 결과가 예산 안에 오면 AI 결과에 찜 여부를 표시해 반환하고 진행 중인 로컬 추천은 취소")
+    void aiWins() throws Exception {
+        // given
+        CountDownLatch localStarted = new CountDownLatch(1);
+        CountDownLatch localInterrupted = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            localStarted.countDown();
+            try {
+                Thread.sleep(LOCAL_TIMEOUT_MS * 5);
+            } catch (InterruptedException e) {
+                localInterrupted.countDown();
+            }
+            return localResponse;
+        }).given(recipeRecommendationService).recommendRecipes(requestDto);
+        willAnswer(invocation -> {
+            localStarted.await(1, TimeUnit.SECONDS);
+            return aiResponse;
+        }).given(aiRecommendationService).requestAiRecommendations(requestDto);
+
+        List<RecommendedRecipeDto> marked = List.of(recipe("A1", true), aiResponse.getRecommendedRecipes().get(1));
+        given(recipeRecommendationService.markFavorites(aiResponse.getRecommendedRecipes(), "7")).willReturn(marked);
+
+        // when
+        RecipeRecommendationResponseDto response = hedgedRecommendationService.recommend(requestDto);
+
+        // then
+        assertThat(response.getRecommendedRecipes()).isSameAs(marked);
+        assertThat(response.getTotalCount()).isEqualTo(2);
+        assertThat(response.getRecommendedRecipes().get(0).isFavorite()).isTrue();
+        // AI 캐시가 공유하는 원래 DTO는 그대로
+        assertThat(aiResponse.getRecommendedRecipes().get(0).isFavorite()).isFalse();
+        assertThat(localInterrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(hedgedRecommendationService.getStats().getWins())
+                .containsEntry(HedgedRecommendationService.Winner.AI, 1L);
+    }
+
+    @Test
+    @DisplayName("AI 결과가 예산 안에 오지 않으면 로컬 결과 사용")
+    void aiTimeout() throws Exception {
+        // given
+        CountDownLatch aiStarted = new CountDownLatch(1);
+        CountDownLatch releaseAi = new CountDownLatch(1);
+        given(recipeRecommendationService.recommendRecipes(requestDto)).willReturn(localResponse);
+        willAnswer(invocation -> {
+            aiStarted.countDown();
+            releaseAi.await(LOCAL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return aiResponse;
+        }).given(aiRecommendationService).requestAiRecommendations(requestDto);
+
+        // when
+        RecipeRecommendationResponseDto response = hedgedRecommendationService.recommend(requestDto);
+
+        // then
+        assertThat(response).isSameAs(localResponse);
+        assertThat(aiStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        releaseAi.countDown();
+        assertThat(hedgedRecommendationService.getStats().getWins())
+                .containsEntry(HedgedRecommendationService.Winner.LOCAL_AI_TIMEOUT, 1L);
+        verify(recipeRecommendationService, never()).markFavorites(any(), any());
+    }
+
+    @Test
+    @DisplayName("AI 호출이 실패하면 예산을 기다리지 않고 로컬 결과 사용")
+    void aiError() {
+        // given
+        given(recipeRecommendationService.recommendRecipes(requestDto)).willReturn(localResponse);
+        given(aiRecommendationService.requestAiRecommendations(requestDto))
+                .willThrow(new IllegalStateException("AI 서버 회로 차단 중"));
+
+        // when
+        RecipeRecommendationResponseDto response = hedgedRecommendationService.recommend(requestDto);
+
+        // then
+        assertThat(response).isSameAs(localResponse);
+        assertThat(hedgedRecommendationService.getStats().getWins())
+                .containsEntry(HedgedRecommendationService.Winner.LOCAL_AI_ERROR, 1L);
+    }
+
+    @Test
+    @DisplayName("AI 작업 스레드가 부족해 AI 호출을 시작하지 못해도 로컬 추천은 별도 스레드 풀에서 실행")
+    void aiRejected() {
+        // given - 종료된 풀은 모든 작업을 거절
+        aiExecutor.shutdownNow();
+        given(recipeRecommendationService.recommendRecipes(requestDto)).willReturn(localResponse);
+
+        // when
+        RecipeRecommendationResponseDto response = hedgedRecommendationService.recommend(requestDto);
+
+        // then
+        assertThat(response).isSameAs(localResponse);
+        assertThat(hedgedRecommendationService.getStats().getWins())
+                .containsEntry(HedgedRecommendationService.Winner.LOCAL_AI_REJECTED, 1L);
+        verify(aiRecommendationService, never()).requestAiRecommendations(any());
+    }
+
+    private RecommendedRecipeDto recipe(String recipeId, boolean favorite) {
+        return RecommendedRecipeDto.builder()
+                .recipeId(recipeId)
+                .recipeName("레시피 " + recipeId)
+                .isFavorite(favorite)
+                .build();
+    }
+}
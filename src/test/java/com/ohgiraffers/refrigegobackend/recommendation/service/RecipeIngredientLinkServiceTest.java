@@ -0,0 +1,146 @@
+package com.ohgiraffers.refrigegobackend.recommendation.service;
+
+import com.ohgiraffers.refrigegobackend.ingredient.domain.Ingredient;
+import com.ohgiraffers.refrigegobackend.ingredient.domain.IngredientCategory;
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.IngredientRepository;
+import com.ohgiraffers.refrigegobackend.recipe.infrastructure.repository.RecipeIngredientTokenRepository;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository.RecipeIngredientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeIngredientLinkServiceTest {
+
+    private static final List<String> RECIPE_IDS = List.of("R1");
+
+    @Mock
+    private RecipeIngredientRepository recipeIngredientRepository;
+
+    @Mock
+    private RecipeIngredientTokenRepository recipeIngredientTokenRepository;
+
+    @Mock
+    private IngredientRepository ingredientRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private RecipeIngredientLinkService recipeIngredientLinkService;
+
+    @BeforeEach
+    void setUp() {
+        given(ingredientRepository.findAllById(any())).willReturn(List.of(
+                ingredient(1L, "돼지고기", IngredientCategory.MEAT),
+                ingredient(2L, "양파", IngredientCategory.VEGETABLE),
+                ingredient(3L, "감자", IngredientCategory.VEGETABLE),
+                ingredient(4L, "당근", IngredientCategory.VEGETABLE),
+                ingredient(11L, "간장", IngredientCategory.SEASONING),
+                ingredient(12L, "식용유", IngredientCategory.OIL)));
+    }
+
+    @Test
+    @DisplayName("새 레시피는 모든 연결을 추가하고, 앞쪽부터 양념/기름류를 제외한 3개만 주재료로 표시")
+    void insertsLinksWithMainIngredientHeuristic() {
+        // given - 토큰 순서: 간장, 돼지고기, 양파, 식용유, 감자, 당근 (+ 기준 재료 없는 토큰)
+        given(recipeIngredientTokenRepository.findTokensByRecipeIds(RECIPE_IDS)).willReturn(List.of(
+                token(11L, "간장"), token(1L, "돼지고기"), token(2L, "양파"),
+                token(12L, "식용유"), token(3L, "감자"), token(4L, "당근"), token(null, "수제소스")));
+        given(recipeIngredientRepository.findLinksByRecipeIds(RECIPE_IDS)).willReturn(List.of());
+
+        // when
+        int writes = recipeIngredientLinkService.syncLinks(RECIPE_IDS);
+
+        // then
+        assertThat(writes).isEqualTo(6);
+        List<Object[]> inserts = capturedBatch("INSERT");
+        assertThat(inserts.stream()
+                .map(row -> row[1] + ":" + row[2])
+                .collect(Collectors.toList()))
+                .containsExactly("11:false", "1:true", "2:true", "12:false", "3:true", "4:false");
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE"), anyList());
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("DELETE"), anyList());
+    }
+
+    @Test
+    @DisplayName("기존 연결과 비교해서 바뀐 행만 추가/수정/삭제")
+    void writesOnlyDiff() {
+        // given - 기대 연결: 돼지고기(주), 양파(주), 감자(주)
+        given(recipeIngredientTokenRepository.findTokensByRecipeIds(RECIPE_IDS)).willReturn(List.of(
+                token(1L, "돼지고기"), token(2L, "양파"), token(3L, "감자")));
+        // 기존 연결: 돼지고기(주, 그대로), 양파(주재료 아님 → 수정), 99번(토큰에 없음 → 삭제), 감자 없음(→ 추가)
+        given(recipeIngredientRepository.findLinksByRecipeIds(RECIPE_IDS)).willReturn(List.of(
+                new Object[]{"R1", 1L, true},
+                new Object[]{"R1", 2L, false},
+                new Object[]{"R1", 99L, true}));
+
+        // when
+        int writes = recipeIngredientLinkService.syncLinks(RECIPE_IDS);
+
+        // then
+        assertThat(writes).isEqualTo(3);
+        assertThat(capturedBatch("INSERT")).singleElement()
+                .satisfies(row -> assertThat(List.of(row[0], row[1], row[2])).containsExactly("R1", 3L, true));
+        assertThat(capturedBatch("UPDATE")).singleElement()
+                .satisfies(row -> assertThat(row).containsExactly(true, "R1", 2L));
+        assertThat(capturedBatch("DELETE")).singleElement()
+                .satisfies(row -> assertThat(row).containsExactly("R1", 99L));
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 다시 동기화하면 쓰기 없음")
+    void resyncWithoutChangesWritesNothing() {
+        // given
+        given(recipeIngredientTokenRepository.findTokensByRecipeIds(RECIPE_IDS)).willReturn(List.of(
+                token(11L, "간장"), token(1L, "돼지고기"), token(2L, "양파")));
+        given(recipeIngredientRepository.findLinksByRecipeIds(RECIPE_IDS)).willReturn(List.of(
+                new Object[]{"R1", 11L, false},
+                new Object[]{"R1", 1L, true},
+                new Object[]{"R1", 2L, true}));
+
+        // when
+        int writes = recipeIngredientLinkService.syncLinks(RECIPE_IDS);
+
+        // then
+        assertThat(writes).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> capturedBatch(String sqlPrefix) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith(sqlPrefix), captor.capture());
+        return captor.getValue();
+    }
+
+    private Object[] token(Long ingredientId, String name) {
+        return new Object[]{"R1", name + " 1개", name, ingredientId};
+    }
+
+    private Ingredient ingredient(Long id, String name, IngredientCategory category) {
+        return Ingredient.builder()
+                .id(id)
+                .name(name)
+                .category(category)
+                .build();
+    }
+}
@@ -1,15 +1,30 @@
 package com.ohgiraffers.refrigegobackend.recommendation.service;
 
+import com.ohgiraffers.refrigegobackend.bookmark.infrastructure.repository.BookmarkRepository;
+import com.ohgiraffers.refrigegobackend.common.util.Deadline;
 import com.ohgiraffers.refrigegobackend.ingredient.domain.Ingredient;
 import com.ohgiraffers.refrigegobackend.ingredient.domain.IngredientCategory;
+import com.ohgiraffers.refrigegobackend.ingredient.domain.UserIngredient;
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.dictionary.SynonymDictionary;
 import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.IngredientRepository;
+import com.ohgiraffers.refrigegobackend.ingredient.infrastructure.repository.UserIngredientRepository;
 import com.ohgiraffers.refrigegobackend.recipe.domain.Recipe;
+import com.ohgiraffers.refrigegobackend.recipe.dto.response.RecipeSummaryDTO;
 import com.ohgiraffers.refrigegobackend.recipe.infrastructure.repository.RecipeRepository;
+import com.ohgiraffers.refrigegobackend.recipe.service.RecipeSummaryService;
 import com.ohgiraffers.refrigegobackend.recommendation.domain.RecipeIngredient;
 import com.ohgiraffers.refrigegobackend.recommendation.dto.RecipeRecommendationRequestDto;
 import com.ohgiraffers.refrigegobackend.recommendation.dto.RecipeRecommendationResponseDto;
 import com.ohgiraffers.refrigegobackend.recommendation.dto.RecommendedRecipeDto;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.SmartRecommendationRequestDto;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.SmartRecommendationResponseDto;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.SmartRecommendedRecipeDto;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.cache.RecommendationCacheKey;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.cache.RecommendationResponseCache;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.RecipeIndexSnapshotStore;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.RecipeIngredientIndex;
 import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository.RecipeIngredientRepository;
+import com.ohgiraffers.refrigegobackend.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,18 +32,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +65,29 @@ class RecipeRecommendationServiceTest {
     @Mock
     private RecipeRepository recipeRepository;
 
+    @Mock
+    private RecipeSummaryService recipeSummaryService;
+
+    // 인덱스 미준비 상태(isReady = false)로 DB 쿼리 경로를 검증
+    @Mock
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    // 기본적으로 캐시 미스(null)로 동작
+    @Mock
+    private RecommendationResponseCache recommendationResponseCache;
+
+    @Mock
+    private BookmarkRepository bookmarkRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserIngredientRepository userIngredientRepository;
+
+    @Mock
+    private SynonymDictionary synonymDictionary;
+
     @InjectMocks
     private RecipeRecommendationService recipeRecommendationService;
 
@@ -106,9 +151,9 @@ class RecipeRecommendationServiceTest {
         when(recipeIngredientRepository.findRecipesByIngredientsWithMatchRatio(List.of(1L, 2L), 30.0))
                 .thenReturn(mockResults);
 
-        // 레시피 상세 정보 조회 Mock
-        given(recipeRepository.findById("TEST001"))
-                .willReturn(Optional.of(recipe1));
+        // 레시피 요약 정보 일괄 조회 Mock
+        given(recipeSummaryService.getSummaries(List.of("TEST001")))
+                .willReturn(Map.of("TEST001", toSummary(recipe1)));
 
         // when
         RecipeRecommendationResponseDto response = recipeRecommendationService.recommendRecipes(request);
@@ -121,11 +166,69 @@ class RecipeRecommendationServiceTest {
         assertThat(recommendedRecipe.getRecipeName()).isEqualTo("야채볶음");
         assertThat(recommendedRecipe.getMatchedIngredientCount()).isEqualTo(2);
         assertThat(recommendedRecipe.getMatchScore()).isCloseTo(0.6667, within(0.01));
+        assertThat(recommendedRecipe.getCookingMethod1()).isEqualTo("재료를 준비합니다");
+        assertThat(recommendedRecipe.getImageUrl()).isEqualTo("test-image-url");
 
         // Mock 메서드 호출 검증
         verify(ingredientRepository).findByNameIn(selectedIngredients);
         verify(recipeIngredientRepository).findRecipesByIngredientsWithMatchRatio(List.of(1L, 2L), 30.0);
-        verify(recipeRepository).findById("TEST001");
+        verify(recipeSummaryService).getSummaries(List.of("TEST001"));
+    }
+
+    @Test
+    @DisplayName("같은 재료 조합이 캐시에 있으면 매칭 계산 없이 캐시 결과를 반환한다")
+    void recommendRecipes_CacheHit() {
+        // given
+        List<String> selectedIngredients = List.of("당근", "양파", "양파");
+        RecipeRecommendationRequestDto request = new RecipeRecommendationRequestDto(selectedIngredients, 10);
+
+        given(ingredientRepository.findByNameIn(selectedIngredients))
+                .willReturn(List.of(ingredient2, ingredient1));
+
+        RecommendedRecipeDto cachedRecipe = RecommendedRecipeDto.builder()
+                .recipeId("TEST001")
+                .recipeName("야채볶음")
+                .build();
+        // 선택 순서/중복과 무관하게 정렬된 ID 집합 키로 조회
+        given(recommendationResponseCache.getLocal(RecommendationCacheKey.of(List.of(1L, 2L), 10)))
+                .willReturn(List.of(cachedRecipe));
+
+        // when
+        RecipeRecommendationResponseDto response = recipeRecommendationService.recommendRecipes(request);
+
+        // then
+        assertThat(response.getRecommendedRecipes()).containsExactly(cachedRecipe);
+        assertThat(response.getSelectedIngredients()).isEqualTo(selectedIngredients);
+        verify(recipeIngredientRepository, never()).findRecipesByIngredientsWithMatchRatio(anyList(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("찜 목록을 한 번만 조회해서 찜한 레시피에 찜 여부를 표시하고, 캐시된 결과는 바꾸지 않는다")
+    void recommendRecipes_MarksFavorites() {
+        // given
+        List<String> selectedIngredients = List.of("양파");
+        RecipeRecommendationRequestDto request = new RecipeRecommendationRequestDto(selectedIngredients, 10);
+        request.setUserId("7");
+
+        given(ingredientRepository.findByNameIn(selectedIngredients))
+                .willReturn(List.of(ingredient1));
+
+        RecommendedRecipeDto bookmarked = RecommendedRecipeDto.builder().recipeId("TEST001").build();
+        RecommendedRecipeDto other = RecommendedRecipeDto.builder().recipeId("TEST002").build();
+        given(recommendationResponseCache.getLocal(RecommendationCacheKey.of(List.of(1L), 10)))
+                .willReturn(List.of(bookmarked, other));
+        given(bookmarkRepository.findRecipeIdsByUserId(7L))
+                .willReturn(List.of("TEST001", "TEST999"));
+
+        // when
+        RecipeRecommendationResponseDto response = recipeRecommendationService.recommendRecipes(request);
+
+        // then
+        assertThat(response.getRecommendedRecipes())
+                .extracting(RecommendedRecipeDto::isFavorite)
+                .containsExactly(true, false);
+        assertThat(bookmarked.isFavorite()).isFalse();
+        verify(bookmarkRepository, never()).existsByUserIdAndRecipeRcpSeq(anyLong(), anyString());
     }
 
     @Test
@@ -167,7 +270,7 @@ class RecipeRecommendationServiceTest {
 
         // when
         RecipeRecommendationResponseDto response = recipeRecommendationService
-                .recommendByMainIngredients(ingredientNames);
+                .recommendByMainIngredients(ingredientNames, null);
 
         // then
         assertThat(response.getRecommendedRecipes()).hasSize(1);
@@ -187,7 +290,7 @@ class RecipeRecommendationServiceTest {
                 .willReturn(Optional.of(recipe1));
 
         // when
-        RecommendedRecipeDto result = recipeRecommendationService.getRecipeDetail(recipeId);
+        RecommendedRecipeDto result = recipeRecommendationService.getRecipeDetail(recipeId, null);
 
         // then
         assertThat(result.getRecipeId()).isEqualTo("TEST001");
@@ -207,7 +310,7 @@ class RecipeRecommendationServiceTest {
                 .willReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> recipeRecommendationService.getRecipeDetail(nonExistentRecipeId))
+        assertThatThrownBy(() -> recipeRecommendationService.getRecipeDetail(nonExistentRecipeId, null))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("레시피를 찾을 수 없습니다");
     }
@@ -228,8 +331,9 @@ class RecipeRecommendationServiceTest {
         when(recipeIngredientRepository.findRecipesByIngredientsWithMatchRatio(List.of(1L), 30.0))
                 .thenReturn(mockResults);
 
-        given(recipeRepository.findById("TEST001"))
-                .willReturn(Optional.of(recipe1));
+        // 제한 개수만큼만 상세 정보 조회
+        given(recipeSummaryService.getSummaries(List.of("TEST001")))
+                .willReturn(Map.of("TEST001", toSummary(recipe1)));
 
         // when
         RecipeRecommendationResponseDto response = recipeRecommendationService.recommendRecipes(request);
@@ -237,4 +341,129 @@ class RecipeRecommendationServiceTest {
         // then
         assertThat(response.getRecommendedRecipes()).hasSize(1); // 제한된 개수만 반환
     }
+
+    @Test
+    @DisplayName("임박 재료 소진 추천은 로그인 사용자 ID로 냉장고를 읽어 곧 만료되는 재료를 쓰는 레시피만 추천한다")
+    void recommendUseItUp_UsesExpiringFridgeIngredients() {
+        // given
+        givenMatrixIndex();
+
+        // 양파는 내일 만료, 당근/감자는 여유, 두부는 선택하지 않은 재료
+        given(userIngredientRepository.findByUserId(7L)).willReturn(List.of(
+                fridgeItem(ingredient1, 1),
+                fridgeItem(ingredient2, 10),
+                fridgeItem(ingredient3, 14),
+                fridgeItem(Ingredient.builder().id(5L).name("두부").build(), 0)));
+        given(recipeSummaryService.getSummaries(List.of("TEST001", "TEST002")))
+                .willReturn(Map.of("TEST001", toSummary(recipe1)));
+
+        SmartRecommendationRequestDto request = SmartRecommendationRequestDto.builder()
+                .userId("7")
+                .selectedIngredients(List.of("양파", "당근", "감자"))
+                .build();
+
+        // when
+        SmartRecommendationResponseDto response = recipeRecommendationService.recommendUseItUp(request, Deadline.none());
+
+        // then - 양파를 쓰는 레시피만, 부족 재료가 적은 순
+        assertThat(response.getRecommendedRecipes())
+                .extracting(SmartRecommendedRecipeDto::getRecipeId)
+                .containsExactly("TEST001", "TEST002");
+        SmartRecommendedRecipeDto first = response.getRecommendedRecipes().get(0);
+        assertThat(first.getUrgentIngredients()).containsExactly("양파");
+        assertThat(first.getUrgencyScore()).isEqualTo(1);
+        assertThat(first.getMatchStatus()).isEqualTo("PERFECT");
+        assertThat(first.getImageUrl()).isEqualTo("test-image-url");
+        assertThat(response.getRecommendedRecipes().get(1).getMissingIngredients()).containsExactly("소고기");
+        assertThat(response.getUrgentIngredients()).containsExactly("양파");
+        assertThat(response.isPartial()).isFalse();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("스마트 추천(비트셋 행렬)은 표준 재료명과 다른 선택 재료를 동의어 사전의 대표 재료명으로 맞춰 매칭한다")
+    void recommendRecipesSmart_CanonicalizesSynonymsWithMatrix() {
+        // given
+        givenMatrixIndex();
+        given(synonymDictionary.canonicalOf("알감자")).willReturn("감자");
+        given(recipeSummaryService.getSummaries(anyList()))
+                .willReturn(Map.of("TEST001", toSummary(recipe1)));
+
+        SmartRecommendationRequestDto request = SmartRecommendationRequestDto.builder()
+                .selectedIngredients(List.of("양파", "당근", "알감자"))
+                .build();
+
+        // when
+        SmartRecommendationResponseDto response = recipeRecommendationService.recommendRecipesSmart(request, Deadline.none());
+
+        // then - 알감자를 감자로 보고 야채볶음을 바로 만들 수 있음
+        SmartRecommendedRecipeDto vegetableStirFry = response.getRecommendedRecipes().stream()
+                .filter(recipe -> recipe.getRecipeId().equals("TEST001"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(vegetableStirFry.getMatchStatus()).isEqualTo("PERFECT");
+        assertThat(vegetableStirFry.getMatchedIngredients()).containsExactlyInAnyOrder("양파", "당근", "감자");
+        assertThat(response.getRecommendedRecipes())
+                .extracting(SmartRecommendedRecipeDto::getRecipeId)
+                .contains("TEST003");
+        assertThat(response.getSelectedIngredients()).containsExactly("양파", "당근", "알감자");
+    }
+
+    @Test
+    @DisplayName("주재료 추천(비트셋 행렬)도 찜 목록을 한 번만 조회해서 찜한 레시피에 찜 여부를 표시한다")
+    void recommendByMainIngredients_MarksFavoritesWithMatrix() {
+        // given
+        givenMatrixIndex();
+        List<String> ingredientNames = List.of("양파", "감자");
+        given(ingredientRepository.findByNameIn(ingredientNames))
+                .willReturn(List.of(ingredient1, ingredient3));
+        given(recipeSummaryService.getSummaries(List.of("TEST003", "TEST001"))).willReturn(Map.of(
+                "TEST003", new RecipeSummaryDTO("TEST003", "감자튀김", "감자", "", "", ""),
+                "TEST001", toSummary(recipe1)));
+        given(bookmarkRepository.findRecipeIdsByUserId(7L))
+                .willReturn(List.of("TEST003"));
+
+        // when
+        RecipeRecommendationResponseDto response = recipeRecommendationService
+                .recommendByMainIngredients(ingredientNames, "7");
+
+        // then
+        assertThat(response.getRecommendedRecipes())
+                .extracting(RecommendedRecipeDto::getRecipeId, RecommendedRecipeDto::isFavorite)
+                .containsExactly(tuple("TEST003", true), tuple("TEST001", false));
+        verify(bookmarkRepository, never()).existsByUserIdAndRecipeRcpSeq(anyLong(), anyString());
+    }
+
+    /**
+     * 비트셋 행렬을 쓰는 인덱스 준비 상태
+     * 야채볶음: 양파(1, 주), 당근(2), 감자(3) / 소고기볶음: 소고기(4, 주), 양파(1) / 감자튀김: 감자(3, 주)
+     */
+    private void givenMatrixIndex() {
+        given(recipeIngredientRepository.findAllRecipeIngredientLinks()).willReturn(Arrays.<Object[]>asList(
+                new Object[]{"TEST001", "야채볶음", 1L, "양파", true},
+                new Object[]{"TEST001", "야채볶음", 2L, "당근", false},
+                new Object[]{"TEST001", "야채볶음", 3L, "감자", false},
+                new Object[]{"TEST002", "소고기볶음", 4L, "소고기", true},
+                new Object[]{"TEST002", "소고기볶음", 1L, "양파", false},
+                new Object[]{"TEST003", "감자튀김", 3L, "감자", true}));
+        RecipeIngredientIndex builtIndex = new RecipeIngredientIndex(recipeIngredientRepository,
+                mock(RecipeIndexSnapshotStore.class), mock(ApplicationEventPublisher.class));
+        builtIndex.rebuild();
+        given(recipeIngredientIndex.isReady()).willReturn(true);
+        given(recipeIngredientIndex.getMatrix()).willReturn(builtIndex.getMatrix());
+    }
+
+    private RecipeSummaryDTO toSummary(Recipe recipe) {
+        return new RecipeSummaryDTO(recipe.getRcpSeq(), recipe.getRcpNm(), recipe.getRcpPartsDtls(),
+                recipe.getManual01(), recipe.getManual02(), recipe.getImage());
+    }
+
+    private UserIngredient fridgeItem(Ingredient ingredient, int daysLeft) {
+        return UserIngredient.builder()
+                .userId(7L)
+                .ingredient(ingredient)
+                .purchaseDate(LocalDate.now().minusDays(3))
+                .expiryDate(LocalDate.now().plusDays(daysLeft))
+                .build();
+    }
 }
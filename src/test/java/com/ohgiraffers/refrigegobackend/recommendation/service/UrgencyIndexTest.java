@@ -0,0 +1,34 @@
+package com.ohgiraffers.refrigegobackend.recommendation.service;
+
+import com.ohgiraffers.refrigegobackend.recommendation.dto.SmartRecommendationRequestDto.UserIngredientInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UrgencyIndexTest {
+
+    private final UrgencyIndex urgency = UrgencyIndex.of(List.of(
+            new UserIngredientInfo("우유", 2, false, "DAIRY", null),
+            new UserIngredientInfo("우유", 5, false, "DAIRY", null),
+            new UserIngredientInfo("두부", 0, false, "ETC", null),
+            new UserIngredientInfo("소고기", 1, true, "MEAT", null),
+            new UserIngredientInfo("양파", null, false, "VEGETABLE", null)));
+
+    @Test
+    @DisplayName("긴급 재료는 냉동 재료를 제외하고 가장 급한 재료부터 정렬된다")
+    void urgentNamesOrderedByDaysLeft() {
+        assertThat(urgency.getUrgentNames()).containsExactly("두부", "우유");
+        assertThat(urgency.isUrgent("소고기")).isFalse();
+    }
+
+    @Test
+    @DisplayName("긴급도 점수는 재료별 최소 남은 일수 중 최솟값이며 정보가 없으면 기본값")
+    void scoreOf() {
+        assertThat(urgency.scoreOf(List.of("우유", "소고기"))).isEqualTo(1);
+        assertThat(urgency.scoreOf(List.of("양파", "없는재료"))).isEqualTo(UrgencyIndex.NO_EXPIRY);
+        assertThat(urgency.urgentAmong(List.of("양파", "우유", "두부", "우유"))).containsExactly("우유", "두부");
+    }
+}
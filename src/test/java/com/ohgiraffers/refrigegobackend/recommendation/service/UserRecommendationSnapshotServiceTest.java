@@ -0,0 +1,175 @@
+package com.ohgiraffers.refrigegobackend.recommendation.service;
+
+import com.ohgiraffers.refrigegobackend.bookmark.infrastructure.repository.BookmarkRepository;
+import com.ohgiraffers.refrigegobackend.ingredient.event.UserFridgeChangedEvent;
+import com.ohgiraffers.refrigegobackend.recipe.dto.response.RecipeSummaryDTO;
+import com.ohgiraffers.refrigegobackend.recipe.service.RecipeSummaryService;
+import com.ohgiraffers.refrigegobackend.recommendation.domain.UserRecommendationSnapshot;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.RecipeRecommendationResponseDto;
+import com.ohgiraffers.refrigegobackend.recommendation.dto.RecommendedRecipeDto;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.FridgeMatch;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.RecipeIngredientIndex;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.RecipeIngredientMatrix;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.UserCandidateStore;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.index.UserCandidates;
+import com.ohgiraffers.refrigegobackend.recommendation.infrastructure.repository.UserRecommendationSnapshotRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class UserRecommendationSnapshotServiceTest {
+
+    private static final Long USER_ID = 7L;
+    private static final long[] FRIDGE = {0b11L};
+
+    @Mock
+    private UserRecommendationSnapshotRepository snapshotRepository;
+
+    @Mock
+    private UserCandidateStore userCandidateStore;
+
+    @Mock
+    private RecipeIngredientIndex recipeIngredientIndex;
+
+    @Mock
+    private RecipeSummaryService recipeSummaryService;
+
+    @Mock
+    private BookmarkRepository bookmarkRepository;
+
+    @Mock
+    private UserCandidates userCandidates;
+
+    @Mock
+    private RecipeIngredientMatrix matrix;
+
+    @InjectMocks
+    private UserRecommendationSnapshotService userRecommendationSnapshotService;
+
+    @Test
+    @DisplayName("유효한 스냅샷은 다시 계산하지 않고 limit 만큼 잘라 그대로 응답")
+    void freshSnapshotServedAsIs() {
+        // given
+        UserRecommendationSnapshot stored = UserRecommendationSnapshot.of(USER_ID, List.of("김치", "두부"),
+                List.of(recipe("R1"), recipe("R2"), recipe("R3")), UserRecommendationSnapshotService.SOURCE_EVENT);
+        given(snapshotRepository.findById(USER_ID)).willReturn(Optional.of(stored));
+
+        // when
+        RecipeRecommendationResponseDto response = userRecommendationSnapshotService.getAutoRecommendations(USER_ID, 2);
+
+        // then
+        assertThat(response.getRecommendedRecipes()).extracting(RecommendedRecipeDto::getRecipeId)
+                .containsExactly("R1", "R2");
+        assertThat(response.getTotalCount()).isEqualTo(2);
+        assertThat(response.getSelectedIngredients()).containsExactly("김치", "두부");
+        verify(snapshotRepository, never()).save(any());
+        verifyNoInteractions(userCandidateStore, recipeSummaryService, bookmarkRepository);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 사용자 후보 점수로 다시 계산해 요약/찜 여부까지 담아 저장")
+    void missingSnapshotRecomputedAndSaved() {
+        // given
+        FridgeMatch kimchiStew = new FridgeMatch(0, "R1", "김치찌개", 3, 2, 1);
+        FridgeMatch tofu = new FridgeMatch(1, "R2", "두부조림", 2, 1, 1);
+        given(snapshotRepository.findById(USER_ID)).willReturn(Optional.empty());
+        given(recipeIngredientIndex.isReady()).willReturn(true);
+        given(userCandidateStore.getCandidates(USER_ID)).willReturn(userCandidates);
+        given(userCandidates.getMatrix()).willReturn(matrix);
+        given(userCandidates.getFridge()).willReturn(FRIDGE);
+        given(userCandidates.getRanking()).willReturn(List.of(kimchiStew, tofu));
+        given(matrix.matchedIngredientNames(kimchiStew, FRIDGE)).willReturn(List.of("김치", "돼지고기"));
+        given(matrix.missingIngredientNames(kimchiStew, FRIDGE)).willReturn(List.of("두부"));
+        given(matrix.matchedIngredientNames(tofu, FRIDGE)).willReturn(List.of("간장"));
+        given(matrix.missingIngredientNames(tofu, FRIDGE)).willReturn(List.of("두부"));
+        given(matrix.ingredientNamesOf(FRIDGE)).willReturn(List.of("김치", "돼지고기", "간장"));
+        // R2는 요약 캐시에 없는 경우
+        given(recipeSummaryService.getSummaries(List.of("R1", "R2"))).willReturn(Map.of(
+                "R1", new RecipeSummaryDTO("R1", "김치찌개", "김치, 돼지고기, 두부", "1. 볶는다", "2. 끓인다", "r1.jpg")));
+        given(bookmarkRepository.findRecipeIdsByUserId(USER_ID)).willReturn(List.of("R2"));
+
+        // when
+        RecipeRecommendationResponseDto response = userRecommendationSnapshotService.getAutoRecommendations(USER_ID, 10);
+
+        // then
+        ArgumentCaptor<UserRecommendationSnapshot> saved = ArgumentCaptor.forClass(UserRecommendationSnapshot.class);
+        verify(snapshotRepository).save(saved.capture());
+        UserRecommendationSnapshot snapshot = saved.getValue();
+        assertThat(snapshot.getUserId()).isEqualTo(USER_ID);
+        assertThat(snapshot.getSource()).isEqualTo(UserRecommendationSnapshotService.SOURCE_ON_DEMAND);
+        assertThat(snapshot.getFridgeNames()).containsExactly("김치", "돼지고기", "간장");
+        assertThat(snapshot.isStale(Duration.ofMinutes(1))).isFalse();
+
+        RecommendedRecipeDto first = snapshot.getRecipes().get(0);
+        assertThat(first.getRecipeId()).isEqualTo("R1");
+        assertThat(first.getIngredients()).isEqualTo("김치, 돼지고기, 두부");
+        assertThat(first.getImageUrl()).isEqualTo("r1.jpg");
+        assertThat(first.getMatchedIngredients()).containsExactly("김치", "돼지고기");
+        assertThat(first.getMissingIngredients()).containsExactly("두부");
+        assertThat(first.isFavorite()).isFalse();
+
+        RecommendedRecipeDto second = snapshot.getRecipes().get(1);
+        assertThat(second.getRecipeId()).isEqualTo("R2");
+        assertThat(second.getIngredients()).isEmpty();
+        assertThat(second.isFavorite()).isTrue();
+
+        assertThat(response.getRecommendedRecipes()).isEqualTo(snapshot.getRecipes());
+        assertThat(response.getSelectedIngredients()).isEqualTo(snapshot.getFridgeNames());
+    }
+
+    @Test
+    @DisplayName("추천 인덱스 준비 전에는 다시 계산하지 않고, 스냅샷이 없으면 빈 결과")
+    void indexNotReadyServesEmptyWithoutSaving() {
+        // given
+        given(snapshotRepository.findById(USER_ID)).willReturn(Optional.empty());
+        given(recipeIngredientIndex.isReady()).willReturn(false);
+
+        // when
+        RecipeRecommendationResponseDto response = userRecommendationSnapshotService.getAutoRecommendations(USER_ID, 10);
+
+        // then
+        assertThat(response.getRecommendedRecipes()).isEmpty();
+        assertThat(response.getTotalCount()).isZero();
+        verify(snapshotRepository, never()).save(any());
+        verifyNoInteractions(userCandidateStore);
+    }
+
+    @Test
+    @DisplayName("냉장고 변경 이벤트로 스냅샷을 갱신하다 실패해도 예외를 전파하지 않음")
+    void fridgeChangeRefreshFailureIsSwallowed() {
+        // given
+        given(recipeIngredientIndex.isReady()).willReturn(true);
+        given(userCandidateStore.getCandidates(USER_ID)).willThrow(new IllegalStateException("인덱스 재구성 중"));
+
+        // when
+        userRecommendationSnapshotService.onUserFridgeChanged(
+                new UserFridgeChangedEvent(USER_ID, List.of("김치"), List.of()));
+
+        // then
+        verify(snapshotRepository, never()).save(any());
+    }
+
+    private RecommendedRecipeDto recipe(String recipeId) {
+        return RecommendedRecipeDto.builder()
+                .recipeId(recipeId)
+                .recipeName("레시피 " + recipeId)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.ohgiraffers.refrigegobackend.search.dto.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SemanticSearchResponseDTOTest {
+
+    // 애플리케이션 ObjectMapper와 같은 기본 설정 (알 수 없는 필드 무시)
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    @DisplayName("AI 서버 응답(snake_case) 스트림을 @JsonAlias 필드로 바로 역직렬화")
+    void bindsSnakeCaseAliases() throws IOException {
+        // when
+        SemanticSearchResponseDTO response = readFixture();
+
+        // then
+        assertThat(response.getTotalMatches()).isEqualTo(2);
+        assertThat(response.getProcessingTime()).isEqualTo(0.153);
+
+        RecipeSearchResultDTO recipe = response.getRecipes().get(0);
+        assertThat(recipe.getRcpSeq()).isEqualTo("28");
+        assertThat(recipe.getRcpNm()).isEqualTo("김치찌개");
+        assertThat(recipe.getRcpCategory()).isEqualTo("국&찌개");
+        assertThat(recipe.getRcpWay2()).isEqualTo("끓이기");
+        assertThat(recipe.getScore()).isEqualTo(0.92);
+        assertThat(recipe.getMatchReason()).isEqualTo("김치, 돼지고기 포함");
+        assertThat(recipe.getIngredients()).extracting(RecipeSearchResultDTO.RecipeIngredientDTO::getIngredientId)
+                .containsExactly(101L, 55L);
+        assertThat(recipe.getIngredients()).extracting(RecipeSearchResultDTO.RecipeIngredientDTO::isMainIngredient)
+                .containsExactly(true, false);
+
+        IngredientSearchResultDTO ingredient = response.getIngredients().get(0);
+        assertThat(ingredient.getIngredientId()).isEqualTo(101L);
+        assertThat(ingredient.getMatchReason()).isEqualTo("이름 일치");
+    }
+
+    @Test
+    @DisplayName("클라이언트 응답은 기존 camelCase 필드명 그대로 직렬화")
+    void writesCamelCase() throws IOException {
+        // given
+        SemanticSearchResponseDTO response = readFixture();
+
+        // when
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(response));
+
+        // then
+        assertThat(json.has("totalMatches")).isTrue();
+        assertThat(json.has("total_matches")).isFalse();
+        JsonNode recipe = json.get("recipes").get(0);
+        assertThat(recipe.get("rcpSeq").asText()).isEqualTo("28");
+        assertThat(recipe.has("rcp_seq")).isFalse();
+        assertThat(recipe.get("matchReason").asText()).isEqualTo("김치, 돼지고기 포함");
+        JsonNode recipeIngredient = recipe.get("ingredients").get(0);
+        assertThat(recipeIngredient.get("ingredientId").asLong()).isEqualTo(101L);
+        assertThat(recipeIngredient.get("mainIngredient").asBoolean()).isTrue();
+        assertThat(recipeIngredient.has("is_main_ingredient")).isFalse();
+    }
+
+    private SemanticSearchResponseDTO readFixture() throws IOException {
+        try (InputStream body = getClass().getResourceAsStream("/fixtures/ai-semantic-search-response.json")) {
+            return objectMapper.readValue(body, SemanticSearchResponseDTO.class);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.ohgiraffers.refrigegobackend.search.service;
+
+import com.ohgiraffers.refrigegobackend.ai.client.AiServerHealthMonitor;
+import com.ohgiraffers.refrigegobackend.search.client.AiServerClient;
+import com.ohgiraffers.refrigegobackend.search.dto.request.SemanticSearchRequestDTO;
+import com.ohgiraffers.refrigegobackend.search.dto.response.RecipeSearchResultDTO;
+import com.ohgiraffers.refrigegobackend.search.dto.response.SemanticSearchResponseDTO;
+import com.ohgiraffers.refrigegobackend.search.infrastructure.cache.SearchResultCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private AiServerClient aiServerClient;
+
+    @Mock
+    private AiServerHealthMonitor aiServerHealthMonitor;
+
+    private SearchResultCache searchResultCache;
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchResultCache = new SearchResultCache(100, 600, 100);
+        searchService = new SearchService(aiServerClient, aiServerHealthMonitor, searchResultCache);
+    }
+
+    @Test
+    @DisplayName("공백/오타만 다른 검색어는 캐시된 결과를 재사용하고 AI 검색은 한 번만 호출")
+    void performSemanticSearch_ReusesCacheForNormalizedQuery() {
+        // given
+        given(aiServerClient.trySpellCheck("김치찌게")).willReturn(Optional.of("김치찌개"));
+        given(aiServerHealthMonitor.allowRequest()).willReturn(true);
+        given(aiServerClient.semanticSearch(any(SemanticSearchRequestDTO.class))).willReturn(
+                new SemanticSearchResponseDTO(List.of(new RecipeSearchResultDTO()), Collections.emptyList(), 1, 0.1));
+
+        // when
+        SemanticSearchResponseDTO first = searchService.performSemanticSearch("  김치찌게 ", "all", 10);
+        SemanticSearchResponseDTO second = searchService.performSemanticSearch("김치찌개", "all", 10);
+        SemanticSearchResponseDTO third = searchService.performSemanticSearch("김치찌게", "all", 10);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(third).isSameAs(first);
+        verify(aiServerClient, times(1)).semanticSearch(any(SemanticSearchRequestDTO.class));
+        assertThat(searchResultCache.getStats().get("semantic:all").getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("AI 서버 실패로 빈 결과가 오면 캐시하지 않음")
+    void performSemanticSearch_DoesNotCacheEmptyResult() {
+        // given
+        given(aiServerClient.trySpellCheck("계란")).willReturn(Optional.of("계란"));
+        given(aiServerHealthMonitor.allowRequest()).willReturn(true);
+        given(aiServerClient.semanticSearch(any(SemanticSearchRequestDTO.class))).willReturn(
+                new SemanticSearchResponseDTO(Collections.emptyList(), Collections.emptyList(), 0, 0.0));
+
+        // when
+        searchService.performSemanticSearch("계란", "recipe", 10);
+        searchService.performSemanticSearch("계란", "recipe", 10);
+
+        // then
+        verify(aiServerClient, times(2)).semanticSearch(any(SemanticSearchRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("AI 서버에는 입력한 검색어(앞뒤 공백만 제거)를 보내고, 정규화 검색어는 캐시 키로만 사용")
+    void performSemanticSearch_SendsTrimmedOriginalQuery() {
+        // given
+        given(aiServerClient.trySpellCheck("Kimchi  Stew")).willReturn(Optional.of("Kimchi  Stew"));
+        given(aiServerHealthMonitor.allowRequest()).willReturn(true);
+        given(aiServerClient.semanticSearch(any(SemanticSearchRequestDTO.class))).willReturn(
+                new SemanticSearchResponseDTO(List.of(new RecipeSearchResultDTO()), Collections.emptyList(), 1, 0.1));
+
+        // when
+        searchService.performSemanticSearch("  Kimchi  Stew ", "all", 10);
+        SemanticSearchResponseDTO cached = searchService.performSemanticSearch("kimchi stew", "all", 10);
+
+        // then
+        ArgumentCaptor<SemanticSearchRequestDTO> request = ArgumentCaptor.forClass(SemanticSearchRequestDTO.class);
+        verify(aiServerClient).semanticSearch(request.capture());
+        assertThat(request.getValue().getQuery()).isEqualTo("Kimchi  Stew");
+        assertThat(cached.getTotalMatches()).isEqualTo(1);
+        assertThat(searchResultCache.getCorrection("kimchi stew")).isEqualTo("Kimchi  Stew");
+    }
+
+    @Test
+    @DisplayName("오타 교정이 실패하면 교정 결과를 캐시하지 않고 다음 요청에서 다시 교정")
+    void performSemanticSearch_DoesNotCacheFailedCorrection() {
+        // given - 첫 요청은 교정 실패(AI 서버 차단/오류), 다음 요청은 성공
+        given(aiServerClient.trySpellCheck("김치찌게"))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of("김치찌개"));
+        given(aiServerHealthMonitor.allowRequest()).willReturn(true);
+        given(aiServerClient.semanticSearch(any(SemanticSearchRequestDTO.class))).willReturn(
+                new SemanticSearchResponseDTO(Collections.emptyList(), Collections.emptyList(), 0, 0.0));
+
+        // when
+        searchService.performSemanticSearch("김치찌게", "all", 10);
+
+        // then
+        assertThat(searchResultCache.getCorrection("김치찌게")).isNull();
+
+        searchService.performSemanticSearch("김치찌게", "all", 10);
+        assertThat(searchResultCache.getCorrection("김치찌게")).isEqualTo("김치찌개");
+        ArgumentCaptor<SemanticSearchRequestDTO> request = ArgumentCaptor.forClass(SemanticSearchRequestDTO.class);
+        verify(aiServerClient, times(2)).semanticSearch(request.capture());
+        assertThat(request.getAllValues())
+                .extracting(SemanticSearchRequestDTO::getQuery)
+                .containsExactly("김치찌게", "김치찌개");
+    }
+}